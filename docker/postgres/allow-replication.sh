@@ -0,0 +1,5 @@
+#!/bin/bash
+# Дозволяє фізичну реплікацію з інших контейнерів (postgres-replica робить pg_basebackup від імені enumdemo).
+# Виконується лише при ініціалізації порожнього тому pgdata.
+set -e
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
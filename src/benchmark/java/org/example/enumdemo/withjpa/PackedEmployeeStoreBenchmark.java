@@ -0,0 +1,104 @@
+package org.example.enumdemo.withjpa;
+
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Бенчмарк PackedEmployeeStore проти List<Employee>.
+ *
+ * ✅ Міряємо:
+ *   1. пам'ять на працівника (JOL GraphLayout: масив/список + усі досяжні об'єкти, на вибірці SAMPLE записів)
+ *   2. сканування: count(role, employmentType) — поля об'єктів проти порівняння старших біт long
+ *   3. повний обхід з розпакуванням (сума id) — forEach visitor проти ітерації списку
+ *
+ * 🔹 Аргументи: [кількість працівників, 10 млн]. Для 10 млн List<Employee> потребує ~0.5 ГБ heap (-Xmx1g).
+ */
+public class PackedEmployeeStoreBenchmark {
+
+    private static final int SAMPLE = 100_000;
+    private static final int REPEATS = 20;
+
+    public static void main(String[] args) {
+        int employees = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+
+        System.out.println("1. Memory (JOL, " + SAMPLE + " employees):");
+        long listBytes = GraphLayout.parseInstance(fillList(SAMPLE)).totalSize();
+        long packedBytes = GraphLayout.parseInstance(fillStore(SAMPLE)).totalSize();
+        System.out.printf("   List<Employee>      : %5.1f bytes/employee%n", listBytes / (double) SAMPLE);
+        System.out.printf("   PackedEmployeeStore : %5.1f bytes/employee%n", packedBytes / (double) SAMPLE);
+        System.out.printf("   for %,d employees: %,d MB vs %,d MB%n", employees,
+                listBytes * employees / SAMPLE >> 20, packedBytes * employees / SAMPLE >> 20);
+
+        List<Employee> list = fillList(employees);
+        PackedEmployeeStore store = fillStore(employees);
+        for (int pass = 1; pass <= 2; pass++) {
+            System.out.printf("Pass %d (%,d employees):%n", pass, employees);
+            scan(list, store, employees);
+        }
+    }
+
+    private static List<Employee> fillList(int n) {
+        Role[] roles = Role.values();
+        EmploymentType[] types = EmploymentType.values();
+        List<Employee> list = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            list.add(new Employee((long) i + 1, roles[i % roles.length], types[(i / roles.length) % types.length]));
+        }
+        return list;
+    }
+
+    private static PackedEmployeeStore fillStore(int n) {
+        Role[] roles = Role.values();
+        EmploymentType[] types = EmploymentType.values();
+        PackedEmployeeStore store = new PackedEmployeeStore(n);
+        for (int i = 0; i < n; i++) {
+            store.add((long) i + 1, roles[i % roles.length], types[(i / roles.length) % types.length]);
+        }
+        return store;
+    }
+
+    private static void scan(List<Employee> list, PackedEmployeeStore store, int employees) {
+        long start = System.nanoTime();
+        int listCount = 0;
+        for (int r = 0; r < REPEATS; r++) {
+            listCount = 0;
+            for (Employee employee : list) {
+                if (employee.getRole() == Role.DRIVER && employee.getEmploymentType() == EmploymentType.CONTRACTOR) {
+                    listCount++;
+                }
+            }
+        }
+        long listScan = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        int packedCount = 0;
+        for (int r = 0; r < REPEATS; r++) {
+            packedCount = store.count(Role.DRIVER, EmploymentType.CONTRACTOR);
+        }
+        long packedScan = System.nanoTime() - start;
+        if (listCount != packedCount) {
+            throw new IllegalStateException(listCount + " != " + packedCount);
+        }
+        System.out.printf("  2. count(DRIVER, CONTRACTOR): list %6.2f ns/employee, packed %6.2f ns/employee%n",
+                listScan / (double) REPEATS / employees, packedScan / (double) REPEATS / employees);
+
+        start = System.nanoTime();
+        long listSum = 0;
+        for (Employee employee : list) {
+            listSum += employee.getId() + employee.getRole().ordinal() + employee.getEmploymentType().ordinal();
+        }
+        long listWalk = System.nanoTime() - start;
+
+        long[] packedSum = new long[1];
+        start = System.nanoTime();
+        store.forEach((id, role, type) -> packedSum[0] += id + role.ordinal() + type.ordinal());
+        long packedWalk = System.nanoTime() - start;
+        if (listSum != packedSum[0]) {
+            throw new IllegalStateException(listSum + " != " + packedSum[0]);
+        }
+        System.out.printf("  3. full walk with unpacking : list %6.2f ns/employee, packed %6.2f ns/employee%n",
+                listWalk / (double) employees, packedWalk / (double) employees);
+    }
+}
@@ -0,0 +1,128 @@
+package org.example.enumdemo.cache;
+
+import java.util.Arrays;
+
+/**
+ * Обмежений кеш long → double без boxing: відкрита адресація в наборах по WAYS слотів + CLOCK-витіснення.
+ *
+ * ✅ Ідея:
+ *   - ключ — long (наприклад, запаковані коди enum-ів + відстань), значення — double
+ *   - хеш ключа вибирає набір (set) із WAYS сусідніх слотів; пошук — лінійний прохід по набору
+ *   - якщо набір повний, CLOCK: стрілка набору обходить слоти, знімає біт "використовувався"
+ *     і витісняє перший слот без нього → часто вживані ключі живуть довше
+ *   - усе в примітивних масивах: жодних Entry-об'єктів, Long чи Double
+ *
+ * 🔹 get() повертає Double.NaN, якщо ключа немає (значення NaN кешувати не можна).
+ * ⚠️ Не потокобезпечний: доступ лише під зовнішнім локом (див. смуги в TripPriceCache).
+ */
+public final class PackedLongDoubleCache {
+
+    public static final int WAYS = 8;
+    // 🔹 більша ємність після округлення до степеня двійки вже не влазить в int
+    public static final int MAX_CAPACITY = 1 << 30;
+
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final long[] keys;
+    private final double[] values;
+    private final boolean[] referenced;
+    private final byte[] hands;
+    private final int setMask;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * @param capacity бажана кількість записів (1..MAX_CAPACITY); округлюється вгору до степеня двійки (мінімум WAYS)
+     */
+    public PackedLongDoubleCache(int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY + ": " + capacity);
+        }
+        int sets = Math.max(1, Integer.highestOneBit(Math.max(capacity, WAYS) - 1) * 2 / WAYS);
+        this.keys = new long[sets * WAYS];
+        this.values = new double[sets * WAYS];
+        this.referenced = new boolean[sets * WAYS];
+        this.hands = new byte[sets];
+        this.setMask = sets - 1;
+        Arrays.fill(keys, EMPTY);
+    }
+
+    public double get(long key) {
+        int base = setOf(key) * WAYS;
+        for (int i = base; i < base + WAYS; i++) {
+            if (keys[i] == key) {
+                referenced[i] = true;
+                hits++;
+                return values[i];
+            }
+        }
+        misses++;
+        return Double.NaN;
+    }
+
+    public void put(long key, double value) {
+        if (key == EMPTY || Double.isNaN(value)) {
+            throw new IllegalArgumentException("Key " + key + " / value " + value + " cannot be cached");
+        }
+        int set = setOf(key);
+        int base = set * WAYS;
+        for (int i = base; i < base + WAYS; i++) {
+            if (keys[i] == key || keys[i] == EMPTY) {
+                keys[i] = key;
+                values[i] = value;
+                referenced[i] = true;
+                return;
+            }
+        }
+        // набір повний → CLOCK: шукаємо слот без біта "використовувався"
+        int hand = hands[set];
+        while (referenced[base + hand]) {
+            referenced[base + hand] = false;
+            hand = (hand + 1) & (WAYS - 1);
+        }
+        keys[base + hand] = key;
+        values[base + hand] = value;
+        referenced[base + hand] = false;
+        hands[set] = (byte) ((hand + 1) & (WAYS - 1));
+        evictions++;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        Arrays.fill(referenced, false);
+    }
+
+    public int capacity() {
+        return keys.length;
+    }
+
+    public long hits() {
+        return hits;
+    }
+
+    public long misses() {
+        return misses;
+    }
+
+    public long evictions() {
+        return evictions;
+    }
+
+    public double hitRatio() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    // 🔹 перемішування бітів (fmix64 з MurmurHash3), щоб сусідні ключі не потрапляли в один набір
+    private int setOf(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h & setMask;
+    }
+}
@@ -0,0 +1,171 @@
+package org.example.enumdemo.cdc;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Декодер повідомлень вбудованого плагіна логічної реплікації pgoutput (proto_version 1).
+ *
+ * ✅ Розбираємо лише те, що потрібно для потоку змін рядків:
+ *   B (begin), C (commit), R (relation — опис колонок), I / U / D (insert / update / delete), T (truncate)
+ *   решта (origin, type, message) пропускається
+ *
+ * 🔹 Значення колонок — у текстовому форматі Postgres (як з psql): "42", "DRIVER"; NULL → null.
+ * 🔹 Relation приходить перед першою зміною таблиці в кожній сесії (і після ALTER) → кешуємо по relid.
+ * ⚠️ Для UPDATE / DELETE старі значення не-ключових колонок є лише з REPLICA IDENTITY FULL;
+ *    інакше oldValues = null (UPDATE) або тільки ключ (DELETE).
+ */
+public final class PgOutputDecoder {
+
+    public record Relation(int id, String namespace, String name, String[] columns) {
+
+        public int column(String column) {
+            for (int i = 0; i < columns.length; i++) {
+                if (columns[i].equals(column)) {
+                    return i;
+                }
+            }
+            throw new IllegalArgumentException("Column " + column + " not found in " + namespace + "." + name);
+        }
+    }
+
+    public interface Handler {
+
+        default void begin(long finalLsn, int xid) {
+        }
+
+        /**
+         * @param endLsn LSN після коміту — саме його підтверджуємо серверу як оброблений
+         * @param commitTimeMicros час коміту в мкс від 2000-01-01 (epoch Postgres)
+         */
+        default void commit(long endLsn, long commitTimeMicros) {
+        }
+
+        void insert(Relation relation, String[] newValues);
+
+        void update(Relation relation, String[] oldValues, String[] newValues);
+
+        void delete(Relation relation, String[] oldValues);
+
+        /**
+         * TRUNCATE не породжує DELETE на кожен рядок: таблиці з relations очищено цілком.
+         */
+        default void truncate(List<Relation> relations) {
+        }
+    }
+
+    // 🔹 2000-01-01T00:00:00Z у мкс від Unix epoch
+    public static final long POSTGRES_EPOCH_MICROS = 946_684_800_000_000L;
+
+    private final Map<Integer, Relation> relations = new HashMap<>();
+
+    public void decode(ByteBuffer buffer, Handler handler) {
+        byte type = buffer.get();
+        switch (type) {
+            case 'B' -> {
+                long finalLsn = buffer.getLong();
+                buffer.getLong(); // commit timestamp
+                handler.begin(finalLsn, buffer.getInt());
+            }
+            case 'C' -> {
+                buffer.get(); // flags
+                buffer.getLong(); // commit LSN
+                long endLsn = buffer.getLong();
+                handler.commit(endLsn, buffer.getLong());
+            }
+            case 'R' -> relation(buffer);
+            case 'I' -> {
+                Relation relation = relation(buffer.getInt());
+                expect(buffer.get(), 'N');
+                handler.insert(relation, tuple(buffer, null));
+            }
+            case 'U' -> {
+                Relation relation = relation(buffer.getInt());
+                byte kind = buffer.get();
+                String[] oldValues = null;
+                if (kind == 'K' || kind == 'O') {
+                    oldValues = tuple(buffer, null);
+                    kind = buffer.get();
+                }
+                expect(kind, 'N');
+                handler.update(relation, oldValues, tuple(buffer, oldValues));
+            }
+            case 'D' -> {
+                Relation relation = relation(buffer.getInt());
+                buffer.get(); // 'K' або 'O'
+                handler.delete(relation, tuple(buffer, null));
+            }
+            case 'T' -> {
+                Relation[] truncated = new Relation[buffer.getInt()];
+                buffer.get(); // options: 1 = CASCADE, 2 = RESTART IDENTITY
+                for (int i = 0; i < truncated.length; i++) {
+                    truncated[i] = relation(buffer.getInt());
+                }
+                handler.truncate(List.of(truncated));
+            }
+            default -> {
+                // O (origin), Y (type), M (message) — не потрібні
+            }
+        }
+    }
+
+    private void relation(ByteBuffer buffer) {
+        int id = buffer.getInt();
+        String namespace = string(buffer);
+        String name = string(buffer);
+        buffer.get(); // replica identity
+        String[] columns = new String[buffer.getShort()];
+        for (int i = 0; i < columns.length; i++) {
+            buffer.get(); // flags (1 = частина ключа)
+            columns[i] = string(buffer);
+            buffer.getInt(); // type oid
+            buffer.getInt(); // typmod
+        }
+        relations.put(id, new Relation(id, namespace, name, columns));
+    }
+
+    private Relation relation(int id) {
+        Relation relation = relations.get(id);
+        if (relation == null) {
+            throw new IllegalStateException("Change for unknown relation " + id + " (Relation message missing)");
+        }
+        return relation;
+    }
+
+    // 🔹 'u' (незмінене TOAST-значення) беремо зі старого рядка, якщо він є
+    private static String[] tuple(ByteBuffer buffer, String[] previous) {
+        String[] values = new String[buffer.getShort()];
+        for (int i = 0; i < values.length; i++) {
+            byte kind = buffer.get();
+            switch (kind) {
+                case 'n' -> values[i] = null;
+                case 'u' -> values[i] = previous != null ? previous[i] : null;
+                case 't' -> {
+                    int length = buffer.getInt();
+                    values[i] = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                            StandardCharsets.UTF_8);
+                    buffer.position(buffer.position() + length);
+                }
+                default -> throw new IllegalStateException("Unsupported tuple value kind: " + (char) kind);
+            }
+        }
+        return values;
+    }
+
+    private static String string(ByteBuffer buffer) {
+        int start = buffer.position();
+        while (buffer.get() != 0) {
+            // до нуль-термінатора
+        }
+        return new String(buffer.array(), buffer.arrayOffset() + start, buffer.position() - start - 1, StandardCharsets.UTF_8);
+    }
+
+    private static void expect(byte actual, char expected) {
+        if (actual != expected) {
+            throw new IllegalStateException("Expected tuple marker " + expected + " but got " + (char) actual);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.enumdemo.config;
+
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+
+import java.util.Properties;
+
+/**
+ * spring.datasource.hikari.data-source-properties (prepareThreshold, кеш statements, reWriteBatchedInserts…)
+ * для пулів, які створюються вручну — шардів і primary / репліки.
+ *
+ * 🔹 Spring Boot застосовує їх лише до свого DataSource-біна; без цього профіль prod не діяв би на
+ *    enumdemo.sharding / enumdemo.replica.
+ */
+public final class HikariDataSourceProperties {
+
+    public static final String PREFIX = "spring.datasource.hikari.data-source-properties";
+
+    private HikariDataSourceProperties() {
+    }
+
+    public static Properties from(Environment environment) {
+        Properties properties = new Properties();
+        Binder.get(environment)
+                .bind(PREFIX, Bindable.mapOf(String.class, String.class))
+                .ifBound(properties::putAll);
+        return properties;
+    }
+}
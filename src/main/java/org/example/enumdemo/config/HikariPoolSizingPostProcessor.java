@@ -0,0 +1,46 @@
+package org.example.enumdemo.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Розмір пулу Hikari з кількості ядер замість сталого maximum-pool-size (профіль prod).
+ *
+ * ✅ connections = cores × connections-per-core (за замовчуванням 2), мінімум 2;
+ *    minimum-idle = той самий розмір → пул фіксованого розміру, без створення з'єднань під піком.
+ * 🔹 cores = enumdemo.pool.cores або, якщо 0, availableProcessors() цього процесу.
+ *    Правильніше задавати ядра БД: саме вони обмежують, скільки запитів реально виконується паралельно.
+ * 🔹 Спрацьовує до ініціалізації біна (пул ще не стартував) і до обгортки SqlLoggingDataSourcePostProcessor.
+ * ⚠️ Пули шардів / репліки (enumdemo.sharding, enumdemo.replica) не є бінами → їх розмір задається їхнім pool-size.
+ */
+@Component
+@ConditionalOnProperty(name = "enumdemo.pool.size-from-cores", havingValue = "true")
+public class HikariPoolSizingPostProcessor implements BeanPostProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(HikariPoolSizingPostProcessor.class);
+
+    private final int cores;
+    private final int connectionsPerCore;
+
+    public HikariPoolSizingPostProcessor(@Value("${enumdemo.pool.cores:0}") int cores,
+                                         @Value("${enumdemo.pool.connections-per-core:2}") int connectionsPerCore) {
+        this.cores = cores > 0 ? cores : Runtime.getRuntime().availableProcessors();
+        this.connectionsPerCore = connectionsPerCore;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource hikari) {
+            int size = Math.max(2, cores * connectionsPerCore);
+            hikari.setMaximumPoolSize(size);
+            hikari.setMinimumIdle(size);
+            log.info("Hikari pool {} sized to {} connections ({} cores × {})", beanName, size, cores, connectionsPerCore);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.enumdemo.config;
+
+import java.util.Properties;
+
+/**
+ * Отримує нову версію файлу цін після кожної зміни.
+ *
+ * 🔹 prepare() лише перевіряє конфіг і повертає чернетку знімка зі своєю частиною цін
+ *    (або кидає IllegalArgumentException). Публікує PricingConfigWatcher — усі частини разом одним PricingSnapshot
+ *    і лише коли всі слухачі успішно підготувались, тож тарифи і знижки ніколи не застосовуються "наполовину".
+ */
+public interface PricingConfigListener {
+
+    PricingSnapshot prepare(Properties properties, PricingSnapshot draft);
+}
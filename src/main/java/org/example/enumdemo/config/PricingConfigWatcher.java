@@ -0,0 +1,43 @@
+package org.example.enumdemo.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Стежить за файлом цін (enumdemo.pricing.config) і роздає його PricingConfigListener-ам.
+ *
+ * 🔹 Перевірка — раз на enumdemo.pricing.reload-interval мс (PropertiesFileWatcher); читання файлу лише при зміні.
+ * 🔹 Якщо файл не задано → працюють значення з конструкторів enum.
+ * 🔹 Усі частини цін публікуються разом одним PricingSnapshot.
+ * 🔹 Помилка в конфігу → попередження в лог (один раз на версію файлу), старі ціни лишаються.
+ */
+@Component
+public class PricingConfigWatcher {
+
+    private final List<PricingConfigListener> listeners;
+    private final PropertiesFileWatcher watcher;
+
+    public PricingConfigWatcher(@Value("${enumdemo.pricing.config:}") String file,
+                                List<PricingConfigListener> listeners) {
+        this.listeners = listeners;
+        this.watcher = new PropertiesFileWatcher("Pricing config", file, this::apply);
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${enumdemo.pricing.reload-interval:5000}")
+    public void reloadIfChanged() {
+        watcher.reloadIfChanged();
+    }
+
+    private void apply(Properties properties) {
+        // 🔹 частина, якої немає у файлі, — значення за замовчуванням (як і окремий відсутній ключ)
+        PricingSnapshot draft = PricingSnapshot.defaults();
+        for (PricingConfigListener listener : listeners) {
+            draft = listener.prepare(properties, draft);
+        }
+        PricingSnapshot.publish(draft);
+    }
+}
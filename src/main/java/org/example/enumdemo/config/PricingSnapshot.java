@@ -0,0 +1,65 @@
+package org.example.enumdemo.config;
+
+import org.example.enumdemo.strategy.DiscountTable;
+import org.example.enumdemo.withmethods.TariffTable;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Усі частини цін (TariffTable, DiscountTable) одним незмінним знімком за одним volatile-посиланням.
+ *
+ * ✅ Перезавантаження файлу цін публікує всі частини одним записом → читач, який взяв current() один раз,
+ *    ніколи не побачить нові тарифи зі старими знижками.
+ * 🔹 Частини — типізовані final-поля: читання = volatile read знімка + final-поле + звертання до масиву,
+ *    без пошуку в мапі і без cast.
+ * ⚠️ Коду, якому потрібні кілька частин разом (ціна зі знижкою), слід брати current() один раз
+ *    і читати частини з нього, а не викликати TariffTable.current() і DiscountTable.current() окремо.
+ */
+public final class PricingSnapshot {
+
+    private static final PricingSnapshot DEFAULTS = new PricingSnapshot(TariffTable.defaults(), DiscountTable.defaults());
+
+    private static volatile PricingSnapshot current = DEFAULTS;
+
+    private final TariffTable tariffs;
+    private final DiscountTable discounts;
+
+    public PricingSnapshot(TariffTable tariffs, DiscountTable discounts) {
+        this.tariffs = tariffs;
+        this.discounts = discounts;
+    }
+
+    // 🔹 значення з конструкторів enum — основа для кожної нової версії файлу цін
+    public static PricingSnapshot defaults() {
+        return DEFAULTS;
+    }
+
+    public static PricingSnapshot current() {
+        return current;
+    }
+
+    public static void publish(PricingSnapshot snapshot) {
+        current = snapshot;
+    }
+
+    // 🔹 заміна однієї частини (бенчмарки, ручне оновлення); synchronized — щоб паралельні заміни не губили одна одну
+    public static synchronized void update(UnaryOperator<PricingSnapshot> change) {
+        current = change.apply(current);
+    }
+
+    public TariffTable tariffs() {
+        return tariffs;
+    }
+
+    public DiscountTable discounts() {
+        return discounts;
+    }
+
+    public PricingSnapshot withTariffs(TariffTable tariffs) {
+        return new PricingSnapshot(tariffs, discounts);
+    }
+
+    public PricingSnapshot withDiscounts(DiscountTable discounts) {
+        return new PricingSnapshot(tariffs, discounts);
+    }
+}
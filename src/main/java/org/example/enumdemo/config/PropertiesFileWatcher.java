@@ -0,0 +1,67 @@
+package org.example.enumdemo.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Properties;
+import java.util.function.Consumer;
+
+/**
+ * Перечитує один .properties-файл при зміні і віддає його обробнику (apply).
+ *
+ * 🔹 Спільна логіка для всіх конфіг-файлів (ціни, права ролей, ...): бін-власник лише задає файл,
+ *    обробник і розклад (@Scheduled → reloadIfChanged()).
+ * 🔹 Зміна визначається по lastModified; файл читається лише коли mtime змінився.
+ * 🔹 apply() кидає IllegalArgumentException → попередження в лог один раз на версію файлу (mtime),
+ *    попередня конфігурація лишається в силі.
+ * 🔹 Файл не задано або його немає → нічого не робить.
+ */
+public final class PropertiesFileWatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(PropertiesFileWatcher.class);
+
+    private final String name;
+    private final Path file;
+    private final Consumer<Properties> apply;
+    private FileTime lastModified;
+    private FileTime lastFailed;
+
+    /**
+     * @param name назва конфігу для логів ("Pricing config", "Role permissions", ...)
+     * @param file шлях до файлу; порожній рядок → файл не задано
+     */
+    public PropertiesFileWatcher(String name, String file, Consumer<Properties> apply) {
+        this.name = name;
+        this.file = file.isBlank() ? null : Path.of(file);
+        this.apply = apply;
+    }
+
+    public synchronized void reloadIfChanged() {
+        if (file == null || !Files.exists(file)) {
+            return;
+        }
+        FileTime modified = null;
+        try {
+            modified = Files.getLastModifiedTime(file);
+            if (modified.equals(lastModified) || modified.equals(lastFailed)) {
+                return;
+            }
+            Properties properties = new Properties();
+            try (InputStream in = Files.newInputStream(file)) {
+                properties.load(in);
+            }
+            apply.accept(properties);
+            lastModified = modified;
+            log.info("{} reloaded from {}", name, file);
+        } catch (IOException | IllegalArgumentException e) {
+            // 🔹 ту саму версію файлу більше не перечитуємо → одне попередження, а не кожні reload-interval мс
+            lastFailed = modified;
+            log.warn("{} {} was not applied: {}", name, file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.enumdemo.csv;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Пошук enum-константи по байтах поля (наприклад, у memory-mapped CSV) без створення String.
+ *
+ * ✅ Ідея:
+ *   - імена констант заздалегідь кодуємо в UTF-8 byte[] і групуємо за довжиною
+ *   - поле порівнюємо байт-у-байт лише з кандидатами тієї ж довжини
+ *   - результат = код константи (ordinal), -1 якщо нічого не підійшло
+ *
+ * 🔹 Порівняння точне (з урахуванням регістру), як у Enum.valueOf().
+ */
+public final class EnumByteMatcher {
+
+    private final String[] names;
+    // byLength[len] = коди констант з іменем такої довжини
+    private final int[][] byLength;
+    private final byte[][] encoded;
+
+    private EnumByteMatcher(String[] names) {
+        this.names = names.clone();
+        this.encoded = new byte[names.length][];
+        int maxLength = 0;
+        for (int i = 0; i < names.length; i++) {
+            encoded[i] = names[i].getBytes(StandardCharsets.UTF_8);
+            maxLength = Math.max(maxLength, encoded[i].length);
+        }
+        int[] counts = new int[maxLength + 1];
+        for (byte[] name : encoded) {
+            counts[name.length]++;
+        }
+        this.byLength = new int[maxLength + 1][];
+        for (int len = 0; len <= maxLength; len++) {
+            byLength[len] = new int[counts[len]];
+        }
+        int[] filled = new int[maxLength + 1];
+        for (int code = 0; code < encoded.length; code++) {
+            int len = encoded[code].length;
+            byLength[len][filled[len]++] = code;
+        }
+    }
+
+    public static <E extends Enum<E>> EnumByteMatcher of(Class<E> enumType) {
+        E[] constants = enumType.getEnumConstants();
+        String[] names = new String[constants.length];
+        for (E constant : constants) {
+            names[constant.ordinal()] = constant.name();
+        }
+        return new EnumByteMatcher(names);
+    }
+
+    // 🔹 names[i] = ім'я константи з кодом i
+    public static EnumByteMatcher ofNames(String... names) {
+        return new EnumByteMatcher(names);
+    }
+
+    /**
+     * @return код константи для байтів buffer[from, to) або -1
+     */
+    public int match(ByteBuffer buffer, int from, int to) {
+        int len = to - from;
+        if (len <= 0 || len >= byLength.length) {
+            return -1;
+        }
+        for (int code : byLength[len]) {
+            byte[] candidate = encoded[code];
+            int i = 0;
+            while (i < len && buffer.get(from + i) == candidate[i]) {
+                i++;
+            }
+            if (i == len) {
+                return code;
+            }
+        }
+        return -1;
+    }
+
+    public String name(int code) {
+        return names[code];
+    }
+
+    public int size() {
+        return names.length;
+    }
+}
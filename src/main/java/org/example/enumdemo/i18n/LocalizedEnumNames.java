@@ -0,0 +1,115 @@
+package org.example.enumdemo.i18n;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Локалізовані display-назви констант enum: для кожної Locale — готовий String[] з індексом = ordinal.
+ *
+ * ✅ Замість MessageSource.getMessage(...) на кожне поле кожної відповіді
+ *    (пошук бандла, ланцюжок fallback-локалей, пошук ключа, MessageFormat):
+ *   - таблиці для PRELOADED локалей будуються один раз при створенні (на старті)
+ *   - displayName(constant, locale) = один get у ConcurrentHashMap + читання масиву
+ *   - будь-яка інша Locale резолвиться до свого бандла (той самий fallback, що й у ResourceBundle);
+ *     таблиця будується одна на бандл (en-US, en-GB, fr → базовий messages.properties — одна таблиця)
+ *
+ * 🔹 Кеш обмежений: таблиць не більше, ніж файлів messages*.properties; швидкий шлях "Locale запиту → таблиця"
+ *    пам'ятає не більше MAX_ALIASES локалей, решта щоразу резолвиться через ResourceBundle (він має власний кеш).
+ * 🔹 find(value) — зворотний пошук по всіх побудованих таблицях: локалізована назва з відповіді → константа
+ *    (щоб JSON, серіалізований будь-якою мовою, десеріалізувався назад).
+ *
+ * 🔹 Ключі в messages*.properties: enum.<SimpleName>.<CONSTANT>, наприклад enum.EmploymentType.FULL_TIME=Full time.
+ * 🔹 Немає ключа ні в бандлі локалі, ні в базовому messages.properties → fallback-функція (зазвичай англійський displayName).
+ */
+public final class LocalizedEnumNames<E extends Enum<E>> {
+
+    public static final String BUNDLE = "messages";
+
+    // 🔹 бандли, що лежать у resources; для них таблиці будуються одразу
+    public static final List<Locale> PRELOADED = List.of(Locale.ENGLISH, Locale.forLanguageTag("uk"), Locale.GERMAN);
+
+    private static final int MAX_ALIASES = 64;
+
+    private final E[] constants;
+    private final String keyPrefix;
+    private final Function<? super E, String> fallback;
+    // Locale бандла (Locale.ROOT — базовий messages.properties) → таблиця
+    private final ConcurrentHashMap<Locale, String[]> tables = new ConcurrentHashMap<>();
+    // Locale запиту → таблиця її бандла (швидкий шлях, обмежений MAX_ALIASES)
+    private final ConcurrentHashMap<Locale, String[]> aliases = new ConcurrentHashMap<>();
+
+    private LocalizedEnumNames(Class<E> type, Function<? super E, String> fallback) {
+        this.constants = type.getEnumConstants();
+        this.keyPrefix = "enum." + type.getSimpleName() + ".";
+        this.fallback = fallback;
+    }
+
+    public static <E extends Enum<E>> LocalizedEnumNames<E> load(Class<E> type, Function<? super E, String> fallback) {
+        LocalizedEnumNames<E> names = new LocalizedEnumNames<>(type, fallback);
+        for (Locale locale : PRELOADED) {
+            names.table(locale);
+        }
+        return names;
+    }
+
+    public String displayName(E constant, Locale locale) {
+        return table(locale)[constant.ordinal()];
+    }
+
+    /**
+     * Уся таблиця для локалі (індекс = ordinal); масив спільний — тільки для читання.
+     */
+    public String[] table(Locale locale) {
+        String[] table = aliases.get(locale);
+        if (table != null) {
+            return table;
+        }
+        ResourceBundle bundle = bundle(locale);
+        table = tables.computeIfAbsent(bundle != null ? bundle.getLocale() : Locale.ROOT, key -> build(bundle));
+        if (aliases.size() < MAX_ALIASES) {
+            aliases.putIfAbsent(locale, table);
+        }
+        return table;
+    }
+
+    /**
+     * Константа за локалізованою назвою будь-якою з уже побудованих мов (без урахування регістру).
+     *
+     * @return null, якщо такої назви немає
+     */
+    public E find(String value) {
+        for (String[] table : tables.values()) {
+            for (int i = 0; i < table.length; i++) {
+                if (table[i].equalsIgnoreCase(value)) {
+                    return constants[i];
+                }
+            }
+        }
+        return null;
+    }
+
+    private String[] build(ResourceBundle bundle) {
+        String[] table = new String[constants.length];
+        for (E constant : constants) {
+            String key = keyPrefix + constant.name();
+            table[constant.ordinal()] = bundle != null && bundle.containsKey(key)
+                    ? bundle.getString(key)
+                    : fallback.apply(constant);
+        }
+        return table;
+    }
+
+    // 🔹 без fallback на Locale.getDefault() JVM: невідома мова → базовий messages.properties, а не мова сервера
+    private static ResourceBundle bundle(Locale locale) {
+        try {
+            return ResourceBundle.getBundle(BUNDLE, locale, LocalizedEnumNames.class.getClassLoader(),
+                    ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_PROPERTIES));
+        } catch (MissingResourceException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package org.example.enumdemo.journal;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Append-only журнал доставок нотифікацій у memory-mapped сегментах.
+ *
+ * ✅ Запис фіксованого розміру (RECORD_SIZE = 24 байти, little-endian):
+ *   [0..8)   timestamp, мс від epoch (0 = слот ще порожній)
+ *   [8..16)  хеш повідомлення (hash(payload))
+ *   [16..18) код каналу (NotificationChannels.EMAIL / SMS / PUSH)
+ *   [18]     код DeliveryStatus
+ *   [19..24) вирівнювання
+ *
+ * 🔹 append() — це кілька put у MappedByteBuffer під коротким локом, без syscall-ів і без алокацій.
+ * 🔹 Сегмент = segmentRecords записів у файлі з ім'ям = номер першого запису;
+ *    заповнився → відкриваємо наступний (rolling), старий дочекається fsync у фоні.
+ * 🔹 Group commit: фоновий потік раз на flushIntervalMillis робить force() для всього, що накопичилось.
+ *    Кому потрібна довговічність конкретного запису — викликає sync(sequence) і чекає найближчого force(),
+ *    тож N потоків ділять один fsync замість N.
+ * 🔹 Timestamp пишеться останнім: після падіння процесу недописаний запис читач сприйме як кінець журналу.
+ */
+@Component
+@ConditionalOnProperty(name = "enumdemo.journal.enabled", havingValue = "true")
+public final class DeliveryJournal implements AutoCloseable {
+
+    static final int RECORD_SIZE = 24;
+    static final int TIMESTAMP_OFFSET = 0;
+    static final int HASH_OFFSET = 8;
+    static final int CHANNEL_OFFSET = 16;
+    static final int STATUS_OFFSET = 18;
+    static final String SEGMENT_SUFFIX = ".journal";
+
+    private final Path dir;
+    private final int segmentRecords;
+    private final long flushIntervalMillis;
+    private final Thread flusher;
+
+    // 🔹 стан писача — під локом this
+    private MappedByteBuffer segment;
+    private long segmentBase;
+    private int slot;
+    private final List<MappedByteBuffer> rolled = new ArrayList<>();
+
+    // 🔹 стан group commit — під durableLock
+    private final ReentrantLock durableLock = new ReentrantLock();
+    private final Condition flushRequested = durableLock.newCondition();
+    private final Condition flushed = durableLock.newCondition();
+    private boolean flushPending;
+    private volatile long durableSequence;
+    private volatile boolean closed;
+
+    public DeliveryJournal(@Value("${enumdemo.journal.dir:journal}") String dir,
+                           @Value("${enumdemo.journal.segment-records:1048576}") int segmentRecords,
+                           @Value("${enumdemo.journal.flush-interval-ms:10}") long flushIntervalMillis) {
+        if (segmentRecords < 1 || (long) segmentRecords * RECORD_SIZE > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("segmentRecords out of range: " + segmentRecords);
+        }
+        this.dir = Path.of(dir);
+        this.segmentRecords = segmentRecords;
+        this.flushIntervalMillis = flushIntervalMillis;
+        try {
+            Files.createDirectories(this.dir);
+            List<Path> segments = DeliveryJournalReader.segments(this.dir);
+            if (segments.isEmpty()) {
+                openSegment(0);
+            } else {
+                // 🔹 продовжуємо останній сегмент з першого порожнього слота
+                Path last = segments.get(segments.size() - 1);
+                openSegment(DeliveryJournalReader.baseOf(last));
+                while (slot < segmentRecords && segment.getLong(slot * RECORD_SIZE + TIMESTAMP_OFFSET) != 0) {
+                    slot++;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open delivery journal in " + dir, e);
+        }
+        this.durableSequence = segmentBase + slot;
+        this.flusher = new Thread(this::flushLoop, "delivery-journal-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * Дописує запис у журнал (без fsync).
+     *
+     * @return номер запису; sync(номер) чекає, поки він потрапить на диск
+     */
+    public long append(short channel, DeliveryStatus status, long messageHash) {
+        long timestamp = System.currentTimeMillis();
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("Journal is closed");
+            }
+            if (slot == segmentRecords) {
+                roll();
+            }
+            int offset = slot * RECORD_SIZE;
+            segment.putLong(offset + HASH_OFFSET, messageHash);
+            segment.putShort(offset + CHANNEL_OFFSET, channel);
+            segment.put(offset + STATUS_OFFSET, status.getCode());
+            segment.putLong(offset + TIMESTAMP_OFFSET, timestamp);
+            return segmentBase + slot++;
+        }
+    }
+
+    /**
+     * Блокує, поки запис sequence (і всі попередні) не буде скинуто на диск найближчим group commit.
+     */
+    public void sync(long sequence) throws InterruptedException {
+        durableLock.lock();
+        try {
+            while (durableSequence <= sequence) {
+                if (closed) {
+                    throw new IllegalStateException("Journal is closed");
+                }
+                // 🔹 будимо flusher раніше за таймер; усі, хто встиг дописатися, чекають того самого force()
+                flushPending = true;
+                flushRequested.signal();
+                flushed.await(flushIntervalMillis, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            durableLock.unlock();
+        }
+    }
+
+    // 🔹 64-бітний FNV-1a: стабільний між запусками, на відміну від String.hashCode() — не 32 біти
+    public static long hash(CharSequence payload) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < payload.length(); i++) {
+            hash ^= payload.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    public Path dir() {
+        return dir;
+    }
+
+    @PreDestroy
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        flusher.interrupt();
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        force();
+    }
+
+    private void flushLoop() {
+        while (!closed) {
+            durableLock.lock();
+            try {
+                if (!flushPending) {
+                    flushRequested.await(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                }
+                flushPending = false;
+            } catch (InterruptedException e) {
+                return;
+            } finally {
+                durableLock.unlock();
+            }
+            force();
+        }
+    }
+
+    // ✅ group commit: знімаємо "що скинути" під локом писача, а сам force() — без жодного локу
+    private void force() {
+        List<MappedByteBuffer> toForce;
+        long written;
+        synchronized (this) {
+            written = segmentBase + slot;
+            if (written == durableSequence && rolled.isEmpty()) {
+                return;
+            }
+            toForce = new ArrayList<>(rolled);
+            toForce.add(segment);
+            rolled.clear();
+        }
+        for (MappedByteBuffer buffer : toForce) {
+            buffer.force();
+        }
+        durableLock.lock();
+        try {
+            durableSequence = Math.max(durableSequence, written);
+            flushed.signalAll();
+        } finally {
+            durableLock.unlock();
+        }
+    }
+
+    private void roll() {
+        rolled.add(segment);
+        try {
+            openSegment(segmentBase + segmentRecords);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot roll delivery journal in " + dir, e);
+        }
+    }
+
+    // ⚠️ до Java 22 (FFM Arena) явно розмапити старий сегмент не можна: пам'ять звільнить GC
+    private void openSegment(long base) throws IOException {
+        Path file = dir.resolve(DeliveryJournalReader.segmentName(base));
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) segmentRecords * RECORD_SIZE);
+            segment.order(ByteOrder.LITTLE_ENDIAN);
+        }
+        segmentBase = base;
+        slot = 0;
+    }
+}
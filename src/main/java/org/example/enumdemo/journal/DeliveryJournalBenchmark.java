@@ -0,0 +1,145 @@
+package org.example.enumdemo.journal;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.FileAppender;
+import org.example.enumdemo.strategy.NotificationChannels;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Stream;
+
+/**
+ * Бенчмарк аудиту доставок: DeliveryJournal проти звичайного логування через SLF4J (logback, FileAppender).
+ *
+ * ✅ Для 1 і 4 потоків міряємо записів/с та латентність одного виклику (p50 / p99 / max):
+ *   1. SLF4J: log.info("delivery channel={} status={} hash={}", ...) у файл (immediateFlush=false)
+ *   2. DeliveryJournal.append(...) — тільки запис у page cache
+ *   3. DeliveryJournal.append(...) + sync(...) — запис довговічний, fsync спільний (group commit)
+ *
+ * 🔹 Латентність кожного виклику міряємо через System.nanoTime() — однакові накладні витрати для всіх варіантів.
+ * 🔹 Аргумент: [директорія для файлів], за замовчуванням — тимчасова; все створене видаляється наприкінці.
+ */
+public class DeliveryJournalBenchmark {
+
+    private static final int RECORDS_PER_THREAD = 1_000_000;
+    private static final int DURABLE_RECORDS_PER_THREAD = 2_000;
+    private static final int[] THREADS = {1, 4};
+    private static final short[] CHANNELS = {NotificationChannels.EMAIL, NotificationChannels.SMS, NotificationChannels.PUSH};
+
+    @FunctionalInterface
+    private interface Writer {
+        void write(int i);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path root = args.length > 0 ? Files.createDirectories(Path.of(args[0]))
+                : Files.createTempDirectory("journal-bench");
+        try {
+            org.slf4j.Logger slf4j = fileLogger(root.resolve("delivery.log"));
+            for (int threads : THREADS) {
+                System.out.printf("--- %d thread(s) ---%n", threads);
+                run("1. SLF4J file appender  ", threads, RECORDS_PER_THREAD, i ->
+                        slf4j.info("delivery channel={} status={} hash={}",
+                                NotificationChannels.name(CHANNELS[i % 3]), DeliveryStatus.SENT, (long) i));
+
+                try (DeliveryJournal journal = new DeliveryJournal(root.resolve("journal-" + threads).toString(), 1 << 20, 10)) {
+                    run("2. DeliveryJournal      ", threads, RECORDS_PER_THREAD, i ->
+                            journal.append(CHANNELS[i % 3], DeliveryStatus.SENT, i));
+                    run("3. DeliveryJournal+sync ", threads, DURABLE_RECORDS_PER_THREAD, i -> {
+                        try {
+                            journal.sync(journal.append(CHANNELS[i % 3], DeliveryStatus.SENT, i));
+                        } catch (InterruptedException e) {
+                            throw new IllegalStateException(e);
+                        }
+                    });
+                }
+                long start = System.nanoTime();
+                var counts = DeliveryJournalReader.countByChannel(root.resolve("journal-" + threads));
+                System.out.printf("   replay + countByChannel: %.1f ms → %s%n", (System.nanoTime() - start) / 1e6, counts);
+            }
+        } finally {
+            ((LoggerContext) LoggerFactory.getILoggerFactory()).stop();
+            try (Stream<Path> files = Files.walk(root)) {
+                files.sorted(Comparator.reverseOrder()).forEach(DeliveryJournalBenchmark::deleteQuietly);
+            }
+        }
+    }
+
+    private static void run(String label, int threads, int recordsPerThread, Writer writer) throws InterruptedException {
+        // прогрів
+        for (int i = 0; i < Math.min(recordsPerThread, 20_000); i++) {
+            writer.write(i);
+        }
+        long[][] latencies = new long[threads][recordsPerThread];
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch go = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            long[] own = latencies[t];
+            workers[t] = new Thread(() -> {
+                ready.countDown();
+                try {
+                    go.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < recordsPerThread; i++) {
+                    long start = System.nanoTime();
+                    writer.write(i);
+                    own[i] = System.nanoTime() - start;
+                }
+            });
+            workers[t].start();
+        }
+        ready.await();
+        long start = System.nanoTime();
+        go.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        System.out.printf("%s: %,12.0f records/s, p50 %,9d ns, p99 %,9d ns, max %,11d ns%n", label,
+                all.length / seconds, all[all.length / 2], all[(int) (all.length * 0.99)], all[all.length - 1]);
+    }
+
+    private static org.slf4j.Logger fileLogger(Path file) {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{ISO8601} [%thread] %msg%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(context);
+        appender.setFile(file.toString());
+        appender.setEncoder(encoder);
+        // найшвидший режим logback: буферизований запис без flush на кожну подію
+        appender.setImmediateFlush(false);
+        appender.start();
+
+        ch.qos.logback.classic.Logger logger = context.getLogger("delivery-audit");
+        logger.detachAndStopAllAppenders();
+        logger.addAppender(appender);
+        logger.setAdditive(false);
+        logger.setLevel(Level.INFO);
+        return logger;
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // тимчасові файли бенчмарку
+        }
+    }
+}
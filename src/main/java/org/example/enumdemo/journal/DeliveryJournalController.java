@@ -0,0 +1,38 @@
+package org.example.enumdemo.journal;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * GET /api/journal/deliveries.csv — вивантаження журналу доставок у CSV (DeliveryJournalReader.exportCsv).
+ *
+ * 🔹 Тіло стрімиться прямо в відповідь: рядок за рядком через Utf8LineBuffer, без String на запис
+ *    і без складання всього CSV у пам'яті.
+ */
+@RestController
+@ConditionalOnProperty(name = "enumdemo.journal.enabled", havingValue = "true")
+public class DeliveryJournalController {
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+    private final Path dir;
+
+    public DeliveryJournalController(@Value("${enumdemo.journal.dir:journal}") String dir) {
+        this.dir = Path.of(dir);
+    }
+
+    @GetMapping("/api/journal/deliveries.csv")
+    public ResponseEntity<StreamingResponseBody> deliveries() {
+        return ResponseEntity.ok()
+                .contentType(TEXT_CSV)
+                .body(out -> DeliveryJournalReader.exportCsv(dir, out));
+    }
+}
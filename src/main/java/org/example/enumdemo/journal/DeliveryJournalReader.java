@@ -0,0 +1,151 @@
+package org.example.enumdemo.journal;
+
+import org.example.enumdemo.strategy.NotificationChannels;
+import org.example.enumdemo.text.EnumEncodings;
+import org.example.enumdemo.text.Utf8LineBuffer;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import static org.example.enumdemo.journal.DeliveryJournal.CHANNEL_OFFSET;
+import static org.example.enumdemo.journal.DeliveryJournal.HASH_OFFSET;
+import static org.example.enumdemo.journal.DeliveryJournal.RECORD_SIZE;
+import static org.example.enumdemo.journal.DeliveryJournal.SEGMENT_SUFFIX;
+import static org.example.enumdemo.journal.DeliveryJournal.STATUS_OFFSET;
+import static org.example.enumdemo.journal.DeliveryJournal.TIMESTAMP_OFFSET;
+
+/**
+ * Послідовне читання журналу доставок: сегменти по порядку, записи до першого порожнього слота.
+ *
+ * 🔹 Сегменти мапляться read-only → читати можна паралельно з живим писачем
+ *    (бачимо все, що записано до моменту читання слота).
+ * 🔹 exportCsv() пише записи як текст через Utf8LineBuffer: імена каналу і статусу — готові байти (EnumEncodings).
+ */
+public final class DeliveryJournalReader {
+
+    private static final EnumEncodings<DeliveryStatus> STATUSES = EnumEncodings.of(DeliveryStatus.class);
+    private static final byte[] CSV_HEADER = "timestamp,channel,status,message_hash\n".getBytes(StandardCharsets.US_ASCII);
+
+    @FunctionalInterface
+    public interface RecordVisitor {
+        void visit(long timestampMillis, short channel, DeliveryStatus status, long messageHash);
+    }
+
+    private DeliveryJournalReader() {
+    }
+
+    /**
+     * Проганяє всі записи журналу через visitor.
+     *
+     * @return кількість прочитаних записів
+     */
+    public static long replay(Path dir, RecordVisitor visitor) {
+        long count = 0;
+        for (Path file : segments(dir)) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                segment.order(ByteOrder.LITTLE_ENDIAN);
+                for (int offset = 0; offset + RECORD_SIZE <= segment.capacity(); offset += RECORD_SIZE) {
+                    long timestamp = segment.getLong(offset + TIMESTAMP_OFFSET);
+                    if (timestamp == 0) {
+                        break;
+                    }
+                    visitor.visit(timestamp, segment.getShort(offset + CHANNEL_OFFSET),
+                            DeliveryStatus.fromCode(segment.get(offset + STATUS_OFFSET)),
+                            segment.getLong(offset + HASH_OFFSET));
+                    count++;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read journal segment " + file, e);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Агрегація по каналах: ім'я каналу → кількість записів у кожному статусі.
+     */
+    public static Map<String, EnumMap<DeliveryStatus, Long>> countByChannel(Path dir) {
+        // 🔹 рахуємо в примітивах по коду каналу, імена підставляємо один раз наприкінці
+        Map<Short, long[]> counts = new TreeMap<>();
+        replay(dir, (timestamp, channel, status, hash) ->
+                counts.computeIfAbsent(channel, c -> new long[DeliveryStatus.values().length])[status.ordinal()]++);
+        Map<String, EnumMap<DeliveryStatus, Long>> result = new TreeMap<>();
+        counts.forEach((channel, byStatus) -> {
+            EnumMap<DeliveryStatus, Long> perStatus = new EnumMap<>(DeliveryStatus.class);
+            for (DeliveryStatus status : DeliveryStatus.values()) {
+                perStatus.put(status, byStatus[status.ordinal()]);
+            }
+            result.put(NotificationChannels.name(channel), perStatus);
+        });
+        return result;
+    }
+
+    /**
+     * Вивантажує журнал у CSV: timestamp,channel,status,message_hash — один рядок на запис.
+     * Потік out не закривається.
+     *
+     * @return кількість записів
+     */
+    public static long exportCsv(Path dir, OutputStream out) throws IOException {
+        BufferedOutputStream buffered = new BufferedOutputStream(out, 64 * 1024);
+        buffered.write(CSV_HEADER);
+        Utf8LineBuffer line = new Utf8LineBuffer(64);
+        long count;
+        try {
+            count = replay(dir, (timestamp, channel, status, hash) -> {
+                line.reset()
+                        .append(timestamp).append(',')
+                        .append(NotificationChannels.encodedName(channel)).append(',')
+                        .append(STATUSES.name(status)).append(',')
+                        .append(hash).append('\n');
+                try {
+                    line.writeTo(buffered);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        buffered.flush();
+        return count;
+    }
+
+    static List<Path> segments(Path dir) {
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            // 🔹 імена з нулями попереду → лексикографічний порядок = порядок записів
+            return files.filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list journal segments in " + dir, e);
+        }
+    }
+
+    static String segmentName(long base) {
+        return String.format("%020d%s", base, SEGMENT_SUFFIX);
+    }
+
+    static long baseOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
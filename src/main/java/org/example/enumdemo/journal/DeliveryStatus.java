@@ -0,0 +1,30 @@
+package org.example.enumdemo.journal;
+
+/**
+ * Результат доставки нотифікації, як він записується в журнал.
+ *
+ * 🔹 У файл іде стабільний code, а не ordinal: журнал живе довше за поточний порядок констант.
+ */
+public enum DeliveryStatus {
+    SENT(1),
+    FAILED(2);
+
+    private final byte code;
+
+    DeliveryStatus(int code) {
+        this.code = (byte) code;
+    }
+
+    public byte getCode() {
+        return code;
+    }
+
+    public static DeliveryStatus fromCode(int code) {
+        for (DeliveryStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown delivery status code: " + code);
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.enumdemo.metadata;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.enumdemo.withfield.TimeZoneMetadata;
+import org.example.enumdemo.withjpa.EmployeeEnumMetadata;
+import org.example.enumdemo.withmethods.TransportMetadata;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Бенчмарк /api/metadata без HTTP-шару: скільки "відповідей" на секунду дає кожен підхід.
+ *
+ * ✅ Порівнюємо:
+ *   1. серіалізація Jackson на кожен запит (як звичайний @RestController, що повертає DTO)
+ *   2. готовий byte[] з кешу (як EnumMetadataController при 200)
+ *   3. перевірка If-None-Match → 304 (як EnumMetadataController, коли клієнт уже має дані)
+ *
+ * 🔹 Мережа й Tomcat додають однакову вартість до всіх трьох варіантів, тому різниця тут — це саме робота сервера.
+ */
+public class EnumMetadataBenchmark {
+
+    private static final int WARMUP = 200_000;
+    private static final int CALLS = 1_000_000;
+
+    private static long sink;
+
+    public static void main(String[] args) throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        List<EnumMetadataContributor> contributors =
+                List.of(new EmployeeEnumMetadata(), new TimeZoneMetadata(), new TransportMetadata());
+        byte[] cached = EnumMetadataController.encode(contributors, mapper);
+        String etag = EnumMetadataController.etagOf(cached);
+        String ifNoneMatch = new String(etag.toCharArray()); // окремий рядок, як прийшов би з заголовка
+
+        System.out.println("Payload: " + cached.length + " bytes, ETag=" + etag);
+
+        for (int round = 0; round < 2; round++) {
+            int calls = round == 0 ? WARMUP : CALLS;
+
+            long start = System.nanoTime();
+            for (int i = 0; i < calls; i++) {
+                sink += EnumMetadataController.encode(contributors, mapper).length;
+            }
+            double serializeRps = calls / ((System.nanoTime() - start) / 1e9);
+
+            start = System.nanoTime();
+            for (int i = 0; i < calls; i++) {
+                byte[] body = Arrays.copyOf(cached, cached.length); // запис у відповідь ≈ копіювання
+                sink += body.length;
+            }
+            double cachedRps = calls / ((System.nanoTime() - start) / 1e9);
+
+            start = System.nanoTime();
+            for (int i = 0; i < calls; i++) {
+                sink += etag.equals(ifNoneMatch) ? 304 : 200;
+            }
+            double notModifiedRps = calls / ((System.nanoTime() - start) / 1e9);
+
+            if (round == 1) {
+                System.out.printf("1. Jackson per request : %,.0f responses/s%n", serializeRps);
+                System.out.printf("2. Pre-encoded byte[]  : %,.0f responses/s%n", cachedRps);
+                System.out.printf("3. 304 Not Modified    : %,.0f responses/s%n", notModifiedRps);
+            }
+        }
+        System.out.println("(sink=" + sink + ")");
+    }
+}
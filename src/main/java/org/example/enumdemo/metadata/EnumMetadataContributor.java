@@ -0,0 +1,18 @@
+package org.example.enumdemo.metadata;
+
+import java.util.Map;
+
+/**
+ * Джерело довідкових даних з enum-ів для /api/metadata.
+ *
+ * 🔹 Кожен пакет із демо реалізує цей інтерфейс як @Component для своїх (package-private) enum-ів,
+ *    а контролер лише збирає все разом.
+ * 🔹 Дані читаються один раз на старті, тому повертати треба лише незмінні значення.
+ */
+public interface EnumMetadataContributor {
+
+    /**
+     * @return секції відповіді: ключ → JSON-сумісне значення (списки, мапи, рядки, числа)
+     */
+    Map<String, Object> metadata();
+}
@@ -0,0 +1,76 @@
+package org.example.enumdemo.metadata;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * GET /api/metadata — усі довідники з enum-ів (ролі, типи зайнятості, часові зони, тарифи) одним JSON.
+ *
+ * ✅ Ідея:
+ *   - enum-и не змінюються під час роботи → JSON серіалізуємо один раз на старті в byte[]
+ *   - strong ETag = SHA-256 від цих байтів → однаковий на всіх інстансах з тією ж версією коду
+ *   - якщо клієнт прислав If-None-Match з тим самим ETag → 304 без тіла і без серіалізації
+ *   - Cache-Control дозволяє браузеру/CDN не ходити за даними ще годину
+ */
+@RestController
+public class EnumMetadataController {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofHours(1)).cachePublic();
+
+    private final byte[] body;
+    private final String etag;
+
+    public EnumMetadataController(List<EnumMetadataContributor> contributors, ObjectMapper mapper)
+            throws JsonProcessingException {
+        this.body = encode(contributors, mapper);
+        this.etag = etagOf(body);
+    }
+
+    @GetMapping(value = "/api/metadata", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> metadata(WebRequest request) {
+        // 🔹 checkNotModified() сам виставляє 304 та заголовок ETag
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CACHE_CONTROL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    // 🔹 ORDER_MAP_ENTRIES_BY_KEYS сортує ключі всіх Map, зокрема вкладених Map.of (їх порядок різний у різних JVM)
+    //    → однакові байти, отже однаковий ETag на всіх інстансах і після рестарту
+    static byte[] encode(List<? extends EnumMetadataContributor> contributors, ObjectMapper mapper)
+            throws JsonProcessingException {
+        Map<String, Object> sections = new TreeMap<>();
+        for (EnumMetadataContributor contributor : contributors) {
+            sections.putAll(contributor.metadata());
+        }
+        return mapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS).writeValueAsBytes(sections);
+    }
+
+    static String etagOf(byte[] body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
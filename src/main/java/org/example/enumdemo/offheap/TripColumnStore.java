@@ -0,0 +1,216 @@
+package org.example.enumdemo.offheap;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Properties;
+
+/**
+ * Колонкове off-heap сховище поїздок у memory-mapped файлах.
+ *
+ * ✅ Ідея:
+ *   - кожна поїздка = рядок із трьох примітивів: код транспорту (byte), код знижки (byte), відстань (double)
+ *   - кожна колонка лежить в окремому файлі → скан читає тільки потрібні байти, послідовно
+ *   - дані живуть поза heap (MappedByteBuffer) → мільярди рядків не навантажують GC
+ *   - агрегація працює напряму з кодами: тариф і множник знижки беремо з масивів по коду, без об'єктів Trip
+ *
+ * 🔹 Один MappedByteBuffer не може бути більше 2 ГБ, тому колонки мапляться шматками по CHUNK_ROWS рядків.
+ * 🔹 Код = ordinal константи. Щоб файли не "зламались" після зміни порядку в enum,
+ *    у store.properties зберігаємо імена констант, і open() звіряє їх з поточними.
+ * ⚠️ Один писач; читати можна з кількох потоків після close()/flush() писача.
+ */
+public final class TripColumnStore implements AutoCloseable {
+
+    // 2^27 рядків → колонка distance займає 1 ГБ на шматок
+    private static final int CHUNK_SHIFT = 27;
+    private static final long CHUNK_ROWS = 1L << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = (int) (CHUNK_ROWS - 1);
+
+    private static final String META_FILE = "store.properties";
+
+    private final Path dir;
+    private final boolean writable;
+    private final long capacity;
+    private final String[] transportNames;
+    private final String[] discountNames;
+
+    private final MappedByteBuffer[] transportColumn;
+    private final MappedByteBuffer[] discountColumn;
+    private final MappedByteBuffer[] distanceColumn;
+
+    private long size;
+
+    private TripColumnStore(Path dir, boolean writable, long capacity, long size,
+                            String[] transportNames, String[] discountNames) throws IOException {
+        this.dir = dir;
+        this.writable = writable;
+        this.capacity = capacity;
+        this.size = size;
+        this.transportNames = transportNames;
+        this.discountNames = discountNames;
+        long mappedRows = writable ? capacity : size;
+        this.transportColumn = map(dir.resolve("transport.col"), Byte.BYTES, mappedRows, writable);
+        this.discountColumn = map(dir.resolve("discount.col"), Byte.BYTES, mappedRows, writable);
+        this.distanceColumn = map(dir.resolve("distance.col"), Double.BYTES, mappedRows, writable);
+    }
+
+    /**
+     * Створює нове порожнє сховище на capacity рядків.
+     *
+     * @param transportNames імена констант транспорту в порядку кодів (ordinal)
+     * @param discountNames  імена констант знижок в порядку кодів (ordinal)
+     */
+    public static TripColumnStore create(Path dir, long capacity, String[] transportNames, String[] discountNames) {
+        try {
+            Files.createDirectories(dir);
+            TripColumnStore store = new TripColumnStore(dir, true, capacity, 0,
+                    transportNames.clone(), discountNames.clone());
+            store.writeMeta();
+            return store;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create trip store in " + dir, e);
+        }
+    }
+
+    /**
+     * Відкриває існуюче сховище тільки для читання.
+     * Кидає IllegalStateException, якщо порядок констант змінився з моменту запису.
+     */
+    public static TripColumnStore open(Path dir, String[] transportNames, String[] discountNames) {
+        Properties meta = new Properties();
+        try (InputStream in = Files.newInputStream(dir.resolve(META_FILE))) {
+            meta.load(in);
+            String[] storedTransport = meta.getProperty("transport.names").split(",");
+            String[] storedDiscount = meta.getProperty("discount.names").split(",");
+            if (!Arrays.equals(storedTransport, transportNames) || !Arrays.equals(storedDiscount, discountNames)) {
+                throw new IllegalStateException("Enum constants changed since the store was written: transport="
+                        + Arrays.toString(storedTransport) + ", discount=" + Arrays.toString(storedDiscount));
+            }
+            return new TripColumnStore(dir, false,
+                    Long.parseLong(meta.getProperty("capacity")), Long.parseLong(meta.getProperty("size")),
+                    storedTransport, storedDiscount);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open trip store in " + dir, e);
+        }
+    }
+
+    public void append(int transportCode, int discountCode, double distanceKm) {
+        if (!writable) {
+            throw new IllegalStateException("Store is opened read-only");
+        }
+        if (size == capacity) {
+            throw new IllegalStateException("Store is full: capacity=" + capacity);
+        }
+        if (transportCode < 0 || transportCode >= transportNames.length
+                || discountCode < 0 || discountCode >= discountNames.length) {
+            throw new IllegalArgumentException("Unknown code: transport=" + transportCode + ", discount=" + discountCode);
+        }
+        int chunk = (int) (size >>> CHUNK_SHIFT);
+        int row = (int) size & CHUNK_MASK;
+        transportColumn[chunk].put(row, (byte) transportCode);
+        discountColumn[chunk].put(row, (byte) discountCode);
+        distanceColumn[chunk].putDouble(row << 3, distanceKm);
+        size++;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public int transportCode(long row) {
+        return transportColumn[(int) (row >>> CHUNK_SHIFT)].get((int) row & CHUNK_MASK);
+    }
+
+    public int discountCode(long row) {
+        return discountColumn[(int) (row >>> CHUNK_SHIFT)].get((int) row & CHUNK_MASK);
+    }
+
+    public double distanceKm(long row) {
+        return distanceColumn[(int) (row >>> CHUNK_SHIFT)].getDouble(((int) row & CHUNK_MASK) << 3);
+    }
+
+    /**
+     * Послідовний скан: вартість поїздки = tariffPerKm[transport] * distance * discountFactors[discount].
+     *
+     * @param perTransportOut якщо не null — сюди додається сума по кожному коду транспорту
+     * @return загальна сума по всіх рядках
+     */
+    public double scanCost(double[] tariffPerKm, double[] discountFactors, double[] perTransportOut) {
+        double total = 0;
+        for (int chunk = 0; (long) chunk * CHUNK_ROWS < size; chunk++) {
+            MappedByteBuffer transports = transportColumn[chunk];
+            MappedByteBuffer discounts = discountColumn[chunk];
+            MappedByteBuffer distances = distanceColumn[chunk];
+            int rows = (int) Math.min(CHUNK_ROWS, size - (long) chunk * CHUNK_ROWS);
+            for (int row = 0; row < rows; row++) {
+                int transport = transports.get(row);
+                double cost = tariffPerKm[transport] * distances.getDouble(row << 3)
+                        * discountFactors[discounts.get(row)];
+                total += cost;
+                if (perTransportOut != null) {
+                    perTransportOut[transport] += cost;
+                }
+            }
+        }
+        return total;
+    }
+
+    // 🔹 скидає сторінки на диск і оновлює size у store.properties
+    public void flush() {
+        if (!writable) {
+            return;
+        }
+        for (int i = 0; i < transportColumn.length; i++) {
+            transportColumn[i].force();
+            discountColumn[i].force();
+            distanceColumn[i].force();
+        }
+        try {
+            writeMeta();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write store metadata in " + dir, e);
+        }
+    }
+
+    // ⚠️ до Java 22 (FFM Arena) явно розмапити MappedByteBuffer не можна: пам'ять звільнить GC
+    @Override
+    public void close() {
+        flush();
+    }
+
+    private void writeMeta() throws IOException {
+        Properties meta = new Properties();
+        meta.setProperty("capacity", Long.toString(capacity));
+        meta.setProperty("size", Long.toString(size));
+        meta.setProperty("transport.names", String.join(",", transportNames));
+        meta.setProperty("discount.names", String.join(",", discountNames));
+        try (OutputStream out = Files.newOutputStream(dir.resolve(META_FILE))) {
+            meta.store(out, "TripColumnStore");
+        }
+    }
+
+    private static MappedByteBuffer[] map(Path file, int width, long rows, boolean writable) throws IOException {
+        int chunks = (int) ((rows + CHUNK_ROWS - 1) >>> CHUNK_SHIFT);
+        MappedByteBuffer[] buffers = new MappedByteBuffer[chunks];
+        StandardOpenOption[] options = writable
+                ? new StandardOpenOption[]{StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE}
+                : new StandardOpenOption[]{StandardOpenOption.READ};
+        try (FileChannel channel = FileChannel.open(file, options)) {
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                long chunkRows = Math.min(CHUNK_ROWS, rows - (long) chunk * CHUNK_ROWS);
+                buffers[chunk] = channel.map(writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY,
+                        chunk * CHUNK_ROWS * width, chunkRows * width);
+                buffers[chunk].order(ByteOrder.LITTLE_ENDIAN);
+            }
+        }
+        return buffers;
+    }
+}
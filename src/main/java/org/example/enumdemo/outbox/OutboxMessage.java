@@ -0,0 +1,58 @@
+package org.example.enumdemo.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+/**
+ * Рядок transactional outbox: нотифікація, яку треба відправити після коміту бізнес-транзакції.
+ *
+ * 🔹 channel — компактний код NotificationType (smallint), а не рядок і не ordinal.
+ * 🔹 Рядок видаляється після успішної відправки; при помилці росте attempts і запис чекає наступної спроби.
+ * 🔹 Сутність потрібна лише для схеми (ddl-auto); запис і читання — через JdbcTemplate (OutboxWriter / OutboxRelay).
+ */
+@Entity
+@Table(name = "notification_outbox", indexes = @Index(name = "idx_outbox_attempts_id", columnList = "attempts, id"))
+public class OutboxMessage {
+
+    public static final int LAST_ERROR_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private short channel;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = LAST_ERROR_LENGTH)
+    private String lastError;
+
+    protected OutboxMessage() {
+    }
+
+    public Long getId() { return id; }
+    public short getChannel() { return channel; }
+    public String getRecipient() { return recipient; }
+    public String getPayload() { return payload; }
+    public Instant getCreatedAt() { return createdAt; }
+    public int getAttempts() { return attempts; }
+    public String getLastError() { return lastError; }
+}
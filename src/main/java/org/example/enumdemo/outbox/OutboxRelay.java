@@ -0,0 +1,189 @@
+package org.example.enumdemo.outbox;
+
+import jakarta.annotation.PreDestroy;
+import org.example.enumdemo.journal.DeliveryJournal;
+import org.example.enumdemo.journal.DeliveryStatus;
+import org.example.enumdemo.strategy.StrategyMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Воркери, що забирають нотифікації з outbox і відправляють їх через NotificationType.
+ *
+ * ✅ Кожен воркер у власній транзакції:
+ *   1. SELECT ... ORDER BY id LIMIT batch FOR UPDATE SKIP LOCKED → пачка рядків, яку не бачать інші воркери
+ *   2. відправка кожного рядка (StrategyMetrics.dispatch → метрики enumdemo.notification.*)
+ *   3. DELETE успішних (один запит з масивом id), UPDATE attempts/last_error для невдалих → коміт знімає локи
+ *
+ * 🔹 SKIP LOCKED дозволяє запускати скільки завгодно воркерів на скількох завгодно вузлах без координації.
+ * 🔹 Гарантія — at-least-once: якщо вузол впаде після відправки, але до коміту, рядок відправиться ще раз.
+ * 🔹 Рядки з attempts >= max-attempts більше не забираються і лишаються в таблиці для розбору (last_error).
+ * 🔹 Якщо увімкнено enumdemo.journal.enabled — кожна спроба доставки дописується в DeliveryJournal.
+ * 🔹 Воркери стартують на ApplicationReadyEvent — коли контекст (DataSource, схема, журнал) повністю готовий.
+ * ⚠️ Вимкнено за замовчуванням (enumdemo.outbox.enabled); без relay рядки лише накопичуються в outbox.
+ */
+@Component
+@ConditionalOnProperty(name = "enumdemo.outbox.enabled", havingValue = "true")
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final String CLAIM_SQL = """
+            SELECT id, channel, recipient, payload
+            FROM notification_outbox
+            WHERE attempts < ?
+            ORDER BY id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String DELETE_SQL = "DELETE FROM notification_outbox WHERE id = ANY(?)";
+    private static final String FAILED_SQL = "UPDATE notification_outbox SET attempts = attempts + 1, last_error = ? WHERE id = ?";
+
+    // = довжина колонки last_error (varchar(255)); довше повідомлення зірвало б UPDATE
+    private static final int MAX_ERROR_LENGTH = OutboxMessage.LAST_ERROR_LENGTH;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DeliveryJournal journal;
+    private final StrategyMetrics strategies;
+    private final int workers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long idleSleepMillis;
+    private ExecutorService executor;
+    private volatile boolean running;
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                       ObjectProvider<DeliveryJournal> journal, StrategyMetrics strategies,
+                       @Value("${enumdemo.outbox.workers:2}") int workers,
+                       @Value("${enumdemo.outbox.batch-size:100}") int batchSize,
+                       @Value("${enumdemo.outbox.max-attempts:5}") int maxAttempts,
+                       @Value("${enumdemo.outbox.idle-sleep-ms:200}") long idleSleepMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.journal = journal.getIfAvailable();
+        this.strategies = strategies;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.idleSleepMillis = idleSleepMillis;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        running = true;
+        AtomicInteger index = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workers, r -> {
+            Thread thread = new Thread(r, "outbox-relay-" + index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workers; i++) {
+            executor.submit(this::loop);
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private void loop() {
+        while (running) {
+            try {
+                int processed = relayBatch();
+                if (processed == 0) {
+                    Thread.sleep(idleSleepMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Outbox relay batch failed: {}", e.getMessage());
+                sleepQuietly();
+            }
+        }
+    }
+
+    /**
+     * Забирає й відправляє одну пачку.
+     *
+     * @return кількість оброблених рядків (0 → outbox порожній)
+     */
+    public int relayBatch() {
+        Integer processed = transactionTemplate.execute(status -> {
+            List<Long> sent = new ArrayList<>();
+            List<Object[]> failed = new ArrayList<>();
+            int claimed = 0;
+            for (var row : jdbcTemplate.queryForList(CLAIM_SQL, maxAttempts, batchSize)) {
+                claimed++;
+                long id = ((Number) row.get("id")).longValue();
+                short channel = ((Number) row.get("channel")).shortValue();
+                String payload = (String) row.get("payload");
+                try {
+                    strategies.dispatch(channel, (String) row.get("recipient"), payload);
+                    sent.add(id);
+                    journal(channel, DeliveryStatus.SENT, payload);
+                } catch (RuntimeException e) {
+                    journal(channel, DeliveryStatus.FAILED, payload);
+                    failed.add(new Object[]{lastError(e), id});
+                }
+            }
+            // 🔹 Long[] → bigint[] (pgjdbc); одна транзакція без savepoint-ів: JpaTransactionManager їх не підтримує
+            if (!sent.isEmpty()) {
+                jdbcTemplate.update(DELETE_SQL, (Object) sent.toArray(new Long[0]));
+            }
+            // 🔹 last_error уже очищений і обрізаний до колонки (lastError) → UPDATE не падає через сам текст
+            if (!failed.isEmpty()) {
+                jdbcTemplate.batchUpdate(FAILED_SQL, failed);
+            }
+            return claimed;
+        });
+        return processed == null ? 0 : processed;
+    }
+
+    // 🔹 Postgres не приймає нульовий символ у текстових колонках; довжина — у межах колонки, без розірваної surrogate-пари
+    static String lastError(RuntimeException e) {
+        String message = (e.getMessage() != null ? e.getMessage() : e.getClass().getName()).replace('\0', ' ');
+        if (message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        int end = Character.isHighSurrogate(message.charAt(MAX_ERROR_LENGTH - 1)) ? MAX_ERROR_LENGTH - 1 : MAX_ERROR_LENGTH;
+        return message.substring(0, end);
+    }
+
+    private void journal(short channel, DeliveryStatus status, String payload) {
+        if (journal != null) {
+            journal.append(channel, status, DeliveryJournal.hash(payload));
+        }
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(idleSleepMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.enumdemo.outbox;
+
+import org.example.enumdemo.strategy.NotificationChannels;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Бенчмарк outbox на локальному Postgres (docker-compose): скільки повідомлень/с розбирають N воркерів.
+ *
+ * ✅ Для кожного N (1, 2, 4, 8, 16):
+ *   1. заливаємо MESSAGES рядків у notification_outbox
+ *   2. N потоків з власними з'єднаннями крутять той самий цикл, що й OutboxRelay:
+ *      SELECT ... FOR UPDATE SKIP LOCKED → "відправка" (no-op) → DELETE ... WHERE id = ANY(?) → COMMIT
+ *   3. міряємо час, поки таблиця не спорожніє
+ *
+ * 🔹 Аргументи: [jdbcUrl] [user] [password], за замовчуванням — як у application.yml.
+ * ⚠️ Таблицю очищує (TRUNCATE) — не запускати на БД з реальними нотифікаціями.
+ */
+public class OutboxThroughputBenchmark {
+
+    private static final int[] WORKERS = {1, 2, 4, 8, 16};
+    private static final int MESSAGES = 100_000;
+    private static final int BATCH_SIZE = 100;
+
+    public static void main(String[] args) throws Exception {
+        String url = args.length > 0 ? args[0] : "jdbc:postgresql://localhost:5432/enumdemo";
+        String user = args.length > 1 ? args[1] : "enumdemo";
+        String password = args.length > 2 ? args[2] : "enumdemo";
+
+        try (Connection connection = DriverManager.getConnection(url, user, password);
+             Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE IF NOT EXISTS notification_outbox (
+                        id bigserial PRIMARY KEY,
+                        channel smallint NOT NULL,
+                        recipient varchar(255) NOT NULL,
+                        payload text NOT NULL,
+                        created_at timestamptz NOT NULL,
+                        attempts integer NOT NULL,
+                        last_error varchar(255)
+                    )""");
+        }
+
+        System.out.println("workers | messages/s");
+        for (int workers : WORKERS) {
+            fill(url, user, password);
+            AtomicLong relayed = new AtomicLong();
+            CountDownLatch done = new CountDownLatch(workers);
+            long start = System.nanoTime();
+            for (int w = 0; w < workers; w++) {
+                new Thread(() -> {
+                    try (Connection connection = DriverManager.getConnection(url, user, password)) {
+                        connection.setAutoCommit(false);
+                        int claimed;
+                        do {
+                            claimed = relayBatch(connection);
+                            relayed.addAndGet(claimed);
+                        } while (claimed > 0);
+                    } catch (SQLException e) {
+                        throw new IllegalStateException(e);
+                    } finally {
+                        done.countDown();
+                    }
+                }).start();
+            }
+            done.await();
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("%7d | %,.0f%n", workers, relayed.get() / seconds);
+        }
+    }
+
+    private static int relayBatch(Connection connection) throws SQLException {
+        List<Long> ids = new ArrayList<>(BATCH_SIZE);
+        try (PreparedStatement claim = connection.prepareStatement(
+                "SELECT id, channel, recipient, payload FROM notification_outbox WHERE attempts < 5 "
+                        + "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED")) {
+            claim.setInt(1, BATCH_SIZE);
+            try (ResultSet rs = claim.executeQuery()) {
+                while (rs.next()) {
+                    // "відправка": тільки перевіряємо, що код каналу валідний
+                    NotificationChannels.name(rs.getShort("channel"));
+                    ids.add(rs.getLong("id"));
+                }
+            }
+        }
+        if (!ids.isEmpty()) {
+            try (PreparedStatement delete = connection.prepareStatement("DELETE FROM notification_outbox WHERE id = ANY(?)")) {
+                Array array = connection.createArrayOf("bigint", ids.toArray());
+                delete.setArray(1, array);
+                delete.executeUpdate();
+            }
+        }
+        connection.commit();
+        return ids.size();
+    }
+
+    private static void fill(String url, String user, String password) throws SQLException {
+        short[] channels = {NotificationChannels.EMAIL, NotificationChannels.SMS, NotificationChannels.PUSH};
+        try (Connection connection = DriverManager.getConnection(url, user, password)) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("TRUNCATE notification_outbox");
+            }
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO notification_outbox (channel, recipient, payload, created_at, attempts) VALUES (?, ?, ?, now(), 0)")) {
+                for (int i = 0; i < MESSAGES; i++) {
+                    insert.setShort(1, channels[i % channels.length]);
+                    insert.setString(2, "employee:" + i);
+                    insert.setString(3, "Benchmark message " + i);
+                    insert.addBatch();
+                    if (i % 1_000 == 999) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+        }
+    }
+}
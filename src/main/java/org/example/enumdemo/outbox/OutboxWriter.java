@@ -0,0 +1,32 @@
+package org.example.enumdemo.outbox;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Додає нотифікацію в outbox у ТІЙ САМІЙ транзакції, що й зміна бізнес-даних.
+ *
+ * 🔹 Propagation.MANDATORY: без зовнішньої транзакції виклик падає —
+ *    інакше нотифікація могла б зберегтися, а зміна Employee відкотитися (або навпаки).
+ */
+@Component
+public class OutboxWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OutboxWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @param channel код каналу (див. NotificationChannels)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(short channel, String recipient, String payload) {
+        jdbcTemplate.update(
+                "INSERT INTO notification_outbox (channel, recipient, payload, created_at, attempts) VALUES (?, ?, ?, now(), 0)",
+                channel, recipient, payload);
+    }
+}
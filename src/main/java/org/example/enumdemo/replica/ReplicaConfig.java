@@ -0,0 +1,62 @@
+package org.example.enumdemo.replica;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.enumdemo.config.HikariDataSourceProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * enumdemo.replica.enabled=true → @Transactional(readOnly = true) читають з репліки, решта — з primary.
+ *
+ * ✅ Код сервісів не змінюється: EmployeeService.find / get уже позначені readOnly.
+ * 🔹 primary = spring.datasource.url, репліка = enumdemo.replica.url (docker-compose: postgres-replica на 5435).
+ * ⚠️ Несумісно з enumdemo.sharding.enabled: обидва підміняють DataSource-бін.
+ */
+@Configuration
+@ConditionalOnProperty(name = "enumdemo.replica.enabled", havingValue = "true")
+public class ReplicaConfig {
+
+    @Bean
+    public ReplicaNodes replicaNodes(@Value("${spring.datasource.url}") String primaryUrl,
+                                     @Value("${enumdemo.replica.url}") String replicaUrl,
+                                     @Value("${spring.datasource.username}") String username,
+                                     @Value("${spring.datasource.password}") String password,
+                                     @Value("${enumdemo.replica.pool-size:10}") int poolSize,
+                                     @Value("${enumdemo.replica.max-lag-ms:1000}") long maxLagMillis,
+                                     @Value("${enumdemo.replica.lag-check-interval-ms:500}") long lagCheckIntervalMillis,
+                                     @Value("${enumdemo.sharding.enabled:false}") boolean sharding,
+                                     Environment environment) {
+        if (sharding) {
+            throw new IllegalStateException("enumdemo.replica.enabled and enumdemo.sharding.enabled cannot be combined");
+        }
+        return new ReplicaNodes(primaryUrl, replicaUrl, username, password, poolSize, maxLagMillis, lagCheckIntervalMillis,
+                HikariDataSourceProperties.from(environment));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaNodes nodes, ObjectProvider<MeterRegistry> registry) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(nodes.lag());
+        routing.setTargetDataSources(Map.of(
+                ReplicaRoutingDataSource.Node.PRIMARY, nodes.primary(),
+                ReplicaRoutingDataSource.Node.REPLICA, nodes.replica()));
+        routing.setDefaultTargetDataSource(nodes.primary());
+        routing.afterPropertiesSet();
+        registry.ifAvailable(r -> Gauge.builder("replica.lag", nodes, ReplicaNodes::replicaLagMillis)
+                .baseUnit("milliseconds")
+                .description("Replica replay lag, -1 when the replica is unreachable")
+                .register(r));
+        // 🔹 фізичне з'єднання береться на першому запиті, коли readOnly транзакції вже відомий
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
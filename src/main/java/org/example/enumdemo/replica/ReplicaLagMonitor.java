@@ -0,0 +1,82 @@
+package org.example.enumdemo.replica;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Фонова перевірка відставання репліки; результат — volatile-прапорець, який читає ReplicaRoutingDataSource.
+ *
+ * 🔹 lag = now() - pg_last_xact_replay_timestamp(), але 0, якщо все отримане WAL уже застосовано
+ *    (інакше на primary без записів "відставання" росло б саме по собі).
+ * ✅ На шляху запиту — лише читання volatile boolean; сам запит до репліки — раз на interval.
+ * ⚠️ Відставання > maxLag або репліка недоступна → читання тимчасово йдуть на primary.
+ */
+class ReplicaLagMonitor implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    static final String LAG_SQL = """
+            SELECT CASE
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   END
+            """;
+
+    private final DataSource replica;
+    private final long maxLagMillis;
+    private final ScheduledExecutorService scheduler;
+    private volatile boolean usable;
+    private volatile long lagMillis = -1;
+
+    ReplicaLagMonitor(DataSource replica, long maxLagMillis, long intervalMillis) {
+        this.replica = replica;
+        this.maxLagMillis = maxLagMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        check();
+        scheduler.scheduleWithFixedDelay(this::check, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    boolean isReplicaUsable() {
+        return usable;
+    }
+
+    // 🔹 -1 → останню перевірку не вдалося виконати
+    long lagMillis() {
+        return lagMillis;
+    }
+
+    private void check() {
+        boolean wasUsable = usable;
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(LAG_SQL)) {
+            rs.next();
+            lagMillis = (long) rs.getDouble(1);
+            usable = lagMillis <= maxLagMillis;
+        } catch (SQLException | RuntimeException e) {
+            lagMillis = -1;
+            usable = false;
+        }
+        if (wasUsable != usable) {
+            log.warn("Replica {} for reads (lag {} ms, max {} ms)", usable ? "enabled" : "disabled", lagMillis, maxLagMillis);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.enumdemo.replica;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.util.Properties;
+
+/**
+ * Пули primary і репліки + монітор відставання.
+ *
+ * 🔹 Як і Shards: пули не є DataSource-бінами, інакше SqlLoggingDataSourcePostProcessor обгорнув би кожен
+ *    і запити рахувалися б двічі. Назовні видно лише один DataSource — routing за LazyConnectionDataSourceProxy.
+ */
+public final class ReplicaNodes implements AutoCloseable {
+
+    private final HikariDataSource primary;
+    private final HikariDataSource replica;
+    private final ReplicaLagMonitor lag;
+
+    ReplicaNodes(String primaryUrl, String replicaUrl, String username, String password, int poolSize,
+                 long maxLagMillis, long lagCheckIntervalMillis, Properties dataSourceProperties) {
+        this.primary = pool("primary", primaryUrl, username, password, poolSize, dataSourceProperties);
+        this.replica = pool("replica", replicaUrl, username, password, poolSize, dataSourceProperties);
+        this.lag = new ReplicaLagMonitor(replica, maxLagMillis, lagCheckIntervalMillis);
+    }
+
+    private static HikariDataSource pool(String name, String url, String username, String password, int poolSize,
+                                         Properties dataSourceProperties) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMaximumPoolSize(poolSize);
+        config.setDataSourceProperties(dataSourceProperties);
+        return new HikariDataSource(config);
+    }
+
+    HikariDataSource primary() {
+        return primary;
+    }
+
+    HikariDataSource replica() {
+        return replica;
+    }
+
+    ReplicaLagMonitor lag() {
+        return lag;
+    }
+
+    public boolean isReplicaUsable() {
+        return lag.isReplicaUsable();
+    }
+
+    public long replicaLagMillis() {
+        return lag.lagMillis();
+    }
+
+    @Override
+    public void close() {
+        lag.close();
+        replica.close();
+        primary.close();
+    }
+}
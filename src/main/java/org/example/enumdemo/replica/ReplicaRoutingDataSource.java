@@ -0,0 +1,32 @@
+package org.example.enumdemo.replica;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Вибір вузла для з'єднання: read-only транзакція і репліка не відстає → REPLICA, усе інше → PRIMARY.
+ *
+ * ⚠️ Працює лише за LazyConnectionDataSourceProxy: прапорець readOnly транзакції Spring виставляє
+ *    вже після begin(), тож фізичне з'єднання треба брати не на begin, а на першому запиті.
+ */
+class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Node {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReplicaLagMonitor lag;
+
+    ReplicaRoutingDataSource(ReplicaLagMonitor lag) {
+        this.lag = lag;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && lag.isReplicaUsable()) {
+            return Node.REPLICA;
+        }
+        return Node.PRIMARY;
+    }
+}
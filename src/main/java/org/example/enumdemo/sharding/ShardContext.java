@@ -0,0 +1,43 @@
+package org.example.enumdemo.sharding;
+
+import java.util.function.Supplier;
+
+/**
+ * Номер шарда для поточного потоку — його читає ShardRoutingDataSource, коли віддає з'єднання.
+ *
+ * ⚠️ Шард треба вибрати ДО початку транзакції: JpaTransactionManager бере з'єднання вже на begin(),
+ *    тож зміна ShardContext всередині @Transactional-методу ні на що не вплине.
+ * 🔹 Не встановлено → шард за замовчуванням (0): там живуть outbox, звіти, tasks і весь звичайний JPA-код.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    public static <T> T call(int shard, Supplier<T> work) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public static void run(int shard, Runnable work) {
+        call(shard, () -> {
+            work.run();
+            return null;
+        });
+    }
+}
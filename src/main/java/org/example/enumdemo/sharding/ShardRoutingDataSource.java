@@ -0,0 +1,14 @@
+package org.example.enumdemo.sharding;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Один DataSource-бін над кількома вузлами Postgres: ключ = ShardContext.current(), null → шард 0.
+ */
+class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.enumdemo.sharding;
+
+import org.example.enumdemo.config.HikariDataSourceProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * enumdemo.sharding.enabled=true → замість одного spring.datasource кілька вузлів Postgres за routing DataSource.
+ *
+ * 🔹 DataSourceAutoConfiguration відступає (вже є DataSource-бін); Hibernate, JdbcTemplate і транзакції
+ *    працюють з routing DataSource і без ShardContext потрапляють на шард 0 — перший у enumdemo.sharding.urls.
+ * 🔹 Пули шардів отримують ті самі spring.datasource.hikari.data-source-properties, що й звичайний пул.
+ */
+@Configuration
+@ConditionalOnProperty(name = "enumdemo.sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+
+    @Bean
+    public Shards shards(@Value("${enumdemo.sharding.urls}") List<String> urls,
+                         @Value("${enumdemo.sharding.username:${spring.datasource.username}}") String username,
+                         @Value("${enumdemo.sharding.password:${spring.datasource.password}}") String password,
+                         @Value("${enumdemo.sharding.pool-size:5}") int poolSize,
+                         Environment environment) {
+        return new Shards(urls, username, password, poolSize, HikariDataSourceProperties.from(environment));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(Shards shards) {
+        Map<Object, Object> targets = new HashMap<>();
+        for (int i = 0; i < shards.count(); i++) {
+            targets.put(i, shards.pool(i));
+        }
+        ShardRoutingDataSource routing = new ShardRoutingDataSource();
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(shards.pool(0));
+        // 🔹 невідомий номер шарда — помилка, а не тихий запис на шард 0
+        routing.setLenientFallback(false);
+        return routing;
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.enumdemo.sharding;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Пули з'єднань усіх шардів + scatter-gather по них.
+ *
+ * 🔹 Пули НЕ є окремими DataSource-бінами: інакше SqlLoggingDataSourcePostProcessor обгорнув би і їх,
+ *    і кожен запит логувався/рахувався б двічі (через routing DataSource і через пул шарда).
+ *    Запити йдуть тільки через routing DataSource, шард вибирається через ShardContext.
+ * ✅ gather() виконує роботу на всіх шардах паралельно (по потоку на шард) і повертає результати в порядку шардів:
+ *    латентність крос-шардового агрегату ≈ найповільніший шард, а не сума.
+ */
+public final class Shards implements AutoCloseable {
+
+    private final List<HikariDataSource> pools;
+    private final ExecutorService executor;
+
+    Shards(List<String> urls, String username, String password, int poolSize, Properties dataSourceProperties) {
+        if (urls.isEmpty()) {
+            throw new IllegalArgumentException("enumdemo.sharding.urls must list at least one shard");
+        }
+        this.pools = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("shard-" + i);
+            config.setJdbcUrl(urls.get(i).trim());
+            config.setUsername(username);
+            config.setPassword(password);
+            config.setMaximumPoolSize(poolSize);
+            config.setDataSourceProperties(dataSourceProperties);
+            pools.add(new HikariDataSource(config));
+        }
+        AtomicInteger index = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(urls.size(), r -> {
+            Thread thread = new Thread(r, "shard-gather-" + index.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public int count() {
+        return pools.size();
+    }
+
+    DataSource pool(int shard) {
+        return pools.get(shard);
+    }
+
+    /**
+     * Виконує work(shard) на кожному шарді паралельно; ShardContext у кожній задачі вже встановлено.
+     * Помилка будь-якого шарда → виняток (частковий результат агрегату гірший за відсутній).
+     */
+    public <T> List<T> gather(IntFunction<T> work) {
+        List<CompletableFuture<T>> futures = new ArrayList<>(pools.size());
+        for (int i = 0; i < pools.size(); i++) {
+            int shard = i;
+            futures.add(CompletableFuture.supplyAsync(() -> ShardContext.call(shard, () -> work.apply(shard)), executor));
+        }
+        List<T> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<T> future : futures) {
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        pools.forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.enumdemo.simple;
+
+/**
+ * Дії, на які перевіряються ролі (див. RolePermissions).
+ *
+ * 🔹 Кожна константа = один біт у long-масці (1L << ordinal), тому констант не більше 64.
+ *    Маски живуть тільки в пам'яті; у конфігу permissions пишуться за name(), тож порядок можна міняти.
+ */
+enum Permission {
+    VIEW_PROFILE,
+    EDIT_PROFILE,
+    VIEW_TASKS,
+    ACCEPT_TASK,
+    VIEW_REPORTS,
+    MANAGE_USERS,
+    MANAGE_PRICING;
+
+    static {
+        if (values().length > Long.SIZE) {
+            throw new ExceptionInInitializerError("Permission must fit into a long mask: " + values().length + " constants");
+        }
+    }
+
+    private final long mask = 1L << ordinal();
+
+    long mask() {
+        return mask;
+    }
+}
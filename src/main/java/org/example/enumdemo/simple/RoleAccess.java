@@ -0,0 +1,63 @@
+package org.example.enumdemo.simple;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Демо-перевірка прав ролей для коду з інших пакетів (REST-контролери тощо).
+ *
+ * 🔹 Role / Permission / RolePermissions лишаються package-private: назовні — лише маска права
+ *    (permission("MANAGE_USERS") — один раз, у static final) і ім'я ролі викликача.
+ * 🔹 Перевірка = RolePermissions.current().hasAll(role, mask) → актуальний знімок, який перечитує RolePermissionsWatcher.
+ * 🔹 enumdemo.permissions.check-role-header=false (за замовчуванням) → перевірки вимкнені, API поводиться як раніше.
+ * ⚠️ Це НЕ контроль доступу: роль бере сам клієнт (заголовок X-Role), тож будь-хто може надіслати X-Role: ADMIN.
+ *    Перевірка лише показує, як маска прав RolePermissions застосовується до запиту; у справжньому сервісі
+ *    роль має приходити з автентифікованого principal (наприклад, Spring Security), а не з заголовка.
+ */
+@Component
+public class RoleAccess {
+
+    private static final Logger log = LoggerFactory.getLogger(RoleAccess.class);
+
+    private final boolean checkRoleHeader;
+
+    public RoleAccess(@Value("${enumdemo.permissions.check-role-header:false}") boolean checkRoleHeader) {
+        this.checkRoleHeader = checkRoleHeader;
+        if (checkRoleHeader) {
+            log.warn("Role checks use the client-supplied X-Role header; this is a demo, not access control");
+        }
+    }
+
+    /**
+     * Маска права за name(); кидає IllegalArgumentException на невідоме ім'я.
+     */
+    public static long permission(String name) {
+        return Permission.valueOf(name).mask();
+    }
+
+    /**
+     * Кидає 403, якщо роль невідома (або не задана) чи не має права.
+     * Роль — заявлена клієнтом, не перевірена: див. застереження в описі класу.
+     */
+    public void require(String role, long permission) {
+        if (!checkRoleHeader) {
+            return;
+        }
+        if (role == null) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Caller role is required");
+        }
+        Role parsed;
+        try {
+            parsed = Role.valueOf(role);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Unknown role: " + role);
+        }
+        if (!RolePermissions.current().hasAll(parsed, permission)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Role " + role + " is not allowed to do this");
+        }
+    }
+}
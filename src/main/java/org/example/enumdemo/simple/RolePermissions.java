@@ -0,0 +1,108 @@
+package org.example.enumdemo.simple;
+
+import java.util.EnumSet;
+import java.util.Properties;
+
+/**
+ * Незмінний знімок прав: для кожної Role (індекс = ordinal) — long-маска дозволених Permission.
+ *
+ * ✅ Перевірка allowed(role, permission) = читання volatile-посилання + masks[ordinal] & mask:
+ *    без switch, без HashMap, без рядків і алокацій.
+ * 🔹 Правила "компілюються" в маски один раз — при старті (defaults) або при перезавантаженні конфігу
+ *    (fromProperties → publish). Перевірки, що йдуть у цей момент, бачать або старий, або новий знімок повністю.
+ * 🔹 Ключі у конфігу: role.USER.permissions=VIEW_PROFILE,EDIT_PROFILE; "*" → усі права;
+ *    відсутній ключ → права ролі за замовчуванням.
+ */
+final class RolePermissions {
+
+    private static final Role[] ROLES = Role.values();
+    private static final long ALL = -1L >>> (Long.SIZE - Permission.values().length);
+
+    private static volatile RolePermissions current = defaults();
+
+    private final long[] masks;
+
+    private RolePermissions(long[] masks) {
+        this.masks = masks;
+    }
+
+    static RolePermissions current() {
+        return current;
+    }
+
+    static void publish(RolePermissions permissions) {
+        current = permissions;
+    }
+
+    static boolean allowed(Role role, Permission permission) {
+        return (current.masks[role.ordinal()] & permission.mask()) != 0;
+    }
+
+    // 🔹 ті самі правила, що й switch у SimpleDemo
+    static RolePermissions defaults() {
+        long[] masks = new long[ROLES.length];
+        for (Role role : ROLES) {
+            masks[role.ordinal()] = defaultMask(role);
+        }
+        return new RolePermissions(masks);
+    }
+
+    /**
+     * Кидає IllegalArgumentException на невідоме ім'я Permission — увесь конфіг відхиляється.
+     */
+    static RolePermissions fromProperties(Properties properties) {
+        long[] masks = new long[ROLES.length];
+        for (Role role : ROLES) {
+            String key = "role." + role.name() + ".permissions";
+            String value = properties.getProperty(key);
+            masks[role.ordinal()] = value == null ? defaultMask(role) : parse(key, value);
+        }
+        return new RolePermissions(masks);
+    }
+
+    boolean has(Role role, Permission permission) {
+        return (masks[role.ordinal()] & permission.mask()) != 0;
+    }
+
+    // 🔹 для перевірки кількох прав одразу: has(role, A.mask() | B.mask())
+    boolean hasAll(Role role, long required) {
+        return (masks[role.ordinal()] & required) == required;
+    }
+
+    EnumSet<Permission> permissions(Role role) {
+        EnumSet<Permission> result = EnumSet.noneOf(Permission.class);
+        for (Permission permission : Permission.values()) {
+            if (has(role, permission)) {
+                result.add(permission);
+            }
+        }
+        return result;
+    }
+
+    private static long defaultMask(Role role) {
+        return switch (role) {
+            case ADMIN -> ALL;
+            case USER -> Permission.VIEW_PROFILE.mask() | Permission.EDIT_PROFILE.mask();
+            case DRIVER -> Permission.VIEW_PROFILE.mask() | Permission.VIEW_TASKS.mask() | Permission.ACCEPT_TASK.mask();
+        };
+    }
+
+    private static long parse(String key, String value) {
+        if (value.strip().equals("*")) {
+            return ALL;
+        }
+        long mask = 0;
+        for (String name : value.split(",")) {
+            String trimmed = name.strip();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            try {
+                mask |= Permission.valueOf(trimmed).mask();
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown permission in " + key + ": " + trimmed, e);
+            }
+        }
+        return mask;
+    }
+}
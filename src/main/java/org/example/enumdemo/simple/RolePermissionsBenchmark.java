@@ -0,0 +1,111 @@
+package org.example.enumdemo.simple;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Бенчмарк перевірки прав: "чи може role виконати permission".
+ *
+ * ✅ Порівнюємо три дизайни на тих самих 1 млн випадкових пар (role, permission):
+ *   1. switch (role) з порівнянням permission усередині кожної гілки
+ *   2. Map<Role, Set<String>> — типовий "конфіг з рядками" (HashMap + HashSet, contains(permission.name()))
+ *   3. RolePermissions — long-маска по ordinal ролі, одна операція AND
+ *
+ * 🔹 Пари заздалегідь лежать у масивах, тож міряємо саму перевірку. Паралельно підміняємо знімок
+ *    RolePermissions (hot reload) — ціна volatile-читання враховується.
+ */
+public class RolePermissionsBenchmark {
+
+    private static final int CHECKS = 1_000_000;
+    private static final int ROUNDS = 20;
+
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        Role[] roles = new Role[CHECKS];
+        Permission[] permissions = new Permission[CHECKS];
+        for (int i = 0; i < CHECKS; i++) {
+            roles[i] = Role.values()[random.nextInt(Role.values().length)];
+            permissions[i] = Permission.values()[random.nextInt(Permission.values().length)];
+        }
+
+        Map<Role, Set<String>> byName = new HashMap<>();
+        RolePermissions defaults = RolePermissions.defaults();
+        for (Role role : Role.values()) {
+            Set<String> names = new HashSet<>();
+            defaults.permissions(role).forEach(permission -> names.add(permission.name()));
+            byName.put(role, names);
+        }
+
+        // перевіряємо, що всі три дизайни відповідають однаково
+        for (int i = 0; i < CHECKS; i++) {
+            boolean expected = viaSwitch(roles[i], permissions[i]);
+            if (expected != byName.get(roles[i]).contains(permissions[i].name())
+                    || expected != RolePermissions.allowed(roles[i], permissions[i])) {
+                throw new IllegalStateException("Designs disagree for " + roles[i] + " / " + permissions[i]);
+            }
+        }
+
+        // фоновий hot reload: раз на мілісекунду публікуємо новий (еквівалентний) знімок
+        Thread reloader = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                RolePermissions.publish(RolePermissions.defaults());
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        reloader.setDaemon(true);
+        reloader.start();
+
+        for (int pass = 1; pass <= 2; pass++) {
+            System.out.printf("Pass %d:%n", pass);
+            long start = System.nanoTime();
+            long allowed = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                for (int i = 0; i < CHECKS; i++) {
+                    allowed += viaSwitch(roles[i], permissions[i]) ? 1 : 0;
+                }
+            }
+            report("1. switch                ", start, allowed);
+
+            start = System.nanoTime();
+            allowed = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                for (int i = 0; i < CHECKS; i++) {
+                    allowed += byName.get(roles[i]).contains(permissions[i].name()) ? 1 : 0;
+                }
+            }
+            report("2. Map<Role, Set<String>>", start, allowed);
+
+            start = System.nanoTime();
+            allowed = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                for (int i = 0; i < CHECKS; i++) {
+                    allowed += RolePermissions.allowed(roles[i], permissions[i]) ? 1 : 0;
+                }
+            }
+            report("3. RolePermissions mask  ", start, allowed);
+        }
+        reloader.interrupt();
+    }
+
+    // 🔹 "класичний" варіант, як switch у SimpleDemo
+    private static boolean viaSwitch(Role role, Permission permission) {
+        return switch (role) {
+            case ADMIN -> true;
+            case USER -> permission == Permission.VIEW_PROFILE || permission == Permission.EDIT_PROFILE;
+            case DRIVER -> permission == Permission.VIEW_PROFILE || permission == Permission.VIEW_TASKS
+                    || permission == Permission.ACCEPT_TASK;
+        };
+    }
+
+    private static void report(String label, long start, long allowed) {
+        double nanos = (System.nanoTime() - start) / (double) ((long) CHECKS * ROUNDS);
+        System.out.printf("  %s: %5.2f ns/check (allowed %,d)%n", label, nanos, allowed);
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.enumdemo.simple;
+
+import org.example.enumdemo.config.PropertiesFileWatcher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Стежить за файлом прав (enumdemo.permissions.config) і публікує новий RolePermissions.
+ *
+ * 🔹 Перевірка — раз на enumdemo.permissions.reload-interval мс (PropertiesFileWatcher); читання файлу лише при зміні.
+ * 🔹 Якщо файл не задано → права за замовчуванням (RolePermissions.defaults()).
+ * 🔹 Помилка в конфігу → попередження в лог (один раз на версію файлу), старі права лишаються.
+ */
+@Component
+public class RolePermissionsWatcher {
+
+    private final PropertiesFileWatcher watcher;
+
+    public RolePermissionsWatcher(@Value("${enumdemo.permissions.config:}") String file) {
+        this.watcher = new PropertiesFileWatcher("Role permissions", file,
+                properties -> RolePermissions.publish(RolePermissions.fromProperties(properties)));
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${enumdemo.permissions.reload-interval:5000}")
+    public void reloadIfChanged() {
+        watcher.reloadIfChanged();
+    }
+}
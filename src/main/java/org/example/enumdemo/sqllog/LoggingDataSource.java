@@ -0,0 +1,192 @@
+package org.example.enumdemo.sqllog;
+
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Arrays;
+
+/**
+ * JDK-проксі над DataSource → Connection → Statement, що передає кожне виконання в SqlStatementLog.
+ *
+ * ✅ Обгортка PreparedStatement:
+ *   - set*(index, value) → запам'ятовує value у масиві параметрів (саме значення, без форматування)
+ *   - execute* → System.nanoTime() до/після і SqlStatementLog.record(...)
+ * 🔹 Проксі реалізує всі інтерфейси цілі (наприклад, Closeable у HikariDataSource) → Spring закриє пул як раніше;
+ *    unwrap / isWrapperFor делегуються → actuator і метрики Hikari бачать справжній пул.
+ */
+public final class LoggingDataSource {
+
+    private LoggingDataSource() {
+    }
+
+    public static DataSource wrap(DataSource target, SqlStatementLog log) {
+        if (Proxy.isProxyClass(target.getClass()) && Proxy.getInvocationHandler(target) instanceof DataSourceHandler) {
+            return target;
+        }
+        return (DataSource) proxy(target, ClassUtils.getAllInterfaces(target), new DataSourceHandler(target, log));
+    }
+
+    private static Object proxy(Object target, Class<?>[] interfaces, InvocationHandler handler) {
+        return Proxy.newProxyInstance(LoggingDataSource.class.getClassLoader(), interfaces, handler);
+    }
+
+    private abstract static class Handler implements InvocationHandler {
+
+        final Object target;
+
+        Handler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Logging" + target;
+                case "unwrap":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                    break;
+                case "isWrapperFor":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return true;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            return handle(proxy, method, args);
+        }
+
+        abstract Object handle(Object proxy, Method method, Object[] args) throws Throwable;
+
+        final Object delegate(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+
+    private static final class DataSourceHandler extends Handler {
+
+        private final SqlStatementLog log;
+
+        DataSourceHandler(DataSource target, SqlStatementLog log) {
+            super(target);
+            this.log = log;
+        }
+
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = delegate(method, args);
+            if (result instanceof Connection connection && method.getName().equals("getConnection")) {
+                return proxy(connection, new Class<?>[]{Connection.class}, new ConnectionHandler(connection, log));
+            }
+            return result;
+        }
+    }
+
+    private static final class ConnectionHandler extends Handler {
+
+        private final SqlStatementLog log;
+
+        ConnectionHandler(Connection target, SqlStatementLog log) {
+            super(target);
+            this.log = log;
+        }
+
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = delegate(method, args);
+            if (result instanceof Statement statement) {
+                // prepareStatement(sql, ...) / prepareCall(sql, ...) → SQL відомий одразу; createStatement() → на execute
+                String sql = method.getName().startsWith("prepare") ? (String) args[0] : null;
+                return proxy(statement, new Class<?>[]{method.getReturnType()}, new StatementHandler(statement, sql, log));
+            }
+            return result;
+        }
+    }
+
+    private static final class StatementHandler extends Handler {
+
+        private final SqlStatementLog log;
+        private final String sql;
+        private final SqlStatementLog.Shape shape;
+        private Object[] params = new Object[8];
+        private int paramCount;
+        private int batchSize;
+
+        StatementHandler(Statement target, String sql, SqlStatementLog log) {
+            super(target);
+            this.log = log;
+            this.sql = sql;
+            this.shape = sql == null ? null : log.shape(sql);
+        }
+
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            // 🔹 PreparedStatement.setXxx(int index, value[, ...]); setFetchSize(int) тощо мають один аргумент
+            if (args != null && args.length >= 2 && args[0] instanceof Integer index && name.startsWith("set")) {
+                bind(index, name.equals("setNull") ? null : args[1]);
+                return delegate(method, args);
+            }
+            if (name.startsWith("execute")) {
+                return execute(method, args, name);
+            }
+            switch (name) {
+                case "clearParameters" -> {
+                    Arrays.fill(params, 0, paramCount, null);
+                    paramCount = 0;
+                }
+                case "addBatch" -> batchSize++;
+                case "clearBatch" -> batchSize = 0;
+                default -> {
+                }
+            }
+            return delegate(method, args);
+        }
+
+        private Object execute(Method method, Object[] args, String name) throws Throwable {
+            // Statement.execute(sql, ...) → форма з аргументу; PreparedStatement.execute() → з prepareStatement
+            String executed = args != null && args.length > 0 && args[0] instanceof String text ? text : sql;
+            SqlStatementLog.Shape executedShape = executed == sql ? shape : log.shape(executed);
+            boolean failed = true;
+            long start = System.nanoTime();
+            try {
+                Object result = delegate(method, args);
+                failed = false;
+                return result;
+            } finally {
+                long nanos = System.nanoTime() - start;
+                if (executedShape != null) {
+                    log.record(executedShape, executed, params, paramCount, batchSize, nanos, failed);
+                }
+                if (name.endsWith("Batch")) {
+                    batchSize = 0;
+                }
+            }
+        }
+
+        private void bind(int index, Object value) {
+            if (index > params.length) {
+                params = Arrays.copyOf(params, Math.max(index, params.length * 2));
+            }
+            params[index - 1] = value;
+            paramCount = Math.max(paramCount, index);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package org.example.enumdemo.sqllog;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.FileAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Бенчмарк накладних витрат логування SQL на потоці запиту.
+ *
+ * ✅ Один "запит" = prepareStatement + 3 set* (один з них — enum) + executeUpdate + close, як у Hibernate.
+ *    JDBC-драйвер — заглушка (нічого не робить), тож міряємо тільки ціну інструментування:
+ *   1. без логування
+ *   2. show_sql: Hibernate SqlStatementLogger → System.out (перенаправлений у файл, як stdout у контейнері)
+ *   3. show_sql + format_sql
+ *   4. LoggingDataSource + SqlStatementLog (метрики на кожен запит, у лог 1 з 256, асинхронно у файл)
+ *
+ * 🔹 Результат — запитів/с для 1 і 8 потоків; з реальною БД запит коштує сотні мкс,
+ *    тож важлива різниця між варіантами, а не абсолютні значення.
+ */
+public class SqlLogBenchmark {
+
+    private static final String SQL = "insert into employees (employment_type, hourly_rates, role, id) values (?, ?::jsonb, ?, ?)";
+    private static final int STATEMENTS_PER_THREAD = 1_000_000;
+    private static final int SHOW_SQL_STATEMENTS_PER_THREAD = 100_000;
+    private static final int[] THREADS = {1, 8};
+
+    private enum Role { ADMIN, USER, DRIVER }
+
+    @FunctionalInterface
+    private interface Round {
+        void run(int i) throws SQLException;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path dir = Files.createTempDirectory("sql-log-bench");
+        PrintStream stdout = System.out;
+        PrintStream fileStdout = new PrintStream(new BufferedOutputStream(
+                new FileOutputStream(dir.resolve("stdout.log").toFile()), 128), true);
+        fileLogger(dir.resolve("sql.log"));
+
+        DataSource stub = stubDataSource();
+        SqlStatementLogger showSql = new SqlStatementLogger(true, false, false, 0);
+        SqlStatementLogger formatSql = new SqlStatementLogger(true, true, false, 0);
+        SqlStatementLog sqlLog = new SqlStatementLog(new SimpleMeterRegistry(), 256, 100, 4096, 500);
+        DataSource logging = LoggingDataSource.wrap(stub, sqlLog);
+
+        try (Connection plain = stub.getConnection(); Connection wrapped = logging.getConnection()) {
+            for (int threads : THREADS) {
+                stdout.printf("--- %d thread(s) ---%n", threads);
+                report(stdout, "1. no logging           ", threads, STATEMENTS_PER_THREAD, i -> statement(plain, i));
+                System.setOut(fileStdout);
+                report(stdout, "2. show_sql             ", threads, SHOW_SQL_STATEMENTS_PER_THREAD, i -> {
+                    showSql.logStatement(SQL);
+                    statement(plain, i);
+                });
+                report(stdout, "3. show_sql + format_sql", threads, SHOW_SQL_STATEMENTS_PER_THREAD, i -> {
+                    formatSql.logStatement(SQL);
+                    statement(plain, i);
+                });
+                System.setOut(stdout);
+                report(stdout, "4. SqlStatementLog      ", threads, STATEMENTS_PER_THREAD, i -> statement(wrapped, i));
+            }
+        } finally {
+            System.setOut(stdout);
+            sqlLog.close();
+            stdout.printf("SqlStatementLog dropped %,d entries (queue full)%n", sqlLog.dropped());
+            ((LoggerContext) LoggerFactory.getILoggerFactory()).stop();
+            fileStdout.close();
+            try (var files = Files.list(dir)) {
+                files.forEach(file -> file.toFile().delete());
+            }
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    private static void statement(Connection connection, int i) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(SQL)) {
+            statement.setString(1, "FULL_TIME");
+            statement.setString(2, "{\"FULL_TIME\":42.50}");
+            statement.setObject(3, Role.values()[i % 3]);
+            statement.setLong(4, i);
+            statement.executeUpdate();
+        }
+    }
+
+    private static void report(PrintStream out, String label, int threads, int perThread, Round round) throws Exception {
+        // прогрів
+        for (int i = 0; i < Math.min(perThread, 50_000); i++) {
+            round.run(i);
+        }
+        CountDownLatch go = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                try {
+                    go.await();
+                    for (int i = 0; i < perThread; i++) {
+                        round.run(i);
+                    }
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            workers[t].start();
+        }
+        long start = System.nanoTime();
+        go.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - start;
+        out.printf("%s: %,12.0f statements/s%n", label, (long) perThread * threads / (elapsed / 1e9));
+    }
+
+    // 🔹 драйвер-заглушка: executeUpdate повертає 1, решта — no-op
+    private static DataSource stubDataSource() {
+        PreparedStatement statement = (PreparedStatement) Proxy.newProxyInstance(SqlLogBenchmark.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "executeUpdate" -> 1;
+                    case "execute", "isClosed" -> false;
+                    default -> null;
+                });
+        Connection connection = (Connection) Proxy.newProxyInstance(SqlLogBenchmark.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "prepareStatement" -> statement;
+                    case "isClosed" -> false;
+                    default -> null;
+                });
+        return (DataSource) Proxy.newProxyInstance(SqlLogBenchmark.class.getClassLoader(),
+                new Class<?>[]{DataSource.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "getConnection" -> connection;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> null;
+                });
+    }
+
+    private static void fileLogger(Path file) throws IOException {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{ISO8601} %-5level [%thread] %logger %msg%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(context);
+        appender.setFile(file.toString());
+        appender.setEncoder(encoder);
+        appender.start();
+
+        ch.qos.logback.classic.Logger logger = context.getLogger("sql");
+        logger.detachAndStopAllAppenders();
+        logger.addAppender(appender);
+        logger.setAdditive(false);
+        logger.setLevel(Level.INFO);
+    }
+}
@@ -0,0 +1,33 @@
+package org.example.enumdemo.sqllog;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Обгортає DataSource-біни в LoggingDataSource, коли увімкнено enumdemo.sql-log.enabled.
+ *
+ * 🔹 SqlStatementLog (а з ним і MeterRegistry) береться ліниво через ObjectProvider:
+ *    BeanPostProcessor створюється дуже рано, і пряма залежність форсувала б ранню ініціалізацію registry.
+ */
+@Component
+@ConditionalOnProperty(name = "enumdemo.sql-log.enabled", havingValue = "true")
+public class SqlLoggingDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<SqlStatementLog> log;
+
+    public SqlLoggingDataSourcePostProcessor(ObjectProvider<SqlStatementLog> log) {
+        this.log = log;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return LoggingDataSource.wrap(dataSource, log.getObject());
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,256 @@
+package org.example.enumdemo.sqllog;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Заміна hibernate show_sql / format_sql: метрики на кожен запит і асинхронний вибірковий лог.
+ *
+ * ✅ На потоці запиту (record):
+ *   - LongAdder-и "форми" запиту (кількість / сумарний час) → FunctionTimer sql.statement{operation, shape}
+ *   - повільний запит (>= slowThreshold) або 1 з sampleRate → знімок у чергу; більше нічого
+ * ✅ Окремий потік sql-log розбирає чергу: форматує bind-параметри і пише в лог "sql".
+ *
+ * 🔹 Форма запиту = SQL без зайвих пробілів, з літералами ('текст', 42) → ? і "(?, ?, ?)" → "(?...)",
+ *    тож IN-списки різної довжини і вшиті в SQL значення — одна метрика.
+ *    Форма обчислюється один раз на prepareStatement, а не на кожне виконання.
+ * 🔹 Тег shape — короткий хеш форми (8 hex), а не сам SQL; відповідність хеш → SQL пишеться в лог "sql"
+ *    один раз при реєстрації форми.
+ * 🔹 Кількість форм обмежена maxShapes: решта потрапляє в shape="other" (теги Micrometer не ростуть безмежно).
+ *    Кеш сирий SQL → форма теж обмежений (RAW_PER_SHAPE * maxShapes), щоб SQL з літералами не росли в пам'яті.
+ * 🔹 Черга заповнена → запис відкидається і рахується в sql.log.dropped; потік запиту ніколи не чекає на лог.
+ */
+@Component
+@ConditionalOnProperty(name = "enumdemo.sql-log.enabled", havingValue = "true")
+public class SqlStatementLog implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger("sql");
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w$])\\d+(?:\\.\\d+)?(?![\\w$])");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\?(\\s*,\\s*\\?)+\\)");
+    private static final int RAW_PER_SHAPE = 4;
+    private static final int MAX_SHAPE_LENGTH = 256;
+    private static final int MAX_PARAM_LENGTH = 64;
+    private static final long DRAIN_INTERVAL_MS = 50;
+
+    /**
+     * Метрики однієї форми запиту; тримається в обгортці PreparedStatement.
+     */
+    static final class Shape {
+        final String id;
+        final LongAdder count = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+
+        Shape(String id) {
+            this.id = id;
+        }
+    }
+
+    private record Entry(String sql, Object[] params, int batchSize, long nanos, boolean slow, boolean failed) {
+    }
+
+    private final MeterRegistry registry;
+    private final int sampleMask;
+    private final long slowThresholdNanos;
+    private final int maxShapes;
+    // сирий SQL → форма; форма → метрики (різні сирі SQL з однаковою формою ділять одну метрику)
+    private final ConcurrentHashMap<String, Shape> shapes = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Shape> shapesByNormalized = new ConcurrentHashMap<>();
+    private final Shape other;
+    private final BlockingQueue<Entry> queue;
+    private final LongAdder dropped = new LongAdder();
+    private final Thread writer;
+    private volatile boolean closed;
+
+    public SqlStatementLog(MeterRegistry registry,
+                           @Value("${enumdemo.sql-log.sample-rate:256}") int sampleRate,
+                           @Value("${enumdemo.sql-log.slow-threshold-ms:100}") long slowThresholdMillis,
+                           @Value("${enumdemo.sql-log.queue-capacity:4096}") int queueCapacity,
+                           @Value("${enumdemo.sql-log.max-shapes:500}") int maxShapes) {
+        if (sampleRate <= 0 || Integer.bitCount(sampleRate) != 1) {
+            throw new IllegalArgumentException("sampleRate must be a power of two: " + sampleRate);
+        }
+        this.registry = registry;
+        this.sampleMask = sampleRate - 1;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+        this.maxShapes = maxShapes;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.other = register("other", "other");
+        FunctionCounter.builder("sql.log.dropped", dropped, LongAdder::sum).register(registry);
+        this.writer = new Thread(this::drain, "sql-log");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Форма запиту для метрик; викликається один раз на prepareStatement (або на execute(sql) для Statement).
+     */
+    Shape shape(String sql) {
+        Shape shape = shapes.get(sql);
+        if (shape != null) {
+            return shape;
+        }
+        String normalized = normalize(sql);
+        shape = shapesByNormalized.get(normalized);
+        if (shape == null) {
+            shape = shapesByNormalized.size() >= maxShapes
+                    ? other
+                    : shapesByNormalized.computeIfAbsent(normalized, this::register);
+        }
+        if (shapes.size() < maxShapes * RAW_PER_SHAPE) {
+            shapes.putIfAbsent(sql, shape);
+        }
+        return shape;
+    }
+
+    /**
+     * Фіксує виконання запиту. params — живий масив обгортки: копіюється лише якщо запис піде в лог.
+     */
+    void record(Shape shape, String sql, Object[] params, int paramCount, int batchSize, long nanos, boolean failed) {
+        shape.count.increment();
+        shape.totalNanos.add(nanos);
+        boolean slow = nanos >= slowThresholdNanos;
+        if (!slow && !failed && (ThreadLocalRandom.current().nextInt() & sampleMask) != 0) {
+            return;
+        }
+        Entry entry = new Entry(sql, Arrays.copyOf(params, paramCount), batchSize, nanos, slow, failed);
+        if (!queue.offer(entry)) {
+            dropped.increment();
+        }
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+
+    @PreDestroy
+    @Override
+    public void close() {
+        closed = true;
+        writer.interrupt();
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Shape register(String normalized) {
+        String id = shapeId(normalized);
+        String text = normalized.length() > MAX_SHAPE_LENGTH ? normalized.substring(0, MAX_SHAPE_LENGTH) + "..." : normalized;
+        log.info("shape {} = {}", id, text);
+        return register(id, operation(normalized));
+    }
+
+    private Shape register(String id, String operation) {
+        Shape shape = new Shape(id);
+        FunctionTimer.builder("sql.statement", shape, s -> s.count.sum(), s -> s.totalNanos.sum(), TimeUnit.NANOSECONDS)
+                .tag("operation", operation)
+                .tag("shape", id)
+                .register(registry);
+        return shape;
+    }
+
+    // 🔹 не take(): потік, що чекає на take(), будять сигналом на кожен offer (зайве перемикання контексту
+    //    на потоці запиту). Натомість розбираємо чергу пачками і між пачками спимо DRAIN_INTERVAL_MS.
+    private void drain() {
+        List<Entry> batch = new ArrayList<>(256);
+        while (true) {
+            queue.drainTo(batch, 256);
+            if (batch.isEmpty()) {
+                if (closed) {
+                    return;
+                }
+                try {
+                    Thread.sleep(DRAIN_INTERVAL_MS);
+                } catch (InterruptedException e) {
+                    // дописуємо те, що вже в черзі, і виходимо
+                    closed = true;
+                }
+                continue;
+            }
+            batch.forEach(SqlStatementLog::write);
+            batch.clear();
+        }
+    }
+
+    private static void write(Entry entry) {
+        String params = formatParams(entry.params());
+        String batch = entry.batchSize() > 0 ? " batch=" + entry.batchSize() : "";
+        // мікросекунди → мілісекунди з трьома знаками без String.format
+        double millis = (entry.nanos() / 1_000) / 1_000.0;
+        if (entry.failed()) {
+            log.warn("failed {} ms{} {} | params {}", millis, batch, entry.sql(), params);
+        } else if (entry.slow()) {
+            log.warn("slow {} ms{} {} | params {}", millis, batch, entry.sql(), params);
+        } else {
+            log.info("{} ms{} {} | params {}", millis, batch, entry.sql(), params);
+        }
+    }
+
+    // 🔹 рядки в лапках і обрізані, масиви байтів — лише довжина
+    static String formatParams(Object[] params) {
+        StringBuilder out = new StringBuilder("[");
+        for (int i = 0; i < params.length; i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            Object value = params[i];
+            if (value == null) {
+                out.append("null");
+            } else if (value instanceof CharSequence text) {
+                out.append('\'');
+                if (text.length() > MAX_PARAM_LENGTH) {
+                    out.append(text, 0, MAX_PARAM_LENGTH).append("...");
+                } else {
+                    out.append(text);
+                }
+                out.append('\'');
+            } else if (value instanceof byte[] bytes) {
+                out.append('<').append(bytes.length).append(" bytes>");
+            } else {
+                out.append(value);
+            }
+        }
+        return out.append(']').toString();
+    }
+
+    static String normalize(String sql) {
+        String normalized = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        normalized = STRING_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        return PARAMETER_LIST.matcher(normalized).replaceAll("(?...)");
+    }
+
+    // 🔹 String.hashCode() визначений специфікацією → однаковий id форми на всіх вузлах і після рестарту
+    static String shapeId(String normalized) {
+        String hex = Integer.toHexString(normalized.hashCode());
+        return "0".repeat(8 - hex.length()) + hex;
+    }
+
+    private static String operation(String sql) {
+        int space = sql.indexOf(' ');
+        return (space < 0 ? sql : sql.substring(0, space)).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.enumdemo.stats;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free статистика значень (count / sum / min / max / histogram) окремо для кожної константи enum.
+ *
+ * ✅ Ідея:
+ *   - усі комірки лежать у масивах, індекс = ordinal() → жодних map-пошуків на гарячому шляху
+ *   - count, sum і бакети гістограми — LongAdder / DoubleAdder (вони самі розносять запис по striped-комірках)
+ *   - min / max — AtomicLongArray з кроком PAD: кожна константа займає власні 128 байт,
+ *     тому CAS по BUS не "б'є" кеш-лінію TAXI (false sharing)
+ *
+ * 🔹 snapshotAndReset() забирає накопичене і обнуляє комірки.
+ *    ⚠️ Між полями знімок не атомарний: запис, що йде паралельно, може потрапити в count цього знімку, а в sum — наступного.
+ *    Для моніторингу це нормально, сумарно нічого не губиться.
+ */
+public final class EnumStats<E extends Enum<E>> {
+
+    // 16 long = 128 байт → дві кеш-лінії (враховуємо adjacent-line prefetch)
+    private static final int PAD = 16;
+
+    private final Class<E> enumType;
+    private final double[] bucketUpperBounds;
+
+    private final LongAdder[] counts;
+    private final DoubleAdder[] sums;
+    private final LongAdder[][] histograms;
+    private final AtomicLongArray mins;
+    private final AtomicLongArray maxs;
+
+    /**
+     * @param bucketUpperBounds відсортовані верхні межі бакетів гістограми;
+     *                          останній бакет (значення > останньої межі) додається автоматично
+     */
+    public EnumStats(Class<E> enumType, double... bucketUpperBounds) {
+        this.enumType = enumType;
+        this.bucketUpperBounds = bucketUpperBounds.clone();
+        Arrays.sort(this.bucketUpperBounds);
+
+        int size = enumType.getEnumConstants().length;
+        this.counts = new LongAdder[size];
+        this.sums = new DoubleAdder[size];
+        this.histograms = new LongAdder[size][this.bucketUpperBounds.length + 1];
+        this.mins = new AtomicLongArray(size * PAD);
+        this.maxs = new AtomicLongArray(size * PAD);
+        for (int i = 0; i < size; i++) {
+            counts[i] = new LongAdder();
+            sums[i] = new DoubleAdder();
+            for (int b = 0; b < histograms[i].length; b++) {
+                histograms[i][b] = new LongAdder();
+            }
+            resetMinMax(i);
+        }
+    }
+
+    public void record(E constant, double value) {
+        int i = constant.ordinal();
+        counts[i].increment();
+        sums[i].add(value);
+        histograms[i][bucketOf(value)].increment();
+        updateMin(i * PAD, value);
+        updateMax(i * PAD, value);
+    }
+
+    public Map<E, Snapshot> snapshot() {
+        return collect(false);
+    }
+
+    public Map<E, Snapshot> snapshotAndReset() {
+        return collect(true);
+    }
+
+    private Map<E, Snapshot> collect(boolean reset) {
+        EnumMap<E, Snapshot> result = new EnumMap<>(enumType);
+        for (E constant : enumType.getEnumConstants()) {
+            int i = constant.ordinal();
+            long count = reset ? counts[i].sumThenReset() : counts[i].sum();
+            double sum = reset ? sums[i].sumThenReset() : sums[i].sum();
+            long[] histogram = new long[histograms[i].length];
+            for (int b = 0; b < histogram.length; b++) {
+                histogram[b] = reset ? histograms[i][b].sumThenReset() : histograms[i][b].sum();
+            }
+            double min = Double.longBitsToDouble(reset
+                    ? mins.getAndSet(i * PAD, Double.doubleToRawLongBits(Double.POSITIVE_INFINITY))
+                    : mins.get(i * PAD));
+            double max = Double.longBitsToDouble(reset
+                    ? maxs.getAndSet(i * PAD, Double.doubleToRawLongBits(Double.NEGATIVE_INFINITY))
+                    : maxs.get(i * PAD));
+            result.put(constant, new Snapshot(count, sum, min, max, histogram));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    public double[] getBucketUpperBounds() {
+        return bucketUpperBounds.clone();
+    }
+
+    // 🔹 бінарний пошук по межах; значення рівне межі потрапляє в її бакет
+    private int bucketOf(double value) {
+        int idx = Arrays.binarySearch(bucketUpperBounds, value);
+        return idx >= 0 ? idx : -idx - 1;
+    }
+
+    private void updateMin(int slot, double value) {
+        long current = mins.get(slot);
+        while (value < Double.longBitsToDouble(current)
+                && !mins.weakCompareAndSetVolatile(slot, current, Double.doubleToRawLongBits(value))) {
+            current = mins.get(slot);
+        }
+    }
+
+    private void updateMax(int slot, double value) {
+        long current = maxs.get(slot);
+        while (value > Double.longBitsToDouble(current)
+                && !maxs.weakCompareAndSetVolatile(slot, current, Double.doubleToRawLongBits(value))) {
+            current = maxs.get(slot);
+        }
+    }
+
+    private void resetMinMax(int ordinal) {
+        mins.set(ordinal * PAD, Double.doubleToRawLongBits(Double.POSITIVE_INFINITY));
+        maxs.set(ordinal * PAD, Double.doubleToRawLongBits(Double.NEGATIVE_INFINITY));
+    }
+
+    /**
+     * Незмінний знімок статистики однієї константи.
+     * Якщо значень не було → count = 0, min = +∞, max = -∞.
+     */
+    public record Snapshot(long count, double sum, double min, double max, long[] histogram) {
+
+        public double mean() {
+            return count == 0 ? 0.0 : sum / count;
+        }
+
+        @Override
+        public String toString() {
+            return "count=" + count + ", sum=" + sum + ", mean=" + mean()
+                    + ", min=" + (count == 0 ? "-" : min) + ", max=" + (count == 0 ? "-" : max)
+                    + ", histogram=" + Arrays.toString(histogram);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.enumdemo.strategy;
+
+import java.util.List;
+
+/**
+ * Транспорт одного каналу нотифікацій: отримує готовий текст і пачку отримувачів.
+ *
+ * 🔹 За замовчуванням NotificationFanOut використовує NotificationType::sendBatch,
+ *    а в реальному застосунку тут буде SMTP-клієнт, SMS-шлюз чи FCM.
+ */
+@FunctionalInterface
+public interface ChannelTransport {
+
+    void sendBatch(String payload, List<String> recipients);
+}
@@ -0,0 +1,53 @@
+package org.example.enumdemo.strategy;
+
+/**
+ * Публічний доступ до DiscountType через числовий код (= ordinal) для коду з інших пакетів.
+ *
+ * 🔹 Сам DiscountType лишається package-private (як і всі enum-и в демо),
+ *    а колонкові сховища, кеші тощо працюють з примітивним кодом і не тягнуть enum-посилання.
+ * ⚠️ Код = ordinal → годиться для пам'яті та файлів, які перевіряють порядок констант (див. names()),
+ *    але не як ключ у БД.
+ */
+public final class DiscountCodes {
+
+    private static final DiscountType[] TYPES = DiscountType.values();
+
+    private DiscountCodes() {
+    }
+
+    public static int count() {
+        return TYPES.length;
+    }
+
+    public static String name(int code) {
+        return TYPES[code].name();
+    }
+
+    public static String[] names() {
+        String[] names = new String[TYPES.length];
+        for (DiscountType type : TYPES) {
+            names[type.ordinal()] = type.name();
+        }
+        return names;
+    }
+
+    public static int codeOf(String name) {
+        return DiscountType.valueOf(name).ordinal();
+    }
+
+    public static double applyDiscount(int code, double price) {
+        return TYPES[code].applyDiscount(price);
+    }
+
+    /**
+     * Множник ціни після знижки для кожного коду: price * factors[code].
+     * Усі знижки в DiscountType відсоткові (лінійні), тому множник = applyDiscount(1.0).
+     */
+    public static double[] factors() {
+        double[] factors = new double[TYPES.length];
+        for (DiscountType type : TYPES) {
+            factors[type.ordinal()] = type.applyDiscount(1.0);
+        }
+        return factors;
+    }
+}
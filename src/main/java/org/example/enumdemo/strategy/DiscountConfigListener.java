@@ -0,0 +1,19 @@
+package org.example.enumdemo.strategy;
+
+import org.example.enumdemo.config.PricingConfigListener;
+import org.example.enumdemo.config.PricingSnapshot;
+import org.springframework.stereotype.Component;
+
+import java.util.Properties;
+
+/**
+ * Будує новий DiscountTable після зміни файлу цін (публікує його PricingConfigWatcher разом з іншими частинами).
+ */
+@Component
+public class DiscountConfigListener implements PricingConfigListener {
+
+    @Override
+    public PricingSnapshot prepare(Properties properties, PricingSnapshot draft) {
+        return draft.withDiscounts(DiscountTable.fromProperties(properties));
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.enumdemo.strategy;
+
+import org.example.enumdemo.stats.EnumStats;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Приклад: жива статистика цін після знижки по кожному DiscountType.
+ *
+ * ✅ Тут ми показуємо:
+ *   - як багато потоків одночасно пишуть у EnumStats без локів
+ *   - як періодично забирати знімок через snapshotAndReset() (наприклад, раз на хвилину для звіту)
+ */
+public class DiscountStatsDemo {
+
+    public static void main(String[] args) throws InterruptedException {
+        EnumStats<DiscountType> stats = new EnumStats<>(DiscountType.class, 50, 100, 200, 500);
+        DiscountType[] types = DiscountType.values();
+
+        // 1️⃣ 200 потоків застосовують знижки до випадкових цін
+        ExecutorService pool = Executors.newFixedThreadPool(200);
+        for (int t = 0; t < 200; t++) {
+            pool.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < 10_000; i++) {
+                    DiscountType type = types[random.nextInt(types.length)];
+                    stats.record(type, type.applyDiscount(random.nextDouble(10, 1_000)));
+                }
+            });
+        }
+        pool.shutdown();
+        pool.awaitTermination(1, TimeUnit.MINUTES);
+
+        // 2️⃣ Знімок із обнуленням
+        Map<DiscountType, EnumStats.Snapshot> snapshot = stats.snapshotAndReset();
+        System.out.println("1. Discounted prices per type:");
+        snapshot.forEach((type, s) -> System.out.println("- " + type.name() + ": " + s));
+
+        // 3️⃣ Після reset статистика порожня
+        System.out.println("\n2. After reset: " + stats.snapshot().get(DiscountType.SEASONAL));
+    }
+}
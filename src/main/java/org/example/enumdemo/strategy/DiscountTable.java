@@ -0,0 +1,73 @@
+package org.example.enumdemo.strategy;
+
+import org.example.enumdemo.config.PricingSnapshot;
+
+import java.util.Properties;
+
+/**
+ * Незмінний знімок відсотків DiscountType з індексом = ordinal.
+ *
+ * 🔹 Частина PricingSnapshot (одне volatile-посилання на всі ціни): getPercent() — wait-free читання,
+ *    а перезавантаження конфігу атомарно підміняє весь знімок разом із тарифами.
+ * 🔹 Ключі у конфігу: discount.SEASONAL.percent=10 ... Відсутній ключ → значення з конструктора enum.
+ */
+public final class DiscountTable {
+
+    private static final DiscountType[] TYPES = DiscountType.values();
+
+    private final int[] percents;
+
+    private DiscountTable(int[] percents) {
+        this.percents = percents;
+    }
+
+    public static DiscountTable current() {
+        return PricingSnapshot.current().discounts();
+    }
+
+    // 🔹 лише ця частина; файл цін публікує всі частини разом через PricingConfigWatcher
+    public static void publish(DiscountTable table) {
+        PricingSnapshot.update(snapshot -> snapshot.withDiscounts(table));
+    }
+
+    public static DiscountTable defaults() {
+        int[] percents = new int[TYPES.length];
+        for (DiscountType type : TYPES) {
+            percents[type.ordinal()] = type.defaultPercent();
+        }
+        return new DiscountTable(percents);
+    }
+
+    /**
+     * Кидає IllegalArgumentException, якщо відсоток не ціле число в межах 0..100.
+     */
+    public static DiscountTable fromProperties(Properties properties) {
+        int[] percents = new int[TYPES.length];
+        for (DiscountType type : TYPES) {
+            String key = "discount." + type.name() + ".percent";
+            String value = properties.getProperty(key);
+            if (value == null) {
+                percents[type.ordinal()] = type.defaultPercent();
+                continue;
+            }
+            try {
+                percents[type.ordinal()] = Integer.parseInt(value.strip());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid " + key + ": " + value, e);
+            }
+            if (percents[type.ordinal()] < 0 || percents[type.ordinal()] > 100) {
+                throw new IllegalArgumentException("Invalid " + key + ": " + value);
+            }
+        }
+        return new DiscountTable(percents);
+    }
+
+    public int percent(int code) {
+        return percents[code];
+    }
+
+    // 🔹 усі знижки в DiscountType відсоткові (NONE = 0%) → ціна зі знижкою рахується прямо з цього знімка
+    public double apply(int code, double price) {
+        return price - (price * percents[code] / 100.0);
+    }
+}
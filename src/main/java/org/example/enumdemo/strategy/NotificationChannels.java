@@ -0,0 +1,37 @@
+package org.example.enumdemo.strategy;
+
+import org.example.enumdemo.text.EnumEncodings;
+
+import java.util.List;
+
+/**
+ * Публічний доступ до NotificationType через стабільний код (NotificationType.getCode()) для інших пакетів.
+ *
+ * 🔹 Код (а не ordinal) безпечно зберігати в БД — наприклад, у колонці channel таблиці notification_outbox.
+ */
+public final class NotificationChannels {
+
+    public static final short EMAIL = NotificationType.EMAIL.getCode();
+    public static final short SMS = NotificationType.SMS.getCode();
+    public static final short PUSH = NotificationType.PUSH.getCode();
+
+    private static final EnumEncodings<NotificationType> ENCODINGS = EnumEncodings.of(NotificationType.class);
+
+    private NotificationChannels() {
+    }
+
+    public static String name(int code) {
+        return NotificationType.fromCode(code).name();
+    }
+
+    // 🔹 name() у UTF-8 для Utf8LineBuffer; масив спільний — лише для читання
+    public static byte[] encodedName(int code) {
+        return ENCODINGS.name(NotificationType.fromCode(code));
+    }
+
+    // 🔹 рендер під канал + відправка одному отримувачу
+    public static void dispatch(int code, String recipient, String message) {
+        NotificationType type = NotificationType.fromCode(code);
+        type.sendBatch(type.render(message), List.of(recipient));
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.enumdemo.strategy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Масова розсилка однієї події по кількох каналах (EMAIL, SMS, PUSH).
+ *
+ * ✅ Замість "send() на кожного отримувача в кожному каналі":
+ *   - дублікати отримувачів прибираються один раз (LinkedHashSet зберігає порядок)
+ *   - текст рендериться один раз на канал (NotificationType.render)
+ *   - отримувачі діляться на пачки по batchSize і віддаються транспорту каналу
+ *
+ * 🔹 Транспорти тримаємо в EnumMap: канал → ChannelTransport.
+ * 🔹 Ззовні пакета канали задаються кодами NotificationChannels (EMAIL, SMS, PUSH).
+ */
+public class NotificationFanOut {
+
+    private final EnumMap<NotificationType, ChannelTransport> transports;
+    private final int batchSize;
+
+    public NotificationFanOut(int batchSize) {
+        this(defaultTransports(), batchSize);
+    }
+
+    NotificationFanOut(Map<NotificationType, ChannelTransport> transports, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        this.transports = new EnumMap<>(transports);
+        this.batchSize = batchSize;
+    }
+
+    private static Map<NotificationType, ChannelTransport> defaultTransports() {
+        EnumMap<NotificationType, ChannelTransport> transports = new EnumMap<>(NotificationType.class);
+        for (NotificationType type : NotificationType.values()) {
+            transports.put(type, type::sendBatch);
+        }
+        return transports;
+    }
+
+    /**
+     * @param channels коди каналів (NotificationChannels.EMAIL / SMS / PUSH)
+     * @return скільки повідомлень передано транспорту кожного каналу, ключ — ім'я каналу
+     * @throws IllegalArgumentException невідомий код каналу
+     */
+    public Map<String, Integer> send(String message, Collection<String> recipients, int... channels) {
+        Set<NotificationType> types = new LinkedHashSet<>();
+        for (int code : channels) {
+            types.add(NotificationType.fromCode(code));
+        }
+        Map<String, Integer> sent = new LinkedHashMap<>();
+        send(message, recipients, types).forEach((type, count) -> sent.put(type.name(), count));
+        return sent;
+    }
+
+    /**
+     * @return скільки повідомлень передано транспорту кожного каналу
+     */
+    Map<NotificationType, Integer> send(String message, Collection<String> recipients, Set<NotificationType> channels) {
+        List<String> unique = new ArrayList<>(new LinkedHashSet<>(recipients));
+        EnumMap<NotificationType, Integer> sent = new EnumMap<>(NotificationType.class);
+        for (NotificationType channel : channels) {
+            ChannelTransport transport = transports.get(channel);
+            if (transport == null) {
+                throw new IllegalStateException("No transport for channel " + channel);
+            }
+            String payload = channel.render(message);
+            for (int from = 0; from < unique.size(); from += batchSize) {
+                // subList — представлення без копіювання
+                transport.sendBatch(payload, Collections.unmodifiableList(
+                        unique.subList(from, Math.min(from + batchSize, unique.size()))));
+            }
+            sent.put(channel, unique.size());
+        }
+        return sent;
+    }
+}
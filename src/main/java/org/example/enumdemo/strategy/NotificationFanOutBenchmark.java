@@ -0,0 +1,77 @@
+package org.example.enumdemo.strategy;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Бенчмарк розсилки: 10 000 отримувачів (10% дублікатів) × 3 канали.
+ *
+ * ✅ Порівнюємо:
+ *   1. наївно: для кожного отримувача і каналу — render() + окремий виклик транспорту
+ *   2. NotificationFanOut: дедуплікація, один render() на канал, пачки по 500
+ *
+ * 🔹 Транспорт — no-op (лише рахує), тому міряємо саме накладні витрати розсилки:
+ *    повідомлень/с та байтів алокацій на одне повідомлення (ThreadMXBean поточного потоку).
+ */
+public class NotificationFanOutBenchmark {
+
+    private static final int RECIPIENTS = 10_000;
+    private static final int ROUNDS = 200;
+    private static final String TEMPLATE = "Your trip has been confirmed. Driver arrives in 5 minutes. "
+            + "Track the car in the app and rate the ride when you arrive. Thank you for travelling with us! "
+            + "Questions? Reply to this message any time.";
+
+    private static long delivered;
+
+    public static void main(String[] args) {
+        List<String> recipients = new ArrayList<>(RECIPIENTS);
+        for (int i = 0; i < RECIPIENTS; i++) {
+            // кожен 10-й — дублікат попереднього
+            recipients.add("user-" + (i % 10 == 9 ? i - 1 : i));
+        }
+        Set<NotificationType> channels = EnumSet.allOf(NotificationType.class);
+
+        Map<NotificationType, ChannelTransport> transports = new EnumMap<>(NotificationType.class);
+        for (NotificationType type : NotificationType.values()) {
+            transports.put(type, (payload, batch) -> delivered += batch.size());
+        }
+        NotificationFanOut fanOut = new NotificationFanOut(transports, 500);
+
+        for (int i = 0; i < ROUNDS; i++) {
+            naive(recipients, channels, transports);
+            fanOut.send(TEMPLATE, recipients, channels);
+        }
+
+        report("1. Per recipient per channel", () -> naive(recipients, channels, transports));
+        report("2. NotificationFanOut        ", () -> fanOut.send(TEMPLATE, recipients, channels));
+    }
+
+    private static void naive(List<String> recipients, Set<NotificationType> channels,
+                              Map<NotificationType, ChannelTransport> transports) {
+        for (String recipient : recipients) {
+            for (NotificationType channel : channels) {
+                transports.get(channel).sendBatch(channel.render(TEMPLATE), List.of(recipient));
+            }
+        }
+    }
+
+    private static void report(String label, Runnable round) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long deliveredBefore = delivered;
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            round.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        long messages = delivered - deliveredBefore;
+        System.out.printf("%s: %,.0f messages/s, %.1f bytes allocated/message (%,d messages)%n",
+                label, messages / (elapsed / 1e9), allocated / (double) messages, messages);
+    }
+}
@@ -1,5 +1,7 @@
 package org.example.enumdemo.strategy;
 
+import java.util.List;
+
 /**
  * Приклад №3: Enum як mini-Strategy.
  *
@@ -39,37 +41,83 @@ public class StrategyDemo {
  *  - власну реалізацію методу send()
  */
 enum NotificationType {
-    EMAIL("Email notification") {
+    EMAIL(1, "Email notification") {
         @Override
         public void send(String message) {
             System.out.println("[EMAIL] Sending email with message: " + message);
         }
     },
-    SMS("SMS notification") {
+    SMS(2, "SMS notification") {
         @Override
         public void send(String message) {
             System.out.println("[SMS] Sending SMS with message: " + message);
         }
+
+        // 🔹 SMS обмежене 160 символами
+        @Override
+        public String render(String message) {
+            return truncate(message, 160);
+        }
     },
-    PUSH("Push notification") {
+    PUSH(3, "Push notification") {
         @Override
         public void send(String message) {
             System.out.println("[PUSH] Sending push notification: " + message);
         }
+
+        // 🔹 push-повідомлення показується в шторці → коротке
+        @Override
+        public String render(String message) {
+            return truncate(message, 100);
+        }
     };
 
+    // 🔹 стабільний код для БД (ordinal зберігати не можна — порядок констант може змінитися)
+    private final short code;
     private final String description;
 
-    NotificationType(String description) {
+    NotificationType(int code, String description) {
+        this.code = (short) code;
         this.description = description;
     }
 
+    public short getCode() {
+        return code;
+    }
+
     public String getDescription() {
         return description;
     }
 
+    public static NotificationType fromCode(int code) {
+        for (NotificationType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown notification code: " + code);
+    }
+
     // 🔹 абстрактний метод, який має реалізувати кожна константа
     public abstract void send(String message);
+
+    // 🔹 підготовка тексту під канал (за замовчуванням — без змін); викликається один раз на розсилку
+    public String render(String message) {
+        return message;
+    }
+
+    // 🔹 одна пачка отримувачів з уже підготовленим текстом (див. NotificationFanOut)
+    public void sendBatch(String payload, List<String> recipients) {
+        System.out.println("[" + name() + "] Sending to " + recipients.size() + " recipients: " + payload);
+    }
+
+    // 🔹 межа — у code point-ах: емодзі (surrogate pair) не розрізається навпіл
+    private static String truncate(String message, int maxLength) {
+        if (message.length() <= maxLength || message.codePointCount(0, message.length()) <= maxLength) {
+            return message;
+        }
+        return message.substring(0, message.offsetByCodePoints(0, maxLength - 1)) + "…";
+    }
 }
 
 /*
@@ -74,6 +74,7 @@ enum DiscountType {
         }
     };
 
+    // 🔹 значення з конструктора — дефолт; актуальний відсоток береться з DiscountTable (перезавантажується з конфігу)
     private final int percent;
 
     DiscountType(int percent) {
@@ -81,6 +82,10 @@ enum DiscountType {
     }
 
     public int getPercent() {
+        return DiscountTable.current().percent(ordinal());
+    }
+
+    int defaultPercent() {
         return percent;
     }
 
@@ -0,0 +1,57 @@
+package org.example.enumdemo.strategy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.enumdemo.metrics.EnumMeters;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Інструментовані стратегії: відправка нотифікацій (через неї йде OutboxRelay)
+ * і знижки (через них рахує ціну поїздки TripPricing).
+ *
+ * 🔹 Метрики (тег = ім'я константи):
+ *   - enumdemo.notification.count / enumdemo.notification.duration {notification_type=EMAIL|SMS|PUSH}
+ *   - enumdemo.discount.count / enumdemo.discount.duration         {discount_type=SEASONAL|LOYALTY|NONE}
+ *
+ * 🔹 Доступні через /actuator/prometheus.
+ * 🔹 Невдала відправка теж рахується (count/duration), помилка пробрасується далі.
+ */
+@Component
+public class StrategyMetrics {
+
+    private static final DiscountType[] DISCOUNTS = DiscountType.values();
+
+    private final EnumMeters<NotificationType> notifications;
+    private final EnumMeters<DiscountType> discounts;
+
+    public StrategyMetrics(MeterRegistry registry) {
+        this.notifications = new EnumMeters<>(registry, "enumdemo.notification", NotificationType.class);
+        this.discounts = new EnumMeters<>(registry, "enumdemo.discount", DiscountType.class);
+    }
+
+    // 🔹 те саме, що NotificationChannels.dispatch, але з метриками каналу
+    public void dispatch(int code, String recipient, String message) {
+        NotificationType type = NotificationType.fromCode(code);
+        long start = notifications.start();
+        try {
+            type.sendBatch(type.render(message), List.of(recipient));
+        } finally {
+            notifications.stop(type, start);
+        }
+    }
+
+    /**
+     * Ціна після знижки з коду (= ordinal, див. DiscountCodes) з метриками знижки.
+     * Таблицю передає викликач — з того самого PricingSnapshot, з якого взято тариф.
+     */
+    public double applyDiscount(DiscountTable table, int code, double price) {
+        DiscountType type = DISCOUNTS[code];
+        long start = discounts.start();
+        try {
+            return table.apply(code, price);
+        } finally {
+            discounts.stop(type, start);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.enumdemo.strategy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.enumdemo.metrics.EnumMeters;
+
+/**
+ * Бенчмарк: скільки коштує інструментація виклику стратегії через EnumMeters (те, що робить StrategyMetrics.applyDiscount).
+ *
+ * ✅ Порівнюємо:
+ *   - прямий виклик type.applyDiscount(price)
+ *   - той самий виклик між EnumMeters.start() / stop() (counter + timer з EnumMap)
+ *
+ * 🔹 applyDiscount, а не відправка нотифікації: сама стратегія має бути дешевою, щоб було видно накладні витрати.
+ * 🔹 Ціль: різниця між ними має бути значно менше 50 ns на виклик.
+ * 🔹 Запуск: main() (без Spring, з SimpleMeterRegistry).
+ */
+public class StrategyMetricsBenchmark {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int ROUNDS = 10;
+    private static final int CALLS = 5_000_000;
+
+    // щоб JIT не викинув обчислення
+    private static double sink;
+
+    public static void main(String[] args) {
+        EnumMeters<DiscountType> meters = new EnumMeters<>(new SimpleMeterRegistry(), "enumdemo.discount", DiscountType.class);
+        DiscountType[] types = DiscountType.values();
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            plain(types);
+            instrumented(meters, types);
+        }
+
+        double plainNs = 0;
+        double instrumentedNs = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            plainNs += plain(types);
+            instrumentedNs += instrumented(meters, types);
+        }
+        plainNs /= ROUNDS;
+        instrumentedNs /= ROUNDS;
+
+        System.out.printf("1. Plain applyDiscount        = %.2f ns/call%n", plainNs);
+        System.out.printf("2. Instrumented applyDiscount = %.2f ns/call%n", instrumentedNs);
+        System.out.printf("3. Overhead                   = %.2f ns/call%n", instrumentedNs - plainNs);
+        System.out.println("(sink=" + sink + ")");
+    }
+
+    private static double plain(DiscountType[] types) {
+        long start = System.nanoTime();
+        double acc = 0;
+        for (int i = 0; i < CALLS; i++) {
+            acc += types[i % types.length].applyDiscount(i);
+        }
+        sink += acc;
+        return (System.nanoTime() - start) / (double) CALLS;
+    }
+
+    private static double instrumented(EnumMeters<DiscountType> meters, DiscountType[] types) {
+        long start = System.nanoTime();
+        double acc = 0;
+        for (int i = 0; i < CALLS; i++) {
+            DiscountType type = types[i % types.length];
+            long timer = meters.start();
+            acc += type.applyDiscount(i);
+            meters.stop(type, timer);
+        }
+        sink += acc;
+        return (System.nanoTime() - start) / (double) CALLS;
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.enumdemo.text;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+/**
+ * Заздалегідь закодовані в UTF-8 name() і display-рядки всіх констант enum, з індексом = ordinal.
+ *
+ * ✅ Навіщо: "status=" + status у лог-рядку щоразу копіює chars у новий String,
+ *    а потім ще раз кодує весь рядок у байти. Тут байти константи готові один раз назавжди,
+ *    і Utf8LineBuffer просто копіює їх у свій буфер — без алокацій.
+ *
+ * 🔹 of(type) — display = toString() (Status2, Role2 перевизначають його), кешується на клас через ClassValue.
+ * 🔹 of(type, display) — явна функція (наприклад, EmploymentType::getDisplayName); результат варто тримати в полі.
+ * ⚠️ Масиви спільні й не копіюються — тільки для читання.
+ */
+public final class EnumEncodings<E extends Enum<E>> {
+
+    private static final ClassValue<EnumEncodings<?>> BY_TOSTRING = new ClassValue<>() {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected EnumEncodings<?> computeValue(Class<?> type) {
+            return new EnumEncodings(type, (Function<Enum<?>, String>) Enum::toString);
+        }
+    };
+
+    private final byte[][] names;
+    private final byte[][] displays;
+
+    private EnumEncodings(Class<E> type, Function<? super E, String> display) {
+        E[] constants = type.getEnumConstants();
+        if (constants == null) {
+            throw new IllegalArgumentException("Not an enum: " + type);
+        }
+        this.names = new byte[constants.length][];
+        this.displays = new byte[constants.length][];
+        for (E constant : constants) {
+            names[constant.ordinal()] = constant.name().getBytes(StandardCharsets.UTF_8);
+            displays[constant.ordinal()] = display.apply(constant).getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> EnumEncodings<E> of(Class<E> type) {
+        return (EnumEncodings<E>) BY_TOSTRING.get(type);
+    }
+
+    public static <E extends Enum<E>> EnumEncodings<E> of(Class<E> type, Function<? super E, String> display) {
+        return new EnumEncodings<>(type, display);
+    }
+
+    // 🔹 для enum-значень, тип яких відомий лише під час виконання (getDeclaringClass(), а не getClass():
+    //    у констант з тілом, як NotificationType.EMAIL, getClass() — анонімний підклас)
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static byte[] nameOf(Enum<?> constant) {
+        return ((EnumEncodings) BY_TOSTRING.get(constant.getDeclaringClass())).names[constant.ordinal()];
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static byte[] displayOf(Enum<?> constant) {
+        return ((EnumEncodings) BY_TOSTRING.get(constant.getDeclaringClass())).displays[constant.ordinal()];
+    }
+
+    public byte[] name(E constant) {
+        return names[constant.ordinal()];
+    }
+
+    public byte[] display(E constant) {
+        return displays[constant.ordinal()];
+    }
+}
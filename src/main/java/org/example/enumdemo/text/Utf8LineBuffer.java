@@ -0,0 +1,131 @@
+package org.example.enumdemo.text;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Байтовий буфер для складання рядків виводу (лог, CSV, текстові відповіді) без проміжних String.
+ *
+ * ✅ Що пишемо:
+ *   - enum → готові байти з EnumEncodings (name / display), без toString() і без кодування
+ *   - числа → цифри прямо в буфер (без Long.toString)
+ *   - довільний текст → ручне кодування UTF-8 по символах (без getBytes)
+ * ✅ Буфер перевикористовується: reset() між рядками, writeTo(out) — один write на рядок.
+ *
+ * ⚠️ Не потокобезпечний: один буфер на потік (поле воркера або ThreadLocal).
+ */
+public final class Utf8LineBuffer {
+
+    private byte[] bytes;
+    private int size;
+
+    public Utf8LineBuffer() {
+        this(256);
+    }
+
+    public Utf8LineBuffer(int initialCapacity) {
+        this.bytes = new byte[initialCapacity];
+    }
+
+    public Utf8LineBuffer append(byte[] encoded) {
+        ensure(encoded.length);
+        System.arraycopy(encoded, 0, bytes, size, encoded.length);
+        size += encoded.length;
+        return this;
+    }
+
+    public Utf8LineBuffer append(char ascii) {
+        if (ascii >= 0x80) {
+            return append(String.valueOf(ascii));
+        }
+        ensure(1);
+        bytes[size++] = (byte) ascii;
+        return this;
+    }
+
+    public Utf8LineBuffer append(long value) {
+        if (value == Long.MIN_VALUE) {
+            return append("-9223372036854775808");
+        }
+        ensure(20);
+        if (value < 0) {
+            bytes[size++] = '-';
+            value = -value;
+        }
+        int digits = digits(value);
+        int end = size + digits;
+        for (int i = end - 1; i >= size; i--) {
+            bytes[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        size = end;
+        return this;
+    }
+
+    public Utf8LineBuffer append(CharSequence text) {
+        ensure(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                bytes[size++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[size++] = (byte) (0xC0 | c >> 6);
+                bytes[size++] = (byte) (0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, text.charAt(++i));
+                bytes[size++] = (byte) (0xF0 | cp >> 18);
+                bytes[size++] = (byte) (0x80 | cp >> 12 & 0x3F);
+                bytes[size++] = (byte) (0x80 | cp >> 6 & 0x3F);
+                bytes[size++] = (byte) (0x80 | cp & 0x3F);
+            } else {
+                bytes[size++] = (byte) (0xE0 | c >> 12);
+                bytes[size++] = (byte) (0x80 | c >> 6 & 0x3F);
+                bytes[size++] = (byte) (0x80 | c & 0x3F);
+            }
+        }
+        return this;
+    }
+
+    public Utf8LineBuffer appendName(Enum<?> constant) {
+        return append(EnumEncodings.nameOf(constant));
+    }
+
+    // 🔹 display = toString() константи; для іншого display — append(encodings.display(constant))
+    public Utf8LineBuffer appendDisplay(Enum<?> constant) {
+        return append(EnumEncodings.displayOf(constant));
+    }
+
+    public int length() {
+        return size;
+    }
+
+    public Utf8LineBuffer reset() {
+        size = 0;
+        return this;
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(bytes, 0, size);
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, 0, size, StandardCharsets.UTF_8);
+    }
+
+    private void ensure(int extra) {
+        if (size + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+        }
+    }
+
+    private static int digits(long value) {
+        int digits = 1;
+        for (long limit = 10; digits < 19 && value >= limit; limit *= 10) {
+            digits++;
+        }
+        return digits;
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.enumdemo.withfield;
+
+import org.example.enumdemo.i18n.LocalizedEnumNames;
+
+import java.util.Locale;
+
+/**
+ * Публічний доступ до Status через числовий код (= ordinal) для коду з інших пакетів.
+ *
+ * 🔹 Status лишається package-private; імпорт, черги тощо оперують кодом.
+ * ⚠️ Код = ordinal → лише для пам'яті, не для зберігання в БД.
+ */
+public final class StatusCodes {
+
+    private static final Status[] STATUSES = Status.values();
+
+    private static final LocalizedEnumNames<Status> LOCALIZED =
+            LocalizedEnumNames.load(Status.class, Status::getDisplayName);
+
+    private StatusCodes() {
+    }
+
+    public static int count() {
+        return STATUSES.length;
+    }
+
+    public static String name(int code) {
+        return STATUSES[code].name();
+    }
+
+    public static String[] names() {
+        String[] names = new String[STATUSES.length];
+        for (Status status : STATUSES) {
+            names[status.ordinal()] = status.name();
+        }
+        return names;
+    }
+
+    public static String displayName(int code) {
+        return STATUSES[code].getDisplayName();
+    }
+
+    // 🔹 displayName мовою клієнта (messages*.properties); без перекладу → англійський displayName
+    public static String displayName(int code, Locale locale) {
+        return LOCALIZED.table(locale)[code];
+    }
+}
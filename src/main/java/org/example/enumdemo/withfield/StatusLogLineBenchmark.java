@@ -0,0 +1,110 @@
+package org.example.enumdemo.withfield;
+
+import org.example.enumdemo.text.EnumEncodings;
+import org.example.enumdemo.text.Utf8LineBuffer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Бенчмарк форматування лог-рядків з enum-ами:
+ *   "task=123 status=In progress from=NEW ordinal=1\n"
+ *
+ * ✅ Порівнюємо:
+ *   1. конкатенація "task=" + id + " status=" + status2 + ... → String → getBytes(UTF_8) → write
+ *   2. перевикористаний StringBuilder → toString() → getBytes(UTF_8) → write
+ *   3. Utf8LineBuffer + EnumEncodings: готові байти констант і літералів прямо в буфер → write
+ *
+ * 🔹 Вихід — OutputStream, що лише рахує байти (міряємо форматування, а не диск).
+ * 🔹 Результат — рядків/с і байтів алокацій на рядок (ThreadMXBean поточного потоку).
+ */
+public class StatusLogLineBenchmark {
+
+    private static final int LINES = 5_000_000;
+
+    private static final byte[] TASK = "task=".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] STATUS = " status=".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] FROM = " from=".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ORDINAL = " ordinal=".getBytes(StandardCharsets.UTF_8);
+
+    private static final EnumEncodings<Status2> STATUS2 = EnumEncodings.of(Status2.class);
+    private static final EnumEncodings<Status> STATUS_NAMES = EnumEncodings.of(Status.class);
+
+    @FunctionalInterface
+    private interface Formatter {
+        void line(long id, Status2 status, Status from, OutputStream out) throws IOException;
+    }
+
+    private static final class CountingStream extends OutputStream {
+        long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Status2[] statuses2 = Status2.values();
+        Status[] statuses = Status.values();
+        StringBuilder builder = new StringBuilder(128);
+        Utf8LineBuffer buffer = new Utf8LineBuffer(128);
+
+        Formatter concat = (id, status, from, out) ->
+                out.write(("task=" + id + " status=" + status + " from=" + from + " ordinal=" + status.ordinal() + "\n")
+                        .getBytes(StandardCharsets.UTF_8));
+        Formatter stringBuilder = (id, status, from, out) -> {
+            builder.setLength(0);
+            builder.append("task=").append(id).append(" status=").append(status)
+                    .append(" from=").append(from).append(" ordinal=").append(status.ordinal()).append('\n');
+            out.write(builder.toString().getBytes(StandardCharsets.UTF_8));
+        };
+        Formatter encoded = (id, status, from, out) -> {
+            buffer.reset()
+                    .append(TASK).append(id)
+                    .append(STATUS).append(STATUS2.display(status))
+                    .append(FROM).append(STATUS_NAMES.name(from))
+                    .append(ORDINAL).append(status.ordinal())
+                    .append('\n')
+                    .writeTo(out);
+        };
+
+        // однаковий вивід у всіх трьох варіантів
+        for (Formatter formatter : new Formatter[]{concat, stringBuilder, encoded}) {
+            ByteArrayOutputStream sample = new ByteArrayOutputStream();
+            formatter.line(123, Status2.IN_PROGRESS, Status.NEW, sample);
+            if (!sample.toString(StandardCharsets.UTF_8).equals("task=123 status=In progress from=NEW ordinal=1\n")) {
+                throw new IllegalStateException("Unexpected line: " + sample);
+            }
+        }
+
+        for (int pass = 1; pass <= 2; pass++) {
+            System.out.printf("Pass %d:%n", pass);
+            report("1. String concatenation  ", concat, statuses2, statuses);
+            report("2. reused StringBuilder  ", stringBuilder, statuses2, statuses);
+            report("3. Utf8LineBuffer + bytes", encoded, statuses2, statuses);
+        }
+    }
+
+    private static void report(String label, Formatter formatter, Status2[] statuses2, Status[] statuses) throws IOException {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        CountingStream out = new CountingStream();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < LINES; i++) {
+            formatter.line(1_000_000L + i, statuses2[i % statuses2.length], statuses[(i + 1) % statuses.length], out);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        System.out.printf("  %s: %,12.0f lines/s, %6.1f bytes allocated/line (%,d bytes written)%n",
+                label, LINES / (elapsed / 1e9), allocated / (double) LINES, out.bytes);
+    }
+}
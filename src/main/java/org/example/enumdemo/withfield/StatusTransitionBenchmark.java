@@ -0,0 +1,166 @@
+package org.example.enumdemo.withfield;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Бенчмарк автомата статусів задач.
+ *
+ * ✅ Частина 1 (без БД): валідація 4 096 випадкових переходів × 5 000 повторів
+ *   1. Map<Status, Set<Status>> (HashMap + EnumSet)
+ *   2. StatusTransitions.canTransition — бітова матриця
+ *   3. StatusTransitions.isAllowed — матриця + guard (порожній guard = завжди true)
+ *
+ * ✅ Частина 2 (локальний Postgres з docker-compose): застосування переходів до TASKS задач
+ *   1. по одному UPDATE ... WHERE version = ? на задачу, autocommit (як save() у циклі)
+ *   2. TaskTransitionService.apply пачками по BATCH в одній транзакції на пачку
+ *   10% переходів мають застарілу version → рахуються як конфлікти, а не губляться.
+ *
+ * 🔹 Аргументи: [jdbcUrl] [user] [password]; без доступної БД виконується лише частина 1.
+ * 🔹 Таблиця tasks створюється в окремій схемі task_bench.
+ */
+public class StatusTransitionBenchmark {
+
+    // 🔹 невеликий набір, що вміщується в L1/L2: міряємо саму перевірку, а не промахи кешу по записах
+    private static final int CHECKS = 4_096;
+    private static final int ROUNDS = 5_000;
+    private static final int TASKS = 100_000;
+    private static final int BATCH = 1_000;
+
+    public static void main(String[] args) {
+        validation();
+
+        String url = args.length > 0 ? args[0] : "jdbc:postgresql://localhost:5432/enumdemo";
+        String user = args.length > 1 ? args[1] : "enumdemo";
+        String password = args.length > 2 ? args[2] : "enumdemo";
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(url, user, password, true);
+        try {
+            persistence(dataSource);
+        } catch (RuntimeException e) {
+            System.out.println("Persistence part skipped: " + e.getMessage());
+        } finally {
+            dataSource.destroy();
+        }
+    }
+
+    private static void validation() {
+        Random random = new Random(42);
+        Status[] statuses = Status.values();
+        TaskTransition[] requests = new TaskTransition[CHECKS];
+        for (int i = 0; i < CHECKS; i++) {
+            requests[i] = new TaskTransition(i, 0, statuses[random.nextInt(statuses.length)], statuses[random.nextInt(statuses.length)]);
+        }
+        StatusTransitions transitions = StatusTransitions.standard();
+        Map<Status, Set<Status>> map = new HashMap<>();
+        for (Status from : statuses) {
+            map.put(from, transitions.targets(from));
+        }
+
+        System.out.println("Validation of " + CHECKS + " random transitions:");
+        for (int pass = 1; pass <= 2; pass++) {
+            long start = System.nanoTime();
+            long allowed = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                for (TaskTransition t : requests) {
+                    allowed += map.get(t.from()).contains(t.to()) ? 1 : 0;
+                }
+            }
+            report("1. Map<Status, Set<Status>>", start, allowed);
+
+            start = System.nanoTime();
+            allowed = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                for (TaskTransition t : requests) {
+                    allowed += transitions.canTransition(t.from(), t.to()) ? 1 : 0;
+                }
+            }
+            report("2. matrix canTransition    ", start, allowed);
+
+            start = System.nanoTime();
+            allowed = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                for (TaskTransition t : requests) {
+                    allowed += transitions.isAllowed(t) ? 1 : 0;
+                }
+            }
+            report("3. matrix + guard isAllowed", start, allowed);
+        }
+    }
+
+    private static void report(String label, long start, long allowed) {
+        double nanos = (System.nanoTime() - start) / (double) ((long) CHECKS * ROUNDS);
+        System.out.printf("  %s: %5.2f ns/check (allowed %,d)%n", label, nanos, allowed);
+    }
+
+    private static void persistence(SingleConnectionDataSource dataSource) {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE SCHEMA IF NOT EXISTS task_bench");
+        jdbc.execute("SET search_path TO task_bench");
+        TransactionTemplate tx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        TaskTransitionService service = new TaskTransitionService(jdbc);
+
+        System.out.printf("Persistence of %,d NEW -> IN_PROGRESS transitions (10%% stale versions):%n", TASKS);
+
+        resetTasks(jdbc);
+        List<TaskTransition> requests = requests();
+        long start = System.nanoTime();
+        long applied = 0;
+        for (TaskTransition t : requests) {
+            applied += jdbc.update("UPDATE tasks SET status = ?, version = version + 1 WHERE id = ? AND version = ? AND status = ?",
+                    t.to().name(), t.taskId(), t.version(), t.from().name());
+        }
+        persistenceReport("1. UPDATE per task, autocommit", start, applied);
+
+        resetTasks(jdbc);
+        start = System.nanoTime();
+        long batched = 0;
+        long conflicts = 0;
+        for (int from = 0; from < requests.size(); from += BATCH) {
+            List<TaskTransition> chunk = requests.subList(from, Math.min(from + BATCH, requests.size()));
+            TaskTransitionService.BatchResult result = tx.execute(status -> service.apply(chunk));
+            batched += result.applied().size();
+            conflicts += result.conflicts().size();
+        }
+        persistenceReport("2. TaskTransitionService batch", start, batched);
+        System.out.printf("  conflicts detected: %,d%n", conflicts);
+
+        jdbc.execute("DROP SCHEMA task_bench CASCADE");
+    }
+
+    private static void persistenceReport(String label, long start, long applied) {
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("  %s: %,10.0f transitions/s (%,d applied)%n", label, TASKS / seconds, applied);
+    }
+
+    private static List<TaskTransition> requests() {
+        List<TaskTransition> requests = new ArrayList<>(TASKS);
+        for (int id = 1; id <= TASKS; id++) {
+            // кожна десята — з версією, якої вже немає (хтось змінив задачу раніше)
+            requests.add(new TaskTransition(id, id % 10 == 0 ? 7 : 0, Status.NEW, Status.IN_PROGRESS));
+        }
+        return requests;
+    }
+
+    private static void resetTasks(JdbcTemplate jdbc) {
+        jdbc.execute("DROP TABLE IF EXISTS tasks");
+        jdbc.execute("""
+                CREATE TABLE tasks (
+                    id bigint PRIMARY KEY,
+                    title varchar(255) NOT NULL,
+                    status varchar(255) NOT NULL,
+                    version bigint NOT NULL
+                )""");
+        jdbc.update("INSERT INTO tasks (id, title, status, version) SELECT i, 'Task ' || i, ?, 0 FROM generate_series(1, ?) AS i",
+                Status.NEW.name(), TASKS);
+        jdbc.execute("ANALYZE tasks");
+    }
+}
@@ -0,0 +1,143 @@
+package org.example.enumdemo.withfield;
+
+import java.util.EnumSet;
+
+/**
+ * Скінченний автомат переходів Status: матриця дозволених переходів + guard / action на кожен перехід.
+ *
+ * ✅ Матриця — long[] з індексом from.ordinal(), біт to.ordinal() = перехід дозволено:
+ *    canTransition(from, to) — одне читання масиву і AND, без Map і без switch.
+ * ✅ Guard-и й action-и лежать у масивах з індексом from.ordinal() * N + to.ordinal():
+ *   - guard (TransitionGuard) може відхилити окремий дозволений перехід (наприклад, "DONE тільки з виконавцем")
+ *   - action (TransitionAction) виконується після успішного застосування переходу
+ *
+ * 🔹 Знімок незмінний: будується один раз через builder() і безпечно ділиться між потоками.
+ * 🔹 Status має ≤ 64 константи, тож один long на рядок матриці.
+ */
+final class StatusTransitions {
+
+    @FunctionalInterface
+    interface TransitionGuard {
+        boolean test(TaskTransition transition);
+    }
+
+    @FunctionalInterface
+    interface TransitionAction {
+        void apply(TaskTransition transition);
+    }
+
+    private static final Status[] STATUSES = Status.values();
+    private static final int N = STATUSES.length;
+    private static final TransitionGuard ALWAYS = transition -> true;
+
+    static {
+        if (N > Long.SIZE) {
+            throw new ExceptionInInitializerError("Status must fit into a long mask: " + N + " constants");
+        }
+    }
+
+    private final long[] allowed;
+    private final TransitionGuard[] guards;
+    private final TransitionAction[] actions;
+
+    private StatusTransitions(long[] allowed, TransitionGuard[] guards, TransitionAction[] actions) {
+        this.allowed = allowed;
+        this.guards = guards;
+        this.actions = actions;
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    // 🔹 NEW → IN_PROGRESS → DONE, плюс "повернути в чергу" і "перевідкрити"
+    static StatusTransitions standard() {
+        return builder()
+                .allow(Status.NEW, Status.IN_PROGRESS)
+                .allow(Status.IN_PROGRESS, Status.DONE)
+                .allow(Status.IN_PROGRESS, Status.NEW)
+                .allow(Status.DONE, Status.IN_PROGRESS)
+                .build();
+    }
+
+    boolean canTransition(Status from, Status to) {
+        return (allowed[from.ordinal()] & (1L << to.ordinal())) != 0;
+    }
+
+    /**
+     * Матриця + guard; action не викликається.
+     */
+    boolean isAllowed(TaskTransition transition) {
+        int from = transition.fromCode();
+        int to = transition.toCode();
+        return (allowed[from] & (1L << to)) != 0 && guards[from * N + to].test(transition);
+    }
+
+    void runAction(TaskTransition transition) {
+        TransitionAction action = actions[transition.fromCode() * N + transition.toCode()];
+        if (action != null) {
+            action.apply(transition);
+        }
+    }
+
+    EnumSet<Status> targets(Status from) {
+        EnumSet<Status> result = EnumSet.noneOf(Status.class);
+        for (Status to : STATUSES) {
+            if (canTransition(from, to)) {
+                result.add(to);
+            }
+        }
+        return result;
+    }
+
+    static final class Builder {
+
+        private final long[] allowed = new long[N];
+        private final TransitionGuard[] guards = new TransitionGuard[N * N];
+        private final TransitionAction[] actions = new TransitionAction[N * N];
+
+        private Builder() {
+        }
+
+        Builder allow(Status from, Status to) {
+            allowed[from.ordinal()] |= 1L << to.ordinal();
+            return this;
+        }
+
+        // 🔹 guard/action для недозволеного переходу — помилка конфігурації, а не "тихий" no-op
+        Builder guard(Status from, Status to, TransitionGuard guard) {
+            requireAllowed(from, to);
+            int index = from.ordinal() * N + to.ordinal();
+            TransitionGuard previous = guards[index];
+            guards[index] = previous == null ? guard : t -> previous.test(t) && guard.test(t);
+            return this;
+        }
+
+        Builder action(Status from, Status to, TransitionAction action) {
+            requireAllowed(from, to);
+            int index = from.ordinal() * N + to.ordinal();
+            TransitionAction previous = actions[index];
+            actions[index] = previous == null ? action : t -> {
+                previous.apply(t);
+                action.apply(t);
+            };
+            return this;
+        }
+
+        StatusTransitions build() {
+            TransitionGuard[] resolved = guards.clone();
+            for (int i = 0; i < resolved.length; i++) {
+                if (resolved[i] == null) {
+                    resolved[i] = ALWAYS;
+                }
+            }
+            return new StatusTransitions(allowed.clone(), resolved, actions.clone());
+        }
+
+        private void requireAllowed(Status from, Status to) {
+            if ((allowed[from.ordinal()] & (1L << to.ordinal())) == 0) {
+                throw new IllegalStateException("Transition " + from + " -> " + to + " is not allowed");
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.enumdemo.withfield;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Черга робіт, розбита на партиції по Status: окрема lock-free ConcurrentLinkedQueue на кожен ordinal.
+ *
+ * ✅ Споживач має "домашній" статус:
+ *   - спершу бере з власної партиції
+ *   - порожньо → краде з сусідніх, починаючи з найпізнішого етапу (спершу доробити почате, потім брати нове)
+ *   - оброблений елемент переходить у партицію наступного статусу (NEW → IN_PROGRESS → DONE)
+ * ✅ Жодного глобального локу: кожна партиція — окрема MPMC-черга на CAS, потоки різних етапів не заважають одне одному.
+ *
+ * 🔹 Наступний статус = наступний ordinal, якщо StatusTransitions дозволяє такий перехід;
+ *    інакше статус кінцевий (DONE): з його партиції споживачі не беруть, її забирає drain(DONE, ...).
+ */
+final class StatusWorkQueue<T> {
+
+    private static final Status[] STATUSES = Status.values();
+
+    private final ConcurrentLinkedQueue<T>[] partitions;
+    // next[ordinal] = наступний статус або null для кінцевого
+    private final Status[] next;
+    // порядок крадіжки для кожного домашнього статусу: домашній, далі від пізніх етапів до ранніх
+    private final Status[][] pollOrder;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    StatusWorkQueue(StatusTransitions transitions) {
+        this.partitions = new ConcurrentLinkedQueue[STATUSES.length];
+        this.next = new Status[STATUSES.length];
+        for (Status status : STATUSES) {
+            partitions[status.ordinal()] = new ConcurrentLinkedQueue<>();
+            int following = status.ordinal() + 1;
+            if (following < STATUSES.length && transitions.canTransition(status, STATUSES[following])) {
+                next[status.ordinal()] = STATUSES[following];
+            }
+        }
+        this.pollOrder = new Status[STATUSES.length][];
+        for (Status home : STATUSES) {
+            Status[] order = new Status[STATUSES.length];
+            int size = 0;
+            if (next[home.ordinal()] != null) {
+                order[size++] = home;
+            }
+            for (int i = STATUSES.length - 1; i >= 0; i--) {
+                if (i != home.ordinal() && next[i] != null) {
+                    order[size++] = STATUSES[i];
+                }
+            }
+            pollOrder[home.ordinal()] = Arrays.copyOf(order, size);
+        }
+    }
+
+    void offer(Status status, T item) {
+        partitions[status.ordinal()].offer(item);
+    }
+
+    T poll(Status status) {
+        return partitions[status.ordinal()].poll();
+    }
+
+    boolean isEmpty(Status status) {
+        return partitions[status.ordinal()].isEmpty();
+    }
+
+    /**
+     * Бере один елемент (з домашньої партиції або крадучи з інших), виконує work(status, item)
+     * і кладе елемент у партицію наступного статусу.
+     * work кинув виняток → елемент повертається в хвіст своєї партиції (не губиться), виняток летить далі.
+     *
+     * @return false, якщо всі некінцеві партиції порожні
+     */
+    boolean processOne(Status home, StepWork<T> work) {
+        for (Status status : pollOrder[home.ordinal()]) {
+            T item = partitions[status.ordinal()].poll();
+            if (item != null) {
+                try {
+                    work.process(status, item);
+                } catch (RuntimeException | Error e) {
+                    partitions[status.ordinal()].offer(item);
+                    throw e;
+                }
+                partitions[next[status.ordinal()].ordinal()].offer(item);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Забирає всі елементи партиції (наприклад, DONE для архівації).
+     *
+     * @return кількість забраних елементів
+     */
+    int drain(Status status, Consumer<T> sink) {
+        ConcurrentLinkedQueue<T> partition = partitions[status.ordinal()];
+        int drained = 0;
+        for (T item; (item = partition.poll()) != null; drained++) {
+            sink.accept(item);
+        }
+        return drained;
+    }
+
+    @FunctionalInterface
+    interface StepWork<T> {
+        void process(Status status, T item);
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.enumdemo.withfield;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Бенчмарк масштабування черги робіт по статусах: 1 → 64 потоки.
+ *
+ * ✅ TASKS задач проходять NEW → IN_PROGRESS → DONE (два кроки обробки на задачу):
+ *   1. один LinkedBlockingQueue: poll(), фільтр по статусу задачі, крок обробки, put() назад (якщо не DONE)
+ *   2. StatusWorkQueue: партиція на кожен статус, домашній статус у потоку (потоки порівну на NEW / IN_PROGRESS),
+ *      крадіжка з інших партицій, коли своя порожня
+ *
+ * 🔹 Крок обробки — кілька десятків наносекунд обчислень, щоб міряти саме накладні витрати черги.
+ * 🔹 Результат — кроків/с; на машині з N ядрами масштабування очікується до ~N потоків.
+ */
+public class StatusWorkQueueBenchmark {
+
+    private static final int TASKS = 200_000;
+    private static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+
+    // 🔹 задача з поточним статусом (для одного LinkedBlockingQueue статус треба зберігати в самій задачі)
+    private static final class Item {
+        final long id;
+        volatile Status status = Status.NEW;
+        long payload;
+
+        Item(long id) {
+            this.id = id;
+        }
+    }
+
+    private static volatile long sink;
+
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("threads | LinkedBlockingQueue steps/s | StatusWorkQueue steps/s");
+        for (int pass = 1; pass <= 2; pass++) {
+            for (int threads : THREADS) {
+                double single = singleQueue(threads);
+                double partitioned = partitioned(threads);
+                if (pass == 2) {
+                    System.out.printf("%7d | %,27.0f | %,23.0f%n", threads, single, partitioned);
+                }
+            }
+        }
+    }
+
+    private static double singleQueue(int threads) throws InterruptedException {
+        LinkedBlockingQueue<Item> queue = new LinkedBlockingQueue<>();
+        for (int i = 0; i < TASKS; i++) {
+            queue.add(new Item(i));
+        }
+        AtomicLong done = new AtomicLong();
+        return run(threads, worker -> () -> {
+            while (done.get() < TASKS) {
+                Item item;
+                try {
+                    item = queue.poll(1, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (item == null) {
+                    continue;
+                }
+                // фільтр по статусу: що робити з задачею, визначає поле в ній самій
+                switch (item.status) {
+                    case NEW -> {
+                        step(item);
+                        item.status = Status.IN_PROGRESS;
+                        queue.add(item);
+                    }
+                    case IN_PROGRESS -> {
+                        step(item);
+                        item.status = Status.DONE;
+                        done.incrementAndGet();
+                    }
+                    case DONE -> done.incrementAndGet();
+                }
+            }
+        });
+    }
+
+    private static double partitioned(int threads) throws InterruptedException {
+        StatusWorkQueue<Item> queue = new StatusWorkQueue<>(StatusTransitions.standard());
+        for (int i = 0; i < TASKS; i++) {
+            queue.offer(Status.NEW, new Item(i));
+        }
+        Status[] homes = {Status.NEW, Status.IN_PROGRESS};
+        double result = run(threads, worker -> () -> {
+            Status home = homes[worker % homes.length];
+            while (queue.processOne(home, (status, item) -> step(item))) {
+                // processOne уже переклав задачу в наступну партицію
+            }
+        });
+        int completed = queue.drain(Status.DONE, item -> { });
+        if (completed != TASKS) {
+            throw new IllegalStateException("Lost tasks: " + completed + " of " + TASKS);
+        }
+        return result;
+    }
+
+    private static void step(Item item) {
+        long x = item.payload + item.id;
+        for (int i = 0; i < 16; i++) {
+            x = x * 6364136223846793005L + 1442695040888963407L;
+        }
+        item.payload = x;
+        if (x == 42) {
+            sink = x;
+        }
+    }
+
+    private static double run(int threads, java.util.function.IntFunction<Runnable> workers) throws InterruptedException {
+        CountDownLatch go = new CountDownLatch(1);
+        Thread[] pool = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            Runnable body = workers.apply(t);
+            pool[t] = new Thread(() -> {
+                try {
+                    go.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                body.run();
+            });
+            pool[t].start();
+        }
+        long start = System.nanoTime();
+        go.countDown();
+        for (Thread thread : pool) {
+            thread.join();
+        }
+        // два кроки (NEW → IN_PROGRESS, IN_PROGRESS → DONE) на задачу
+        return 2.0 * TASKS / ((System.nanoTime() - start) / 1e9);
+    }
+}
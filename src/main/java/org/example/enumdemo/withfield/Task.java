@@ -0,0 +1,51 @@
+package org.example.enumdemo.withfield;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+/**
+ * Задача трекера; статус змінюється тільки через StatusTransitions (див. TaskTransitionService).
+ *
+ * 🔹 version — оптимістичне блокування: UPDATE ... WHERE id = ? AND version = ? і version + 1.
+ *    Якщо хтось встиг змінити задачу раніше — оновлено 0 рядків, перехід повертається як конфлікт.
+ */
+@Entity
+@Table(name = "tasks", indexes = @Index(name = "idx_tasks_status_id", columnList = "status, id"))
+public class Task {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+
+    @Version
+    @Column(nullable = false)
+    private long version;
+
+    protected Task() {
+    }
+
+    Task(String title) {
+        this.title = title;
+        this.status = Status.NEW;
+    }
+
+    public Long getId() { return id; }
+    public String getTitle() { return title; }
+    Status getStatus() { return status; }
+    public long getVersion() { return version; }
+}
@@ -0,0 +1,36 @@
+package org.example.enumdemo.withfield;
+
+/**
+ * Перехід однієї задачі для TaskTransitionService.apply; version — для оптимістичного UPDATE ... WHERE version = ?.
+ *
+ * 🔹 Статуси — коди StatusCodes (= ordinal), бо сам Status package-private; of(...) приймає name().
+ */
+public record TaskTransition(long taskId, long version, int fromCode, int toCode) {
+
+    private static final Status[] STATUSES = Status.values();
+
+    public TaskTransition {
+        if (fromCode < 0 || fromCode >= STATUSES.length || toCode < 0 || toCode >= STATUSES.length) {
+            throw new IllegalArgumentException("Unknown status code: " + fromCode + " → " + toCode);
+        }
+    }
+
+    TaskTransition(long taskId, long version, Status from, Status to) {
+        this(taskId, version, from.ordinal(), to.ordinal());
+    }
+
+    /**
+     * Кидає IllegalArgumentException на невідоме ім'я статусу.
+     */
+    public static TaskTransition of(long taskId, long version, String from, String to) {
+        return new TaskTransition(taskId, version, Status.valueOf(from), Status.valueOf(to));
+    }
+
+    Status from() {
+        return STATUSES[fromCode];
+    }
+
+    Status to() {
+        return STATUSES[toCode];
+    }
+}
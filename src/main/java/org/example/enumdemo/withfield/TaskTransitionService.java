@@ -0,0 +1,82 @@
+package org.example.enumdemo.withfield;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Застосовує переходи статусів пачками з оптимістичною конкуренцією.
+ *
+ * ✅ apply(transitions):
+ *   1. валідація в пам'яті: матриця StatusTransitions + guard → недозволені йдуть у rejected
+ *   2. один JDBC batch: UPDATE tasks SET status = to, version = version + 1
+ *                       WHERE id = ? AND version = ? AND status = from
+ *   3. update count 0 → задачу вже змінив хтось інший (conflicts), 1 → застосовано
+ *   4. action-и застосованих переходів — після коміту (побічні ефекти не переживуть відкат)
+ *
+ * 🔹 Без завантаження сутностей: на мільйонах задач один batch замість find + dirty checking на кожну.
+ * 🔹 Публічний API: TaskTransition (коди StatusCodes або TaskTransition.of за name()) → BatchResult.
+ */
+@Service
+public class TaskTransitionService {
+
+    private static final String UPDATE_SQL =
+            "UPDATE tasks SET status = ?, version = version + 1 WHERE id = ? AND version = ? AND status = ?";
+
+    public record BatchResult(List<TaskTransition> applied, List<TaskTransition> conflicts, List<TaskTransition> rejected) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StatusTransitions transitions;
+
+    public TaskTransitionService(JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, StatusTransitions.standard());
+    }
+
+    TaskTransitionService(JdbcTemplate jdbcTemplate, StatusTransitions transitions) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transitions = transitions;
+    }
+
+    @Transactional
+    public BatchResult apply(List<TaskTransition> requested) {
+        List<TaskTransition> valid = new ArrayList<>(requested.size());
+        List<TaskTransition> rejected = new ArrayList<>();
+        for (TaskTransition transition : requested) {
+            (transitions.isAllowed(transition) ? valid : rejected).add(transition);
+        }
+        List<TaskTransition> applied = new ArrayList<>(valid.size());
+        List<TaskTransition> conflicts = new ArrayList<>();
+        if (!valid.isEmpty()) {
+            int[] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, valid.stream()
+                    .map(t -> new Object[]{t.to().name(), t.taskId(), t.version(), t.from().name()})
+                    .toList());
+            for (int i = 0; i < counts.length; i++) {
+                (counts[i] == 0 ? conflicts : applied).add(valid.get(i));
+            }
+        }
+        runActions(applied);
+        return new BatchResult(applied, conflicts, rejected);
+    }
+
+    private void runActions(List<TaskTransition> applied) {
+        if (applied.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applied.forEach(transitions::runAction);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applied.forEach(transitions::runAction);
+            }
+        });
+    }
+}
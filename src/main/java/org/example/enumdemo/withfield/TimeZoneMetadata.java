@@ -0,0 +1,27 @@
+package org.example.enumdemo.withfield;
+
+import org.example.enumdemo.metadata.EnumMetadataContributor;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Довідник TimeZoneInfo для /api/metadata.
+ */
+@Component
+public class TimeZoneMetadata implements EnumMetadataContributor {
+
+    @Override
+    public Map<String, Object> metadata() {
+        List<Map<String, Object>> zones = Arrays.stream(TimeZoneInfo.values())
+                .map(zone -> Map.<String, Object>of(
+                        "name", zone.name(),
+                        "region", zone.getRegion(),
+                        "offsetHours", zone.getOffsetHours(),
+                        "description", zone.getDescription()))
+                .toList();
+        return Map.of("timeZones", zones);
+    }
+}
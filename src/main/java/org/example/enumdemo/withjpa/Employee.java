@@ -1,9 +1,18 @@
 package org.example.enumdemo.withjpa;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnTransformer;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
 
 @Entity
-@Table(name = "employees")
+@Table(name = "employees", indexes = {
+        // 🔹 для keyset-пагінації з фільтром: WHERE role = ? AND employment_type = ? AND id > ? ORDER BY id
+        @Index(name = "idx_employees_role_type_id", columnList = "role, employment_type, id")
+})
 public class Employee {
 
     @Id
@@ -20,6 +29,13 @@ public class Employee {
     @Column(nullable = false)
     private EmploymentType employmentType;
 
+    // 🔹 Варіант 3: мапа з enum-ключем в одній jsonb-колонці замість @ElementCollection (join-таблиці)
+    //    ?::jsonb — pgjdbc передає рядок як varchar, а Postgres сам його в jsonb не приводить
+    @Convert(converter = HourlyRatesConverter.class)
+    @Column(name = "hourly_rates", columnDefinition = "jsonb")
+    @ColumnTransformer(write = "?::jsonb")
+    private EnumMap<EmploymentType, BigDecimal> hourlyRates;
+
     // стандартні гетери/сетери, конструктори
     public Employee() {}
 
@@ -28,11 +44,35 @@ public class Employee {
         this.employmentType = employmentType;
     }
 
+    // 🔹 для in-memory сценаріїв (індекси, імпорт), де id вже відомий
+    public Employee(Long id, Role role, EmploymentType employmentType) {
+        this.id = id;
+        this.role = role;
+        this.employmentType = employmentType;
+    }
+
     public Long getId() { return id; }
     public Role getRole() { return role; }
     public void setRole(Role role) { this.role = role; }
     public EmploymentType getEmploymentType() { return employmentType; }
     public void setEmploymentType(EmploymentType employmentType) { this.employmentType = employmentType; }
+
+    // 🔹 мапа віддається тільки на читання, а зміна створює нову копію:
+    //    Hibernate порівнює старе й нове значення, in-place зміна EnumMap пройшла б повз dirty checking
+    public Map<EmploymentType, BigDecimal> getHourlyRates() {
+        return hourlyRates == null ? Map.of() : Collections.unmodifiableMap(hourlyRates);
+    }
+
+    public void setHourlyRate(EmploymentType type, BigDecimal rate) {
+        EnumMap<EmploymentType, BigDecimal> updated = hourlyRates == null
+                ? new EnumMap<>(EmploymentType.class) : new EnumMap<>(hourlyRates);
+        if (rate == null) {
+            updated.remove(type);
+        } else {
+            updated.put(type, rate);
+        }
+        hourlyRates = updated.isEmpty() ? null : updated;
+    }
 }
 
 /**
@@ -0,0 +1,131 @@
+package org.example.enumdemo.withjpa;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Навантажувальний тест REST API /api/employees (локальний HTTP-генератор).
+ *
+ * ✅ Для кожного рівня конкурентності (1 → 512 клієнтів) протягом фіксованого часу шлемо
+ *    GET /api/employees?role=DRIVER&employmentType=CONTRACTOR&limit=50 і рахуємо p50 / p99 та запити/с.
+ *
+ * 🔹 Як порівняти virtual vs platform threads:
+ *   1. запустити застосунок як є (spring.threads.virtual.enabled=true) → запустити тест з аргументом "virtual"
+ *   2. перезапустити з --spring.threads.virtual.enabled=false → запустити тест з аргументом "platform"
+ * 🔹 Аргументи: [мітка] [baseUrl] [секунд на рівень], за замовчуванням: run http://localhost:8080 10
+ * 🔹 Якщо таблиця порожня — спершу додаються 1000 працівників через POST.
+ * 🔹 Усі запити з X-Role: ADMIN → тест працює і з enumdemo.permissions.check-role-header=true.
+ */
+public class EmployeeApiLoadTest {
+
+    private static final int[] CONCURRENCY = {1, 8, 32, 128, 512};
+    private static final String QUERY = "/api/employees?role=DRIVER&employmentType=CONTRACTOR&limit=50";
+    private static final String ROLE_HEADER = "X-Role";
+    private static final String ROLE = "ADMIN";
+
+    public static void main(String[] args) throws Exception {
+        String label = args.length > 0 ? args[0] : "run";
+        String baseUrl = args.length > 1 ? args[1] : "http://localhost:8080";
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        seedIfEmpty(client, baseUrl);
+
+        System.out.println("[" + label + "] clients | requests/s | p50 ms | p99 ms | errors");
+        for (int clients : CONCURRENCY) {
+            runLevel(client, baseUrl, clients, seconds, label);
+        }
+    }
+
+    private static void runLevel(HttpClient client, String baseUrl, int clients, int seconds, String label)
+            throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + QUERY)).header(ROLE_HEADER, ROLE).GET().build();
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        long[][] latencies = new long[clients][];
+        int[] counts = new int[clients];
+        AtomicLong errors = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(clients);
+
+        for (int c = 0; c < clients; c++) {
+            int clientIndex = c;
+            Thread thread = new Thread(() -> {
+                long[] samples = new long[1024];
+                int n = 0;
+                try {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        if (n == samples.length) {
+                            samples = Arrays.copyOf(samples, n * 2);
+                        }
+                        samples[n++] = System.nanoTime() - start;
+                    }
+                } finally {
+                    latencies[clientIndex] = samples;
+                    counts[clientIndex] = n;
+                    done.countDown();
+                }
+            });
+            thread.start();
+        }
+        done.await();
+
+        int total = Arrays.stream(counts).sum();
+        long[] all = new long[total];
+        int offset = 0;
+        for (int c = 0; c < clients; c++) {
+            System.arraycopy(latencies[c], 0, all, offset, counts[c]);
+            offset += counts[c];
+        }
+        Arrays.sort(all);
+        System.out.printf("[%s] %7d | %10.0f | %6.2f | %6.2f | %d%n", label, clients,
+                total / (double) seconds, percentile(all, 0.50), percentile(all, 0.99), errors.get());
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)] / 1_000_000.0;
+    }
+
+    private static void seedIfEmpty(HttpClient client, String baseUrl) throws Exception {
+        HttpRequest probe = HttpRequest.newBuilder(URI.create(baseUrl + "/api/employees?limit=1"))
+                .header(ROLE_HEADER, ROLE)
+                .GET()
+                .build();
+        String body = client.send(probe, HttpResponse.BodyHandlers.ofString()).body();
+        if (!body.contains("\"items\":[]")) {
+            return;
+        }
+        Role[] roles = Role.values();
+        EmploymentType[] types = EmploymentType.values();
+        for (int i = 0; i < 1000; i++) {
+            String json = "{\"role\":\"" + roles[i % roles.length] + "\",\"employmentType\":\""
+                    + types[(i / roles.length) % types.length] + "\"}";
+            HttpRequest create = HttpRequest.newBuilder(URI.create(baseUrl + "/api/employees"))
+                    .header("Content-Type", "application/json")
+                    .header(ROLE_HEADER, ROLE)
+                    .POST(HttpRequest.BodyPublishers.ofString(json))
+                    .build();
+            client.send(create, HttpResponse.BodyHandlers.discarding());
+        }
+    }
+}
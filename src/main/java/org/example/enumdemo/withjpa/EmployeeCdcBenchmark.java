@@ -0,0 +1,126 @@
+package org.example.enumdemo.withjpa;
+
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Бенчмарк CDC (EmployeeCdcConsumer) проти локального Postgres з docker-compose (wal_level=logical).
+ *
+ * ✅ Міряємо:
+ *   1. наскрізну латентність: від виклику INSERT (autocommit) на клієнті до отримання події слухачем (p50 / p99 / max)
+ *   2. пропускну здатність: N змін (insert / update / delete пачками по 1000 в транзакції) → скільки подій/с доходить до слухача
+ *
+ * 🔹 Окрема схема cdc_bench, свій slot і publication; наприкінці слот і publication видаляються
+ *    (забутий слот утримував би WAL на сервері).
+ * 🔹 Аргументи: [змін для пропускної здатності, 300 000] [jdbcUrl] [user] [password].
+ */
+public class EmployeeCdcBenchmark {
+
+    private static final String SLOT = "cdc_bench";
+    private static final int LATENCY_SAMPLES = 2_000;
+    private static final int TX_SIZE = 1_000;
+
+    public static void main(String[] args) throws Exception {
+        int changes = args.length > 0 ? Integer.parseInt(args[0]) : 300_000;
+        String url = args.length > 1 ? args[1] : "jdbc:postgresql://localhost:5432/enumdemo";
+        String user = args.length > 2 ? args[2] : "enumdemo";
+        String password = args.length > 3 ? args[3] : "enumdemo";
+
+        JdbcTemplate jdbc = new JdbcTemplate(new SingleConnectionDataSource(url, user, password, true));
+        jdbc.execute("CREATE SCHEMA IF NOT EXISTS cdc_bench");
+        jdbc.execute("DROP TABLE IF EXISTS cdc_bench.employees");
+        jdbc.execute("""
+                CREATE TABLE cdc_bench.employees (
+                    id              bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                    role            varchar(255) NOT NULL,
+                    employment_type varchar(255) NOT NULL
+                )""");
+
+        Map<Long, Long> committedAt = new ConcurrentHashMap<>();
+        long[] latencies = new long[LATENCY_SAMPLES];
+        AtomicLong latencyCount = new AtomicLong();
+        AtomicLong received = new AtomicLong();
+        EmployeeChangeListener listener = batch -> {
+            long now = System.nanoTime();
+            for (EmployeeChangedEvent event : batch) {
+                Long start = committedAt.remove(event.id());
+                if (start != null && event.oldRole() == null) {
+                    int i = (int) latencyCount.getAndIncrement();
+                    if (i < latencies.length) {
+                        latencies[i] = now - start;
+                    }
+                }
+            }
+            received.addAndGet(batch.size());
+        };
+        StaticListableBeanFactory listeners = new StaticListableBeanFactory(Map.of("listener", listener));
+        EmployeeCdcConsumer consumer = new EmployeeCdcConsumer(url, user, password, "cdc_bench.employees",
+                SLOT, SLOT, 500, 50, 5, listeners.getBeanProvider(EmployeeChangeListener.class));
+        try {
+            consumer.ensurePublicationAndSlot();
+            consumer.start();
+
+            // 1. латентність: по одному INSERT на транзакцію, з паузою, щоб не міряти черги
+            Role[] roles = Role.values();
+            EmploymentType[] types = EmploymentType.values();
+            for (int i = 0; i < LATENCY_SAMPLES; i++) {
+                long id = 1_000_000_000L + i;
+                committedAt.put(id, System.nanoTime());
+                jdbc.update("INSERT INTO cdc_bench.employees (id, role, employment_type) VALUES (?, ?, ?)",
+                        id, roles[i % roles.length].name(), types[i % types.length].name());
+                Thread.sleep(1);
+            }
+            awaitReceived(received, LATENCY_SAMPLES);
+            long[] sorted = Arrays.copyOf(latencies, (int) Math.min(latencyCount.get(), LATENCY_SAMPLES));
+            Arrays.sort(sorted);
+            System.out.printf("1. INSERT → listener latency (%d inserts): p50 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+                    sorted.length, sorted[sorted.length / 2] / 1e6, sorted[sorted.length * 99 / 100] / 1e6,
+                    sorted[sorted.length - 1] / 1e6);
+
+            // 2. пропускна здатність: третина insert, третина update, третина delete, по TX_SIZE рядків на транзакцію
+            long before = received.get();
+            int perKind = changes / 3;
+            long start = System.nanoTime();
+            for (int offset = 0; offset < perKind; offset += TX_SIZE) {
+                jdbc.update("""
+                        INSERT INTO cdc_bench.employees (id, role, employment_type)
+                        SELECT i, (ARRAY['ADMIN', 'USER', 'DRIVER'])[1 + i % 3],
+                                  (ARRAY['FULL_TIME', 'PART_TIME', 'CONTRACTOR'])[1 + i % 3]
+                        FROM generate_series(?::bigint, ?::bigint) AS i""", offset + 1L, (long) Math.min(offset + TX_SIZE, perKind));
+            }
+            for (int offset = 0; offset < perKind; offset += TX_SIZE) {
+                jdbc.update("UPDATE cdc_bench.employees SET role = 'DRIVER' WHERE id BETWEEN ? AND ?",
+                        offset + 1L, (long) Math.min(offset + TX_SIZE, perKind));
+            }
+            for (int offset = 0; offset < perKind; offset += TX_SIZE) {
+                jdbc.update("DELETE FROM cdc_bench.employees WHERE id BETWEEN ? AND ?",
+                        offset + 1L, (long) Math.min(offset + TX_SIZE, perKind));
+            }
+            long written = System.nanoTime() - start;
+            awaitReceived(received, before + 3L * perKind);
+            long total = System.nanoTime() - start;
+            System.out.printf("2. %,d changes: written in %.0f ms, all delivered after %.0f ms → %,.0f events/s%n",
+                    3L * perKind, written / 1e6, total / 1e6, 3L * perKind / (total / 1e9));
+        } finally {
+            consumer.close();
+            jdbc.queryForList("SELECT pg_drop_replication_slot(slot_name) FROM pg_replication_slots WHERE slot_name = ?", SLOT);
+            jdbc.execute("DROP PUBLICATION IF EXISTS " + SLOT);
+        }
+    }
+
+    private static void awaitReceived(AtomicLong received, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + 120_000_000_000L;
+        while (received.get() < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Only " + received.get() + " of " + expected + " events arrived");
+            }
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,362 @@
+package org.example.enumdemo.withjpa;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.example.enumdemo.cdc.PgOutputDecoder;
+import org.postgresql.PGConnection;
+import org.postgresql.PGProperty;
+import org.postgresql.replication.LogSequenceNumber;
+import org.postgresql.replication.PGReplicationStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CDC: зміни таблиці employees з логічної реплікації Postgres (pgoutput) → пачки EmployeeChangedEvent для слухачів.
+ *
+ * ✅ Як працює:
+ *   1. publication на таблицю + постійний replication slot (створюються, якщо їх ще немає)
+ *   2. окремий потік читає replication stream, PgOutputDecoder розбирає рядки, role / employment_type → enum-и
+ *   3. події накопичуються до коміту транзакції; пачка віддається слухачам, коли набралося batch-size подій
+ *      або потік змін на мить вичерпано / минуло max-delay-ms
+ *   4. після обробки пачки LSN її останнього коміту підтверджується серверу (flushed LSN) — це і є checkpoint:
+ *      після рестарту слот віддає зміни, починаючи з першої непідтвердженої транзакції
+ *   5. без змін (між транзакціями) підтверджується останній отриманий LSN — коміти інших таблиць і keepalive-и
+ *      теж зсувають слот, інакше він утримував би WAL, поки employees не зміниться
+ *
+ * ⚠️ "Отруйні" дані не зупиняють потік:
+ *   - рядок, який не розбирається (невідоме значення enum, зламаний id) → warn і пропуск рядка
+ *   - слухач кидає виняток max-attempts разів поспіль → error з LSN і пропуск пачки для цього слухача
+ *
+ * 🔹 Без опитування таблиці: сервер сам штовхає зміни, латентність ≈ час коміту + доставка.
+ * 🔹 TRUNCATE не дає рядкових DELETE → слухачі отримують onTruncate() на його місці в потоці подій.
+ * 🔹 REPLICA IDENTITY FULL на таблиці → в UPDATE / DELETE є старі role / employment_type (потрібні для лічильників).
+ * ⚠️ Потрібен wal_level=logical (docker-compose вже запускає так) і права REPLICATION у користувача.
+ * ⚠️ Непідтверджений слот утримує WAL на сервері: вимкнули CDC назавжди → видаліть слот (pg_drop_replication_slot).
+ */
+@Component
+@ConditionalOnProperty(name = "enumdemo.cdc.enabled", havingValue = "true")
+public class EmployeeCdcConsumer {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeCdcConsumer.class);
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final String table;
+    private final String tableSchema;
+    private final String tableName;
+    private final String slot;
+    private final String publication;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final int maxAttempts;
+    private final ObjectProvider<EmployeeChangeListener> listenerProvider;
+    private List<EmployeeChangeListener> listeners;
+    private Thread thread;
+    private volatile boolean running;
+
+    public EmployeeCdcConsumer(@Value("${spring.datasource.url}") String url,
+                               @Value("${spring.datasource.username}") String username,
+                               @Value("${spring.datasource.password}") String password,
+                               @Value("${enumdemo.cdc.table:public.employees}") String table,
+                               @Value("${enumdemo.cdc.slot:enumdemo_employees}") String slot,
+                               @Value("${enumdemo.cdc.publication:enumdemo_employees}") String publication,
+                               @Value("${enumdemo.cdc.batch-size:500}") int batchSize,
+                               @Value("${enumdemo.cdc.max-delay-ms:50}") long maxDelayMillis,
+                               @Value("${enumdemo.cdc.max-attempts:5}") int maxAttempts,
+                               ObjectProvider<EmployeeChangeListener> listeners) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.table = table;
+        int dot = table.indexOf('.');
+        this.tableSchema = dot < 0 ? "public" : table.substring(0, dot);
+        this.tableName = table.substring(dot + 1);
+        this.slot = slot;
+        this.publication = publication;
+        this.batchSize = batchSize;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.listenerProvider = listeners;
+    }
+
+    @PostConstruct
+    public void start() {
+        listeners = listenerProvider.orderedStream().toList();
+        running = true;
+        thread = new Thread(this::loop, "employee-cdc");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        running = false;
+        if (thread != null) {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    // 🔹 помилка мережі / сервера → перепідключення: слот віддасть усе після останнього підтвердженого LSN
+    private void loop() {
+        while (running) {
+            try {
+                ensurePublicationAndSlot();
+                stream();
+            } catch (SQLException | RuntimeException e) {
+                log.warn("CDC stream for {} failed, reconnecting: {}", table, e.getMessage());
+                sleepQuietly(1_000);
+            }
+        }
+    }
+
+    void ensurePublicationAndSlot() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, username, password);
+             Statement statement = connection.createStatement()) {
+            // 🔹 ALTER бере ACCESS EXCLUSIVE lock → лише якщо ще не FULL
+            if (!exists(connection, "SELECT 1 FROM pg_class WHERE oid = ?::regclass AND relreplident = 'f'", table)) {
+                statement.execute("ALTER TABLE " + table + " REPLICA IDENTITY FULL");
+            }
+            if (!exists(connection, "SELECT 1 FROM pg_publication WHERE pubname = ?", publication)) {
+                statement.execute("CREATE PUBLICATION " + publication + " FOR TABLE " + table);
+            }
+            if (!exists(connection, "SELECT 1 FROM pg_replication_slots WHERE slot_name = ?", slot)) {
+                try (PreparedStatement create = connection.prepareStatement(
+                        "SELECT pg_create_logical_replication_slot(?, 'pgoutput')")) {
+                    create.setString(1, slot);
+                    create.execute();
+                }
+            }
+        }
+    }
+
+    private static boolean exists(Connection connection, String sql, String name) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, name);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    private void stream() throws SQLException {
+        Properties properties = new Properties();
+        PGProperty.USER.set(properties, username);
+        PGProperty.PASSWORD.set(properties, password);
+        PGProperty.REPLICATION.set(properties, "database");
+        PGProperty.ASSUME_MIN_SERVER_VERSION.set(properties, "10");
+        PGProperty.PREFER_QUERY_MODE.set(properties, "simple");
+
+        try (Connection connection = DriverManager.getConnection(url, properties);
+             PGReplicationStream stream = connection.unwrap(PGConnection.class).getReplicationAPI()
+                     .replicationStream()
+                     .logical()
+                     .withSlotName(slot)
+                     .withSlotOption("proto_version", "1")
+                     .withSlotOption("publication_names", publication)
+                     .withStatusInterval(10, TimeUnit.SECONDS)
+                     .start()) {
+            // 🔹 Relation-повідомлення приходять заново в кожній сесії → новий декодер на кожне підключення
+            PgOutputDecoder decoder = new PgOutputDecoder();
+            Batcher batcher = new Batcher();
+            long batchStarted = System.nanoTime();
+            long acknowledged = 0;
+            while (running) {
+                ByteBuffer message = stream.readPending();
+                if (message != null) {
+                    decoder.decode(message, batcher);
+                    if (batcher.ready.size() < batchSize && System.nanoTime() - batchStarted < maxDelayNanos) {
+                        continue;
+                    }
+                }
+                if (!batcher.ready.isEmpty() || batcher.truncateAt >= 0) {
+                    deliver(batcher.ready, batcher.truncateAt, batcher.readyLsn);
+                    acknowledged = acknowledge(stream, batcher.readyLsn, acknowledged);
+                    batcher.ready = new ArrayList<>(batchSize);
+                    batcher.truncateAt = -1;
+                } else if (message == null) {
+                    if (!batcher.inTransaction) {
+                        long idleLsn = Math.max(batcher.readyLsn, stream.getLastReceiveLSN().asLong());
+                        acknowledged = acknowledge(stream, idleLsn, acknowledged);
+                    }
+                    sleepQuietly(5);
+                }
+                batchStarted = System.nanoTime();
+            }
+        }
+    }
+
+    // 🔹 статус шлемо лише коли LSN зсунувся — простій не генерує трафіку
+    private static long acknowledge(PGReplicationStream stream, long lsn, long acknowledged) throws SQLException {
+        if (lsn <= acknowledged) {
+            return acknowledged;
+        }
+        LogSequenceNumber value = LogSequenceNumber.valueOf(lsn);
+        stream.setAppliedLSN(value);
+        stream.setFlushedLSN(value);
+        stream.forceUpdateStatus();
+        return lsn;
+    }
+
+    // 🔹 кожен слухач має власні спроби: один зламаний слухач не змушує інших обробляти пачку повторно
+    // 🔹 truncateAt >= 0 → onTruncate() між подіями до і після TRUNCATE
+    private void deliver(List<EmployeeChangedEvent> batch, int truncateAt, long lsn) {
+        List<EmployeeChangedEvent> changes = Collections.unmodifiableList(batch);
+        for (EmployeeChangeListener listener : listeners) {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    if (truncateAt < 0) {
+                        listener.onChanges(changes);
+                    } else {
+                        if (truncateAt > 0) {
+                            listener.onChanges(changes.subList(0, truncateAt));
+                        }
+                        listener.onTruncate();
+                        if (truncateAt < changes.size()) {
+                            listener.onChanges(changes.subList(truncateAt, changes.size()));
+                        }
+                    }
+                    break;
+                } catch (RuntimeException e) {
+                    if (attempt >= maxAttempts) {
+                        log.error("CDC listener {} failed {} times, skipping {} changes up to LSN {}",
+                                listener.getClass().getSimpleName(), attempt, changes.size(),
+                                LogSequenceNumber.valueOf(lsn), e);
+                        break;
+                    }
+                    log.warn("CDC listener {} failed (attempt {}/{}): {}",
+                            listener.getClass().getSimpleName(), attempt, maxAttempts, e.getMessage());
+                    sleepQuietly(100L * attempt);
+                }
+            }
+        }
+    }
+
+    /**
+     * Збирає події поточної транзакції; на коміті переносить їх у ready разом з LSN коміту.
+     * Останній TRUNCATE пачки запам'ятовується як позиція в ready (truncateAt), -1 — не було.
+     */
+    private final class Batcher implements PgOutputDecoder.Handler {
+
+        private final List<EmployeeChangedEvent> transaction = new ArrayList<>();
+        private List<EmployeeChangedEvent> ready = new ArrayList<>(batchSize);
+        private long readyLsn;
+        private boolean inTransaction;
+        private int truncateAt = -1;
+        private int transactionTruncateAt = -1;
+
+        @Override
+        public void begin(long finalLsn, int xid) {
+            transaction.clear();
+            transactionTruncateAt = -1;
+            inTransaction = true;
+        }
+
+        @Override
+        public void commit(long endLsn, long commitTimeMicros) {
+            if (transactionTruncateAt >= 0) {
+                truncateAt = ready.size() + transactionTruncateAt;
+            }
+            ready.addAll(transaction);
+            transaction.clear();
+            readyLsn = endLsn;
+            inTransaction = false;
+        }
+
+        @Override
+        public void insert(PgOutputDecoder.Relation relation, String[] newValues) {
+            if (matches(relation)) {
+                try {
+                    transaction.add(new EmployeeChangedEvent(id(relation, newValues), null, null,
+                            role(relation, newValues), type(relation, newValues)));
+                } catch (IllegalArgumentException e) {
+                    skip("INSERT", newValues, e);
+                }
+            }
+        }
+
+        @Override
+        public void update(PgOutputDecoder.Relation relation, String[] oldValues, String[] newValues) {
+            if (matches(relation)) {
+                try {
+                    transaction.add(new EmployeeChangedEvent(id(relation, newValues),
+                            oldValues == null ? null : role(relation, oldValues),
+                            oldValues == null ? null : type(relation, oldValues),
+                            role(relation, newValues), type(relation, newValues)));
+                } catch (IllegalArgumentException e) {
+                    skip("UPDATE", newValues, e);
+                }
+            }
+        }
+
+        @Override
+        public void delete(PgOutputDecoder.Relation relation, String[] oldValues) {
+            if (matches(relation)) {
+                try {
+                    transaction.add(new EmployeeChangedEvent(id(relation, oldValues),
+                            role(relation, oldValues), type(relation, oldValues), null, null));
+                } catch (IllegalArgumentException e) {
+                    skip("DELETE", oldValues, e);
+                }
+            }
+        }
+
+        @Override
+        public void truncate(List<PgOutputDecoder.Relation> relations) {
+            for (PgOutputDecoder.Relation relation : relations) {
+                if (matches(relation)) {
+                    transactionTruncateAt = transaction.size();
+                }
+            }
+        }
+
+        private boolean matches(PgOutputDecoder.Relation relation) {
+            return tableName.equals(relation.name()) && tableSchema.equals(relation.namespace());
+        }
+
+        // 🔹 NumberFormatException теж IllegalArgumentException; повтор такого рядка дав би ту саму помилку
+        private void skip(String operation, String[] values, IllegalArgumentException e) {
+            log.warn("CDC skipped {} on {}: {} (row {})", operation, table, e.getMessage(), Arrays.toString(values));
+        }
+    }
+
+    private static long id(PgOutputDecoder.Relation relation, String[] values) {
+        return Long.parseLong(values[relation.column("id")]);
+    }
+
+    private static Role role(PgOutputDecoder.Relation relation, String[] values) {
+        String value = values[relation.column("role")];
+        return value == null ? null : Role.valueOf(value);
+    }
+
+    private static EmploymentType type(PgOutputDecoder.Relation relation, String[] values) {
+        String value = values[relation.column("employment_type")];
+        return value == null ? null : EmploymentType.valueOf(value);
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
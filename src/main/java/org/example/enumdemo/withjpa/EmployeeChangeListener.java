@@ -0,0 +1,24 @@
+package org.example.enumdemo.withjpa;
+
+import java.util.List;
+
+/**
+ * Отримувач пачок змін employees з CDC (EmployeeCdcConsumer).
+ *
+ * 🔹 Пачка містить лише завершені транзакції, у порядку комітів.
+ * 🔹 Виняток з onChanges → та сама пачка передається повторно (до enumdemo.cdc.max-attempts разів), потім
+ *    пропускається для цього слухача; після рестарту непідтверджені пачки теж приходять вдруге (at-least-once),
+ *    тож обробка має бути ідемпотентною (це стосується й onTruncate).
+ */
+@FunctionalInterface
+interface EmployeeChangeListener {
+
+    void onChanges(List<EmployeeChangedEvent> changes);
+
+    /**
+     * Таблицю очищено TRUNCATE (рядкових DELETE для нього немає) → стан, зібраний з подій, більше не дійсний.
+     * Порядок зберігається: події до TRUNCATE — в onChanges перед цим викликом, після нього — в наступному.
+     */
+    default void onTruncate() {
+    }
+}
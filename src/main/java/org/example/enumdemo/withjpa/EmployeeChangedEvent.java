@@ -0,0 +1,17 @@
+package org.example.enumdemo.withjpa;
+
+/**
+ * Подія зміни Employee, яку EmployeeService публікує всередині транзакції.
+ *
+ * 🔹 old* = null → співробітника створено; new* = null → видалено; обидва задані → змінились role / employmentType.
+ */
+record EmployeeChangedEvent(long id, Role oldRole, EmploymentType oldType, Role newRole, EmploymentType newType) {
+
+    static EmployeeChangedEvent created(Employee employee) {
+        return new EmployeeChangedEvent(employee.getId(), null, null, employee.getRole(), employee.getEmploymentType());
+    }
+
+    static EmployeeChangedEvent deleted(Employee employee) {
+        return new EmployeeChangedEvent(employee.getId(), employee.getRole(), employee.getEmploymentType(), null, null);
+    }
+}
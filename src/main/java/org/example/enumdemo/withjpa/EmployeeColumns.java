@@ -0,0 +1,93 @@
+package org.example.enumdemo.withjpa;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Результат імпорту працівників у вигляді примітивних колонок.
+ *
+ * 🔹 Enum-поля зберігаються як byte-коди (ordinal), status = -1 якщо колонки немає у файлі.
+ * 🔹 toEmployees() будує Employee-об'єкти лише тоді, коли вони справді потрібні (наприклад, для saveAll()).
+ */
+public class EmployeeColumns {
+
+    private static final Role[] ROLES = Role.values();
+    private static final EmploymentType[] EMPLOYMENT_TYPES = EmploymentType.values();
+
+    private long[] ids;
+    private byte[] roles;
+    private byte[] employmentTypes;
+    private byte[] statuses;
+    private int size;
+
+    EmployeeColumns(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 16);
+        this.ids = new long[capacity];
+        this.roles = new byte[capacity];
+        this.employmentTypes = new byte[capacity];
+        this.statuses = new byte[capacity];
+    }
+
+    void add(long id, int roleCode, int employmentTypeCode, int statusCode) {
+        if (size == ids.length) {
+            grow(size * 2);
+        }
+        ids[size] = id;
+        roles[size] = (byte) roleCode;
+        employmentTypes[size] = (byte) employmentTypeCode;
+        statuses[size] = (byte) statusCode;
+        size++;
+    }
+
+    // 🔹 склеює результати паралельних частин у порядку файлу
+    static EmployeeColumns concat(List<EmployeeColumns> parts) {
+        int total = parts.stream().mapToInt(EmployeeColumns::size).sum();
+        EmployeeColumns result = new EmployeeColumns(total);
+        for (EmployeeColumns part : parts) {
+            System.arraycopy(part.ids, 0, result.ids, result.size, part.size);
+            System.arraycopy(part.roles, 0, result.roles, result.size, part.size);
+            System.arraycopy(part.employmentTypes, 0, result.employmentTypes, result.size, part.size);
+            System.arraycopy(part.statuses, 0, result.statuses, result.size, part.size);
+            result.size += part.size;
+        }
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long id(int row) {
+        return ids[row];
+    }
+
+    public Role role(int row) {
+        return ROLES[roles[row]];
+    }
+
+    public EmploymentType employmentType(int row) {
+        return EMPLOYMENT_TYPES[employmentTypes[row]];
+    }
+
+    // 🔹 код Status (див. StatusCodes) або -1
+    public int statusCode(int row) {
+        return statuses[row];
+    }
+
+    // ⚠️ Employee не має поля status → у сутності воно губиться, лишається тільки в колонках
+    public List<Employee> toEmployees() {
+        List<Employee> employees = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) {
+            employees.add(new Employee(ids[row], role(row), employmentType(row)));
+        }
+        return employees;
+    }
+
+    private void grow(int capacity) {
+        ids = Arrays.copyOf(ids, capacity);
+        roles = Arrays.copyOf(roles, capacity);
+        employmentTypes = Arrays.copyOf(employmentTypes, capacity);
+        statuses = Arrays.copyOf(statuses, capacity);
+    }
+}
@@ -0,0 +1,148 @@
+package org.example.enumdemo.withjpa;
+
+import org.example.enumdemo.simple.RoleAccess;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * REST API для Employee.
+ *
+ * 🔹 GET    /api/employees?role=DRIVER&employmentType=CONTRACTOR&after=0&limit=50
+ *           → { "items": [...], "nextAfter": 123 }   (nextAfter = null → це остання сторінка)
+ * 🔹 GET    /api/employees/{id}
+ * 🔹 POST   /api/employees        { "role": "DRIVER", "employmentType": "CONTRACTOR" }
+ * 🔹 PUT    /api/employees/{id}
+ * 🔹 DELETE /api/employees/{id}
+ * 🔹 GET    /api/employees/report/headcount                     → з проекції employee_report
+ * 🔹 GET    /api/employees/report/movements?from=2025-01&to=2025-12
+ *
+ * ✅ Enum-и в query-параметрах і JSON — за name() (Spring/Jackson конвертують самі, невідоме значення → 400).
+ * ✅ Запити обробляються на virtual threads (spring.threads.virtual.enabled у application.yml).
+ * 🔹 Права (демо): заголовок X-Role + RoleAccess (VIEW_PROFILE — читання, VIEW_REPORTS — звіти, MANAGE_USERS — зміни);
+ *    перевіряються лише з enumdemo.permissions.check-role-header=true.
+ * ⚠️ X-Role задає клієнт → це не захист API, а приклад роботи з масками прав (див. RoleAccess).
+ */
+@RestController
+@RequestMapping("/api/employees")
+public class EmployeeController {
+
+    private static final int MAX_LIMIT = 500;
+    private static final String ROLE_HEADER = "X-Role";
+    private static final long VIEW_PROFILE = RoleAccess.permission("VIEW_PROFILE");
+    private static final long VIEW_REPORTS = RoleAccess.permission("VIEW_REPORTS");
+    private static final long MANAGE_USERS = RoleAccess.permission("MANAGE_USERS");
+
+    private final EmployeeService service;
+    private final EmployeeReportProjection report;
+    private final RoleAccess access;
+
+    public EmployeeController(EmployeeService service, EmployeeReportProjection report, RoleAccess access) {
+        this.service = service;
+        this.report = report;
+        this.access = access;
+    }
+
+    @GetMapping
+    public EmployeePage list(@RequestParam(required = false) Role role,
+                             @RequestParam(required = false) EmploymentType employmentType,
+                             @RequestParam(defaultValue = "0") long after,
+                             @RequestParam(defaultValue = "50") int limit,
+                             @RequestHeader(name = ROLE_HEADER, required = false) String caller) {
+        access.require(caller, VIEW_PROFILE);
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be between 1 and " + MAX_LIMIT);
+        }
+        List<EmployeeResponse> items = service.find(role, employmentType, after, limit).stream()
+                .map(EmployeeResponse::from)
+                .toList();
+        // 🔹 повна сторінка → можливо, є ще записи; курсор = id останнього елемента
+        Long nextAfter = items.size() == limit ? items.get(items.size() - 1).id() : null;
+        return new EmployeePage(items, nextAfter);
+    }
+
+    @GetMapping("/report/headcount")
+    public List<EmployeeHeadcount> headcount(@RequestHeader(name = ROLE_HEADER, required = false) String caller) {
+        access.require(caller, VIEW_REPORTS);
+        return report.headcount();
+    }
+
+    @GetMapping("/report/movements")
+    public List<EmployeeMovement> movements(@RequestParam YearMonth from, @RequestParam YearMonth to,
+                                            @RequestHeader(name = ROLE_HEADER, required = false) String caller) {
+        access.require(caller, VIEW_REPORTS);
+        return report.movements(from, to);
+    }
+
+    @GetMapping("/{id}")
+    public EmployeeResponse get(@PathVariable long id,
+                                @RequestHeader(name = ROLE_HEADER, required = false) String caller) {
+        access.require(caller, VIEW_PROFILE);
+        return service.get(id).map(EmployeeResponse::from).orElseThrow(() -> notFound(id));
+    }
+
+    @PostMapping
+    public ResponseEntity<EmployeeResponse> create(@RequestBody EmployeeRequest request,
+                                                   @RequestHeader(name = ROLE_HEADER, required = false) String caller) {
+        access.require(caller, MANAGE_USERS);
+        validate(request);
+        Employee employee = service.create(request.role(), request.employmentType());
+        return ResponseEntity.status(HttpStatus.CREATED).body(EmployeeResponse.from(employee));
+    }
+
+    @PutMapping("/{id}")
+    public EmployeeResponse update(@PathVariable long id, @RequestBody EmployeeRequest request,
+                                   @RequestHeader(name = ROLE_HEADER, required = false) String caller) {
+        access.require(caller, MANAGE_USERS);
+        validate(request);
+        return service.update(id, request.role(), request.employmentType())
+                .map(EmployeeResponse::from)
+                .orElseThrow(() -> notFound(id));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable long id,
+                                       @RequestHeader(name = ROLE_HEADER, required = false) String caller) {
+        access.require(caller, MANAGE_USERS);
+        if (!service.delete(id)) {
+            throw notFound(id);
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    private static void validate(EmployeeRequest request) {
+        if (request.role() == null || request.employmentType() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "role and employmentType are required");
+        }
+    }
+
+    private static ResponseStatusException notFound(long id) {
+        return new ResponseStatusException(HttpStatus.NOT_FOUND, "Employee not found: " + id);
+    }
+}
+
+record EmployeeRequest(Role role, EmploymentType employmentType) {
+}
+
+record EmployeeResponse(Long id, Role role, EmploymentType employmentType) {
+
+    static EmployeeResponse from(Employee employee) {
+        return new EmployeeResponse(employee.getId(), employee.getRole(), employee.getEmploymentType());
+    }
+}
+
+record EmployeePage(List<EmployeeResponse> items, Long nextAfter) {
+}
@@ -0,0 +1,96 @@
+package org.example.enumdemo.withjpa;
+
+import org.example.enumdemo.withfield.StatusCodes;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Бенчмарк імпорту CSV з enum-колонками.
+ *
+ * ✅ Порівнюємо:
+ *   - BufferedReader.readLine() + split(",") + Enum.valueOf() (String на кожен рядок і поле)
+ *   - EmployeeCsvImporter (memory-mapped частини паралельно, байтове порівняння enum-ів)
+ *
+ * 🔹 Аргументи: [кількість рядків] (за замовчуванням 5 млн ≈ 180 МБ) або шлях до готового CSV.
+ *    Для multi-GB файлу: спершу згенерувати (наприклад, 100 млн рядків), далі запускати з шляхом.
+ */
+public class EmployeeCsvImportBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        Path csv;
+        boolean generated = false;
+        if (args.length > 0 && Files.exists(Path.of(args[0]))) {
+            csv = Path.of(args[0]);
+        } else {
+            long rows = args.length > 0 ? Long.parseLong(args[0]) : 5_000_000;
+            csv = generate(rows);
+            generated = true;
+        }
+        double megabytes = Files.size(csv) / (1024.0 * 1024.0);
+        System.out.printf("CSV: %s (%.1f MB)%n", csv, megabytes);
+
+        // по два проходи: перший прогріває JIT і page cache
+        for (int round = 1; round <= 2; round++) {
+            long start = System.nanoTime();
+            long naiveRows = naiveImport(csv);
+            double naiveSeconds = (System.nanoTime() - start) / 1e9;
+
+            start = System.nanoTime();
+            EmployeeColumns columns = new EmployeeCsvImporter().importFile(csv);
+            double mappedSeconds = (System.nanoTime() - start) / 1e9;
+
+            System.out.printf("Round %d:%n", round);
+            System.out.printf("  1. readLine + split + valueOf : %,d rows, %.1f MB/s%n", naiveRows, megabytes / naiveSeconds);
+            System.out.printf("  2. EmployeeCsvImporter        : %,d rows, %.1f MB/s%n", columns.size(), megabytes / mappedSeconds);
+        }
+
+        if (generated) {
+            Files.delete(csv);
+        }
+    }
+
+    private static long naiveImport(Path csv) throws IOException {
+        long rows = 0;
+        long checksum = 0;
+        try (BufferedReader reader = Files.newBufferedReader(csv)) {
+            reader.readLine(); // header
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split(",");
+                long id = Long.parseLong(fields[0]);
+                Role role = Role.valueOf(fields[1]);
+                EmploymentType type = EmploymentType.valueOf(fields[2]);
+                checksum += id + role.ordinal() + type.ordinal() + fields[3].length();
+                rows++;
+            }
+        }
+        return checksum == 0 ? 0 : rows;
+    }
+
+    private static Path generate(long rows) throws IOException {
+        Path csv = Files.createTempFile("employees", ".csv");
+        Role[] roles = Role.values();
+        EmploymentType[] types = EmploymentType.values();
+        String[] statuses = StatusCodes.names();
+        Random random = new Random(42);
+        try (BufferedWriter writer = Files.newBufferedWriter(csv)) {
+            writer.write("id,role,employment_type,status\n");
+            for (long id = 1; id <= rows; id++) {
+                writer.write(Long.toString(id));
+                writer.write(',');
+                writer.write(roles[random.nextInt(roles.length)].name());
+                writer.write(',');
+                writer.write(types[random.nextInt(types.length)].name());
+                writer.write(',');
+                writer.write(statuses[random.nextInt(statuses.length)]);
+                writer.write('\n');
+            }
+        }
+        return csv;
+    }
+}
@@ -0,0 +1,250 @@
+package org.example.enumdemo.withjpa;
+
+import org.example.enumdemo.csv.EnumByteMatcher;
+import org.example.enumdemo.withfield.StatusCodes;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Паралельний імпорт працівників із CSV (колонки id, role, employment_type, status).
+ *
+ * ✅ Ідея:
+ *   - файл ділимо на частини по кількості ядер, межі зсуваємо на початок наступного рядка
+ *   - кожна частина мапиться (MappedByteBuffer) і парситься у своєму потоці
+ *   - enum-поля розпізнаються EnumByteMatcher-ом прямо в буфері → жодного String на поле
+ *   - результат — примітивні колонки (EmployeeColumns), частини склеюються у порядку файлу
+ *
+ * 🔹 Порядок колонок береться з заголовка; status необов'язковий.
+ * ⚠️ Формат простий: роздільник ',', без ком і переносів рядка всередині полів (лапки навколо поля допускаються).
+ */
+public class EmployeeCsvImporter {
+
+    // одна частина не більше 1 ГБ (межа MappedByteBuffer — 2 ГБ)
+    private static final long MAX_PART_BYTES = 1L << 30;
+    private static final int BOUNDARY_SCAN_BYTES = 4096;
+
+    private final EnumByteMatcher roles = EnumByteMatcher.of(Role.class);
+    private final EnumByteMatcher employmentTypes = EnumByteMatcher.of(EmploymentType.class);
+    private final EnumByteMatcher statuses = EnumByteMatcher.ofNames(StatusCodes.names());
+    private final int parallelism;
+
+    public EmployeeCsvImporter() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public EmployeeCsvImporter(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public EmployeeColumns importFile(Path csv) {
+        try (FileChannel channel = FileChannel.open(csv, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            Header header = readHeader(channel);
+            long[] bounds = splitAtLines(channel, header.dataStart, fileSize);
+
+            ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+            try {
+                List<Future<EmployeeColumns>> futures = new ArrayList<>();
+                for (int i = 0; i < bounds.length - 1; i++) {
+                    long start = bounds[i];
+                    long end = bounds[i + 1];
+                    futures.add(pool.submit(() -> parsePart(channel, start, end, header)));
+                }
+                List<EmployeeColumns> parts = new ArrayList<>(futures.size());
+                for (Future<EmployeeColumns> future : futures) {
+                    parts.add(future.get());
+                }
+                return EmployeeColumns.concat(parts);
+            } finally {
+                pool.shutdownNow();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot import " + csv, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Import of " + csv + " was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Import of " + csv + " failed", e.getCause());
+        }
+    }
+
+    private EmployeeColumns parsePart(FileChannel channel, long start, long end, Header header) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        int limit = buffer.limit();
+        // ~30 байт на рядок — грубий початковий розмір, далі колонки ростуть самі
+        EmployeeColumns columns = new EmployeeColumns(limit / 30);
+
+        int pos = 0;
+        while (pos < limit) {
+            // порожні рядки (наприклад, у кінці файлу) пропускаємо
+            byte first = buffer.get(pos);
+            if (first == '\n' || (first == '\r' && pos + 1 < limit && buffer.get(pos + 1) == '\n')) {
+                pos += first == '\n' ? 1 : 2;
+                continue;
+            }
+            long id = -1;
+            int role = -1;
+            int employmentType = -1;
+            int status = -1;
+            int field = 0;
+            int fieldStart = pos;
+            while (true) {
+                byte b = pos < limit ? buffer.get(pos) : (byte) '\n';
+                if (b == ',' || b == '\n') {
+                    int fieldEnd = pos;
+                    if (b == '\n' && fieldEnd > fieldStart && buffer.get(fieldEnd - 1) == '\r') {
+                        fieldEnd--;
+                    }
+                    if (fieldEnd - fieldStart >= 2 && buffer.get(fieldStart) == '"' && buffer.get(fieldEnd - 1) == '"') {
+                        fieldStart++;
+                        fieldEnd--;
+                    }
+                    if (field == header.idColumn) {
+                        id = parseLong(buffer, fieldStart, fieldEnd, start);
+                    } else if (field == header.roleColumn) {
+                        role = match(roles, "role", buffer, fieldStart, fieldEnd, start);
+                    } else if (field == header.employmentTypeColumn) {
+                        employmentType = match(employmentTypes, "employment_type", buffer, fieldStart, fieldEnd, start);
+                    } else if (field == header.statusColumn) {
+                        status = match(statuses, "status", buffer, fieldStart, fieldEnd, start);
+                    }
+                    field++;
+                    pos++;
+                    fieldStart = pos;
+                    if (b == '\n') {
+                        break;
+                    }
+                } else {
+                    pos++;
+                }
+            }
+            // 🔹 коротший за заголовок рядок не має цих полів взагалі → помилка, а не id = 0
+            if (id < 0 || role < 0 || employmentType < 0) {
+                throw new IllegalArgumentException("Missing id, role or employment_type in line ending at byte "
+                        + (start + pos));
+            }
+            columns.add(id, role, employmentType, status);
+        }
+        return columns;
+    }
+
+    private static int match(EnumByteMatcher matcher, String column, ByteBuffer buffer, int from, int to, long partStart) {
+        int code = matcher.match(buffer, from, to);
+        if (code < 0) {
+            throw new IllegalArgumentException("Unknown " + column + " at byte " + (partStart + from) + ": '"
+                    + text(buffer, from, to) + "'");
+        }
+        return code;
+    }
+
+    private static long parseLong(ByteBuffer buffer, int from, int to, long partStart) {
+        if (from == to) {
+            throw new IllegalArgumentException("Empty id at byte " + (partStart + from));
+        }
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IllegalArgumentException("Invalid id at byte " + (partStart + from) + ": '"
+                        + text(buffer, from, to) + "'");
+            }
+            try {
+                value = Math.addExact(Math.multiplyExact(value, 10), digit);
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("Id out of range at byte " + (partStart + from) + ": '"
+                        + text(buffer, from, to) + "'", e);
+            }
+        }
+        return value;
+    }
+
+    // 🔹 String створюємо тільки для повідомлення про помилку
+    private static String text(ByteBuffer buffer, int from, int to) {
+        byte[] bytes = new byte[to - from];
+        buffer.get(from, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private Header readHeader(FileChannel channel) throws IOException {
+        long end = nextLineStart(channel, 0, channel.size());
+        ByteBuffer buffer = ByteBuffer.allocate((int) end);
+        channel.read(buffer, 0);
+        String[] names = new String(buffer.array(), StandardCharsets.UTF_8).strip().split(",");
+        Header header = new Header(end);
+        for (int i = 0; i < names.length; i++) {
+            switch (names[i].strip().replace("\"", "")) {
+                case "id" -> header.idColumn = i;
+                case "role" -> header.roleColumn = i;
+                case "employment_type" -> header.employmentTypeColumn = i;
+                case "status" -> header.statusColumn = i;
+                default -> { }
+            }
+        }
+        if (header.idColumn < 0 || header.roleColumn < 0 || header.employmentTypeColumn < 0) {
+            throw new IllegalArgumentException("CSV header must contain id, role and employment_type: "
+                    + String.join(",", names));
+        }
+        return header;
+    }
+
+    // 🔹 межі частин: рівні шматки, кожна межа зсунута на початок наступного рядка
+    private long[] splitAtLines(FileChannel channel, long dataStart, long fileSize) throws IOException {
+        long dataSize = fileSize - dataStart;
+        int parts = (int) Math.max(parallelism, (dataSize + MAX_PART_BYTES - 1) / MAX_PART_BYTES);
+        parts = (int) Math.max(1, Math.min(parts, dataSize));
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(dataStart);
+        for (int i = 1; i < parts; i++) {
+            long boundary = nextLineStart(channel, dataStart + dataSize * i / parts, fileSize);
+            if (boundary > bounds.get(bounds.size() - 1) && boundary < fileSize) {
+                bounds.add(boundary);
+            }
+        }
+        bounds.add(fileSize);
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static long nextLineStart(FileChannel channel, long from, long fileSize) throws IOException {
+        ByteBuffer window = ByteBuffer.allocate(BOUNDARY_SCAN_BYTES);
+        long pos = from;
+        while (pos < fileSize) {
+            window.clear();
+            int read = channel.read(window, pos);
+            for (int i = 0; i < read; i++) {
+                if (window.get(i) == '\n') {
+                    return pos + i + 1;
+                }
+            }
+            pos += read;
+        }
+        return fileSize;
+    }
+
+    private static final class Header {
+        private final long dataStart;
+        private int idColumn = -1;
+        private int roleColumn = -1;
+        private int employmentTypeColumn = -1;
+        private int statusColumn = -1;
+
+        private Header(long dataStart) {
+            this.dataStart = dataStart;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.enumdemo.withjpa;
+
+import org.example.enumdemo.metadata.EnumMetadataContributor;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Довідники Role та EmploymentType для /api/metadata.
+ */
+@Component
+public class EmployeeEnumMetadata implements EnumMetadataContributor {
+
+    @Override
+    public Map<String, Object> metadata() {
+        List<String> roles = Arrays.stream(Role.values()).map(Role::name).toList();
+        List<Map<String, String>> employmentTypes = Arrays.stream(EmploymentType.values())
+                .map(type -> Map.of("name", type.name(), "displayName", type.getDisplayName()))
+                .toList();
+        return Map.of("roles", roles, "employmentTypes", employmentTypes);
+    }
+}
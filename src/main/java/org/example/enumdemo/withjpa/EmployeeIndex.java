@@ -0,0 +1,159 @@
+package org.example.enumdemo.withjpa;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * In-memory індекс id працівників, розбитий по Role × EmploymentType.
+ *
+ * ✅ Ідея:
+ *   - EnumMap<Role, EnumMap<EmploymentType, IdBucket>> → кожна комбінація має власний "кошик"
+ *   - кошик = long[], що росте вдвічі (без List<Long> і без boxing)
+ *   - запит "усі DRIVER-и, які CONTRACTOR" = одна копія масиву → O(розмір результату), а не O(усіх працівників)
+ *
+ * 🔹 Конкурентність: StampedLock.
+ *   - писачі (add/remove/update) беруть writeLock
+ *   - читачі спочатку пробують optimistic read (без блокування), копіюють масив і перевіряють validate();
+ *     якщо за цей час був запис → повторюють під readLock
+ */
+public class EmployeeIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final EnumMap<Role, EnumMap<EmploymentType, IdBucket>> buckets = new EnumMap<>(Role.class);
+    private final StampedLock lock = new StampedLock();
+
+    public EmployeeIndex() {
+        // 🔹 усі кошики створюємо заздалегідь → структура EnumMap-ів більше не змінюється
+        for (Role role : Role.values()) {
+            EnumMap<EmploymentType, IdBucket> byType = new EnumMap<>(EmploymentType.class);
+            for (EmploymentType type : EmploymentType.values()) {
+                byType.put(type, new IdBucket());
+            }
+            buckets.put(role, byType);
+        }
+    }
+
+    public void add(Employee employee) {
+        add(employee.getId(), employee.getRole(), employee.getEmploymentType());
+    }
+
+    public void add(long id, Role role, EmploymentType employmentType) {
+        long stamp = lock.writeLock();
+        try {
+            bucket(role, employmentType).add(id);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean remove(long id, Role role, EmploymentType employmentType) {
+        long stamp = lock.writeLock();
+        try {
+            return bucket(role, employmentType).remove(id);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // 🔹 переносить id в інший кошик атомарно для читачів (вони не побачать "проміжний" стан)
+    public boolean update(long id, Role oldRole, EmploymentType oldType, Role newRole, EmploymentType newType) {
+        long stamp = lock.writeLock();
+        try {
+            if (!bucket(oldRole, oldType).remove(id)) {
+                return false;
+            }
+            bucket(newRole, newType).add(id);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public long[] ids(Role role, EmploymentType employmentType) {
+        IdBucket bucket = bucket(role, employmentType);
+        long stamp = lock.tryOptimisticRead();
+        long[] result = bucket.copy();
+        if (lock.validate(stamp)) {
+            return result;
+        }
+        stamp = lock.readLock();
+        try {
+            return bucket.copy();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public long[] ids(Role role) {
+        long stamp = lock.readLock();
+        try {
+            EnumMap<EmploymentType, IdBucket> byType = buckets.get(role);
+            int total = 0;
+            for (IdBucket bucket : byType.values()) {
+                total += bucket.size;
+            }
+            long[] result = new long[total];
+            int offset = 0;
+            for (IdBucket bucket : byType.values()) {
+                System.arraycopy(bucket.ids, 0, result, offset, bucket.size);
+                offset += bucket.size;
+            }
+            return result;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public int count(Role role, EmploymentType employmentType) {
+        IdBucket bucket = bucket(role, employmentType);
+        long stamp = lock.tryOptimisticRead();
+        int size = bucket.size;
+        if (lock.validate(stamp)) {
+            return size;
+        }
+        stamp = lock.readLock();
+        try {
+            return bucket.size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private IdBucket bucket(Role role, EmploymentType employmentType) {
+        return buckets.get(role).get(employmentType);
+    }
+
+    /**
+     * Масив id, що росте вдвічі. Порядок id не гарантується (remove переносить останній елемент на місце видаленого).
+     */
+    private static final class IdBucket {
+        private long[] ids = new long[INITIAL_CAPACITY];
+        private int size;
+
+        void add(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        boolean remove(long id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    ids[i] = ids[--size];
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // ⚠️ при optimistic read ids і size можуть бути з різних "версій" → копіюємо обережно, validate() відкине результат
+        long[] copy() {
+            long[] current = ids;
+            int n = Math.min(size, current.length);
+            return Arrays.copyOf(current, n);
+        }
+    }
+}
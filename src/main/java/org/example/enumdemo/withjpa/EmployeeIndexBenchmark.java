@@ -0,0 +1,68 @@
+package org.example.enumdemo.withjpa;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Бенчмарк: "усі DRIVER-и, які CONTRACTOR" серед N працівників.
+ *
+ * ✅ Порівнюємо:
+ *   - stream().filter() по List<Employee> → O(N) на кожен запит
+ *   - EmployeeIndex.ids(role, type) → O(розмір результату)
+ *
+ * 🔹 Аргументи: [кількість працівників] (за замовчуванням 1 млн).
+ */
+public class EmployeeIndexBenchmark {
+
+    private static final int QUERIES = 200;
+
+    // щоб JIT не викинув результат
+    private static long sink;
+
+    public static void main(String[] args) {
+        int employees = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Role[] roles = Role.values();
+        EmploymentType[] types = EmploymentType.values();
+
+        // 1️⃣ Однакові дані в списку та в індексі
+        List<Employee> list = new ArrayList<>(employees);
+        EmployeeIndex index = new EmployeeIndex();
+        Random random = new Random(42);
+        for (long id = 1; id <= employees; id++) {
+            Employee employee = new Employee(id, roles[random.nextInt(roles.length)], types[random.nextInt(types.length)]);
+            list.add(employee);
+            index.add(employee);
+        }
+
+        // 2️⃣ Прогрів
+        for (int i = 0; i < QUERIES; i++) {
+            sink += streamQuery(list).length + index.ids(Role.DRIVER, EmploymentType.CONTRACTOR).length;
+        }
+
+        // 3️⃣ Вимірювання
+        long start = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) {
+            sink += streamQuery(list).length;
+        }
+        double streamMicros = (System.nanoTime() - start) / 1_000.0 / QUERIES;
+
+        start = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) {
+            sink += index.ids(Role.DRIVER, EmploymentType.CONTRACTOR).length;
+        }
+        double indexMicros = (System.nanoTime() - start) / 1_000.0 / QUERIES;
+
+        System.out.println("Result size = " + index.count(Role.DRIVER, EmploymentType.CONTRACTOR) + " of " + employees);
+        System.out.printf("1. Stream filter over List : %.1f us/query%n", streamMicros);
+        System.out.printf("2. EmployeeIndex           : %.1f us/query%n", indexMicros);
+        System.out.println("(sink=" + sink + ")");
+    }
+
+    private static long[] streamQuery(List<Employee> list) {
+        return list.stream()
+                .filter(e -> e.getRole() == Role.DRIVER && e.getEmploymentType() == EmploymentType.CONTRACTOR)
+                .mapToLong(Employee::getId)
+                .toArray();
+    }
+}
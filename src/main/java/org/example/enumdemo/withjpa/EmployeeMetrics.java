@@ -0,0 +1,30 @@
+package org.example.enumdemo.withjpa;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.enumdemo.metrics.EnumMeters;
+import org.springframework.stereotype.Component;
+
+/**
+ * Лічильники того, скільки Employee проходить через систему з кожною Role / EmploymentType.
+ *
+ * 🔹 Метрики:
+ *   - enumdemo.employee.role.count            {role=ADMIN|USER|DRIVER}
+ *   - enumdemo.employee.employment_type.count {employment_type=FULL_TIME|PART_TIME|CONTRACTOR}
+ * 🔹 Лише лічильники: збереження працівника не має окремої тривалості на enum, тож .duration тут не реєструється.
+ */
+@Component
+public class EmployeeMetrics {
+
+    private final EnumMeters<Role> roles;
+    private final EnumMeters<EmploymentType> employmentTypes;
+
+    public EmployeeMetrics(MeterRegistry registry) {
+        this.roles = EnumMeters.counters(registry, "enumdemo.employee.role", Role.class);
+        this.employmentTypes = EnumMeters.counters(registry, "enumdemo.employee.employment_type", EmploymentType.class);
+    }
+
+    void record(Employee employee) {
+        roles.increment(employee.getRole());
+        employmentTypes.increment(employee.getEmploymentType());
+    }
+}
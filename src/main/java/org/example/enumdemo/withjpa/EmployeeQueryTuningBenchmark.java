@@ -0,0 +1,134 @@
+package org.example.enumdemo.withjpa;
+
+import org.example.enumdemo.EnumdemoApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Бенчмарк профілю prod (application-prod.yml) проти налаштувань за замовчуванням (application.yml)
+ * на запитах репозиторію з enum-фільтрами (локальний Postgres з docker-compose).
+ *
+ * ✅ Для кожного профілю піднімається окремий контекст Spring (без web) і з N потоків міряються запити/с:
+ *   1. EmployeeService.find(role, employmentType, after, 50) — keyset-сторінка з двома enum-параметрами
+ *   2. findByRoleIn...(випадкова підмножина ролей) — IN-список змінної довжини
+ *   3. findAllById(1..64 випадкових id) — довгі IN-списки, де in_clause_parameter_padding помітний найбільше
+ *
+ * 🔹 Outbox і SQL-лог вимкнені в обох прогонах, щоб міряти лише запити.
+ * 🔹 Аргументи: [потоків, 16] [секунд на навантаження, 10] [мінімум співробітників у таблиці, 200 000].
+ */
+public class EmployeeQueryTuningBenchmark {
+
+    @FunctionalInterface
+    private interface Query {
+        void run(EmployeeService service, EmployeeRepository repository, long maxId, ThreadLocalRandom random);
+    }
+
+    private static final Map<String, Query> WORKLOADS = new LinkedHashMap<>();
+
+    static {
+        Role[] roles = Role.values();
+        EmploymentType[] types = EmploymentType.values();
+        WORKLOADS.put("role + employmentType keyset", (service, repository, maxId, random) ->
+                service.find(roles[random.nextInt(roles.length)], types[random.nextInt(types.length)],
+                        random.nextLong(maxId), 50));
+        WORKLOADS.put("role IN (subset) keyset     ", (service, repository, maxId, random) -> {
+            EnumSet<Role> subset = EnumSet.noneOf(Role.class);
+            while (subset.isEmpty()) {
+                for (Role role : roles) {
+                    if (random.nextBoolean()) {
+                        subset.add(role);
+                    }
+                }
+            }
+            repository.findByRoleInAndIdGreaterThanOrderByIdAsc(subset, random.nextLong(maxId), Limit.of(50));
+        });
+        WORKLOADS.put("findAllById (1..64 ids)     ", (service, repository, maxId, random) -> {
+            int n = 1 + random.nextInt(64);
+            List<Long> ids = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                ids.add(1 + random.nextLong(maxId));
+            }
+            repository.findAllById(ids);
+        });
+    }
+
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        int employees = args.length > 2 ? Integer.parseInt(args[2]) : 200_000;
+
+        Map<String, double[]> results = new LinkedHashMap<>();
+        String[] profiles = {"default", "prod"};
+        for (int p = 0; p < profiles.length; p++) {
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(EnumdemoApplication.class)
+                    .web(WebApplicationType.NONE)
+                    .profiles(profiles[p])
+                    .properties("enumdemo.outbox.enabled=false", "enumdemo.sql-log.enabled=false")
+                    .run()) {
+                long maxId = seed(context.getBean(JdbcTemplate.class), employees);
+                EmployeeService service = context.getBean(EmployeeService.class);
+                EmployeeRepository repository = context.getBean(EmployeeRepository.class);
+                for (Map.Entry<String, Query> workload : WORKLOADS.entrySet()) {
+                    // прогрів: кеші планів Hibernate, prepared statements на всіх з'єднаннях пулу, JIT
+                    run(threads, Math.max(1, seconds / 3), workload.getValue(), service, repository, maxId);
+                    double qps = run(threads, seconds, workload.getValue(), service, repository, maxId);
+                    results.computeIfAbsent(workload.getKey(), k -> new double[profiles.length])[p] = qps;
+                }
+            }
+        }
+
+        System.out.printf("%n%d threads, %d s per workload:%n", threads, seconds);
+        System.out.println("workload                     |  default q/s |     prod q/s | gain");
+        results.forEach((name, qps) -> System.out.printf("%s | %,12.0f | %,12.0f | x%.2f%n", name, qps[0], qps[1], qps[1] / qps[0]));
+    }
+
+    // 🔹 доповнює employees до потрібної кількості одним INSERT ... SELECT; повертає max(id)
+    private static long seed(JdbcTemplate jdbc, int employees) {
+        long count = jdbc.queryForObject("SELECT count(*) FROM employees", Long.class);
+        if (count < employees) {
+            jdbc.update("""
+                    INSERT INTO employees (role, employment_type)
+                    SELECT (ARRAY['ADMIN', 'USER', 'DRIVER'])[1 + i % 3],
+                           (ARRAY['FULL_TIME', 'PART_TIME', 'CONTRACTOR'])[1 + (i / 3) % 3]
+                    FROM generate_series(1, ?) AS i""", employees - count);
+            jdbc.execute("ANALYZE employees");
+        }
+        return jdbc.queryForObject("SELECT max(id) FROM employees", Long.class);
+    }
+
+    private static double run(int threads, int seconds, Query query, EmployeeService service,
+                              EmployeeRepository repository, long maxId) throws InterruptedException {
+        LongAdder done = new LongAdder();
+        CountDownLatch finished = new CountDownLatch(threads);
+        long start = System.nanoTime();
+        long deadline = start + seconds * 1_000_000_000L;
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                try {
+                    while (System.nanoTime() < deadline) {
+                        query.run(service, repository, maxId, random);
+                        done.increment();
+                    }
+                } finally {
+                    finished.countDown();
+                }
+            });
+            worker.start();
+        }
+        finished.await();
+        return done.sum() / ((System.nanoTime() - start) / 1e9);
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.enumdemo.withjpa;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Рядок денормалізованої звітної проекції employees: один рядок на (місяць, role, employment_type).
+ *
+ * 🔹 headcount — кількість співробітників на кінець місяця (переноситься з попереднього місяця),
+ *    joined / departed — скільки прийшло й пішло за місяць.
+ * 🔹 employment_type_display — уже готовий EmploymentType.getDisplayName(), звіт не декодує enum-и.
+ * 🔹 Сутність потрібна лише для схеми (ddl-auto); підтримка і читання — через EmployeeReportProjection (JdbcTemplate).
+ */
+@Entity
+@Table(name = "employee_report")
+public class EmployeeReport {
+
+    @EmbeddedId
+    private Key key;
+
+    @Column(name = "employment_type_display", nullable = false)
+    private String employmentTypeDisplay;
+
+    @Column(nullable = false)
+    private long headcount;
+
+    @Column(nullable = false)
+    private long joined;
+
+    @Column(nullable = false)
+    private long departed;
+
+    protected EmployeeReport() {
+    }
+
+    @Embeddable
+    public static class Key implements Serializable {
+
+        // перший день місяця
+        @Column(nullable = false)
+        private LocalDate period;
+
+        @Enumerated(EnumType.STRING)
+        @Column(nullable = false)
+        private Role role;
+
+        @Enumerated(EnumType.STRING)
+        @Column(name = "employment_type", nullable = false)
+        private EmploymentType employmentType;
+
+        protected Key() {
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other && Objects.equals(period, other.period)
+                    && role == other.role && employmentType == other.employmentType;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(period, role, employmentType);
+        }
+    }
+}
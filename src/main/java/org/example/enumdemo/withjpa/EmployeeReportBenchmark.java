@@ -0,0 +1,115 @@
+package org.example.enumdemo.withjpa;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Бенчмарк звітної проекції employee_report проти запиту до employees (локальний Postgres з docker-compose).
+ *
+ * ✅ Міряємо:
+ *   1. повну перебудову проекції (rebuild) — те, чого інкрементальне оновлення дозволяє уникнути
+ *   2. вартість інкрементального оновлення: мкс на одну подію (create / update / delete)
+ *   3. латентність звіту headcount: GROUP BY по employees + декодування enum-ів проти читання проекції
+ *
+ * 🔹 Усе відбувається в окремій схемі report_bench (таблиці employees / employee_report з тими самими колонками),
+ *    таблиці застосунку не чіпаються.
+ * 🔹 Аргументи: [кількість співробітників, 1 млн] [jdbcUrl] [user] [password].
+ */
+public class EmployeeReportBenchmark {
+
+    private static final int EVENTS = 20_000;
+    private static final int REPORTS = 50;
+
+    public static void main(String[] args) {
+        int employees = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        String url = args.length > 1 ? args[1] : "jdbc:postgresql://localhost:5432/enumdemo";
+        String user = args.length > 2 ? args[2] : "enumdemo";
+        String password = args.length > 3 ? args[3] : "enumdemo";
+
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(url, user, password, true);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE SCHEMA IF NOT EXISTS report_bench");
+        jdbc.execute("SET search_path TO report_bench");
+        setUp(jdbc, employees);
+        EmployeeReportProjection projection = new EmployeeReportProjection(jdbc);
+
+        long start = System.nanoTime();
+        projection.rebuild();
+        System.out.printf("1. Full rebuild from %,d employees: %.1f ms%n", employees, (System.nanoTime() - start) / 1e6);
+
+        Random random = new Random(42);
+        Role[] roles = Role.values();
+        EmploymentType[] types = EmploymentType.values();
+        YearMonth month = YearMonth.now();
+        start = System.nanoTime();
+        for (int i = 0; i < EVENTS; i++) {
+            Role role = roles[random.nextInt(roles.length)];
+            EmploymentType type = types[random.nextInt(types.length)];
+            EmployeeChangedEvent event = switch (i % 3) {
+                case 0 -> new EmployeeChangedEvent(i, null, null, role, type);
+                case 1 -> new EmployeeChangedEvent(i, role, type, roles[random.nextInt(roles.length)], types[random.nextInt(types.length)]);
+                default -> new EmployeeChangedEvent(i, role, type, null, null);
+            };
+            // кожна десята подія — в "наступному місяці", щоб працювало і перенесення headcount
+            projection.apply(event, i % 10 == 9 ? month.plusMonths(1) : month);
+        }
+        System.out.printf("2. Incremental refresh: %.1f us/event (%,d events)%n", (System.nanoTime() - start) / 1e3 / EVENTS, EVENTS);
+
+        report("3a. headcount from employees (GROUP BY)", projection::headcountFromBaseTable);
+        report("3b. headcount from employee_report     ", projection::headcount);
+        report("3c. movements from employee_report     ", () -> projection.movements(month.minusMonths(12), month.plusMonths(1)));
+
+        jdbc.execute("DROP SCHEMA report_bench CASCADE");
+        dataSource.destroy();
+    }
+
+    private static void report(String label, java.util.function.Supplier<List<?>> query) {
+        for (int i = 0; i < 5; i++) {
+            query.get();
+        }
+        long[] micros = new long[REPORTS];
+        int rows = 0;
+        for (int i = 0; i < REPORTS; i++) {
+            long start = System.nanoTime();
+            rows = query.get().size();
+            micros[i] = (System.nanoTime() - start) / 1_000;
+        }
+        Arrays.sort(micros);
+        System.out.printf("%s: p50 %,9d us, p99 %,9d us (%d rows)%n", label,
+                micros[REPORTS / 2], micros[REPORTS * 99 / 100], rows);
+    }
+
+    private static void setUp(JdbcTemplate jdbc, int employees) {
+        jdbc.execute("DROP TABLE IF EXISTS employee_report, employees");
+        jdbc.execute("""
+                CREATE TABLE employees (
+                    id bigserial PRIMARY KEY,
+                    role varchar(255) NOT NULL,
+                    employment_type varchar(255) NOT NULL
+                )""");
+        jdbc.execute("""
+                CREATE TABLE employee_report (
+                    period date NOT NULL,
+                    role varchar(255) NOT NULL,
+                    employment_type varchar(255) NOT NULL,
+                    employment_type_display varchar(255) NOT NULL,
+                    headcount bigint NOT NULL,
+                    joined bigint NOT NULL,
+                    departed bigint NOT NULL,
+                    PRIMARY KEY (employment_type, period, role)
+                )""");
+        // генеруємо на стороні БД: так швидше, ніж мільйон INSERT-ів з клієнта
+        jdbc.update("""
+                INSERT INTO employees (role, employment_type)
+                SELECT (ARRAY['ADMIN', 'USER', 'DRIVER'])[1 + i % 3],
+                       (ARRAY['FULL_TIME', 'PART_TIME', 'CONTRACTOR'])[1 + (i / 3) % 3]
+                FROM generate_series(1, ?) AS i
+                """, employees);
+        jdbc.execute("ANALYZE employees");
+    }
+}
@@ -0,0 +1,159 @@
+package org.example.enumdemo.withjpa;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Date;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Підтримує звітну проекцію employee_report інкрементально — з подій EmployeeChangedEvent, без повних перебудов.
+ *
+ * ✅ Кожна подія = 1–2 upsert-и рядка поточного місяця:
+ *   - рядка ще немає → headcount береться з останнього попереднього місяця + delta
+ *   - рядок є → headcount += delta, joined / departed += 1
+ *
+ * 🔹 Слухач працює в BEFORE_COMMIT тієї ж транзакції, що й зміна Employee:
+ *    проекція ніколи не розходиться з базовою таблицею, але upsert тримає лок рядка (місяць, role, type) до коміту.
+ * 🔹 rebuild() — одноразова ініціалізація з employees (на старті, якщо проекція порожня).
+ */
+@Component
+public class EmployeeReportProjection {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO employee_report (period, role, employment_type, employment_type_display, headcount, joined, departed)
+            VALUES (?, ?, ?, ?,
+                    coalesce((SELECT r.headcount FROM employee_report r
+                              WHERE r.role = ? AND r.employment_type = ? AND r.period < ?
+                              ORDER BY r.period DESC LIMIT 1), 0) + ?,
+                    ?, ?)
+            ON CONFLICT (period, role, employment_type) DO UPDATE SET
+                headcount = employee_report.headcount + ?,
+                joined = employee_report.joined + EXCLUDED.joined,
+                departed = employee_report.departed + EXCLUDED.departed
+            """;
+
+    // 🔹 останній відомий місяць для кожної пари (role, employment_type)
+    private static final String HEADCOUNT_SQL = """
+            SELECT DISTINCT ON (role, employment_type) role, employment_type, employment_type_display, headcount
+            FROM employee_report
+            ORDER BY role, employment_type, period DESC
+            """;
+
+    private static final String MOVEMENTS_SQL = """
+            SELECT period, role, employment_type, employment_type_display, joined, departed
+            FROM employee_report
+            WHERE period BETWEEN ? AND ?
+            ORDER BY period, role, employment_type
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EmployeeReportProjection(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    void on(EmployeeChangedEvent event) {
+        apply(event, YearMonth.now());
+    }
+
+    void apply(EmployeeChangedEvent event, YearMonth month) {
+        boolean created = event.oldRole() == null;
+        boolean deleted = event.newRole() == null;
+        if (!created && !deleted && event.oldRole() == event.newRole() && event.oldType() == event.newType()) {
+            return;
+        }
+        Date period = Date.valueOf(month.atDay(1));
+        if (!created) {
+            upsert(period, event.oldRole(), event.oldType(), -1, 0, deleted ? 1 : 0);
+        }
+        if (!deleted) {
+            upsert(period, event.newRole(), event.newType(), 1, created ? 1 : 0, 0);
+        }
+    }
+
+    /**
+     * Перебудовує проекцію з нуля: поточний місяць = актуальний headcount з employees.
+     * Історію joined / departed до цього моменту не відновлює — її немає в базовій таблиці.
+     */
+    @Transactional
+    public void rebuild() {
+        Date period = Date.valueOf(YearMonth.now().atDay(1));
+        jdbcTemplate.update("DELETE FROM employee_report");
+        List<Object[]> rows = new ArrayList<>();
+        jdbcTemplate.query("SELECT role, employment_type, count(*) FROM employees GROUP BY role, employment_type", rs -> {
+            EmploymentType type = EmploymentType.valueOf(rs.getString(2));
+            rows.add(new Object[]{period, rs.getString(1), type.name(), type.getDisplayName(), rs.getLong(3)});
+        });
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO employee_report (period, role, employment_type, employment_type_display, headcount, joined, departed)
+                VALUES (?, ?, ?, ?, ?, 0, 0)
+                """, rows);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuildIfEmpty() {
+        Boolean empty = jdbcTemplate.queryForObject("SELECT NOT EXISTS (SELECT 1 FROM employee_report)", Boolean.class);
+        if (Boolean.TRUE.equals(empty)) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Поточна кількість співробітників по (role, employmentType) — без скану employees.
+     */
+    @Transactional(readOnly = true)
+    public List<EmployeeHeadcount> headcount() {
+        return jdbcTemplate.query(HEADCOUNT_SQL, (rs, i) -> new EmployeeHeadcount(
+                Role.valueOf(rs.getString(1)), EmploymentType.valueOf(rs.getString(2)), rs.getString(3), rs.getLong(4)));
+    }
+
+    /**
+     * Прийоми / звільнення по місяцях [from, to].
+     */
+    @Transactional(readOnly = true)
+    public List<EmployeeMovement> movements(YearMonth from, YearMonth to) {
+        return jdbcTemplate.query(MOVEMENTS_SQL, (rs, i) -> new EmployeeMovement(
+                        YearMonth.from(rs.getDate(1).toLocalDate()), Role.valueOf(rs.getString(2)),
+                        EmploymentType.valueOf(rs.getString(3)), rs.getString(4), rs.getLong(5), rs.getLong(6)),
+                Date.valueOf(from.atDay(1)), Date.valueOf(to.atDay(1)));
+    }
+
+    /**
+     * Той самий звіт напряму з employees: GROUP BY по всій таблиці + декодування display name на кожен запит.
+     * Для порівняння в EmployeeReportBenchmark.
+     */
+    List<EmployeeHeadcount> headcountFromBaseTable() {
+        List<EmployeeHeadcount> result = new ArrayList<>();
+        jdbcTemplate.query("SELECT role, employment_type, count(*) FROM employees GROUP BY role, employment_type ORDER BY 1, 2",
+                rs -> {
+                    EmploymentType type = EmploymentType.valueOf(rs.getString(2));
+                    result.add(new EmployeeHeadcount(Role.valueOf(rs.getString(1)), type, type.getDisplayName(), rs.getLong(3)));
+                });
+        return result;
+    }
+
+    private void upsert(Date period, Role role, EmploymentType type, int delta, int joined, int departed) {
+        jdbcTemplate.update(UPSERT_SQL,
+                period, role.name(), type.name(), type.getDisplayName(),
+                role.name(), type.name(), period, delta,
+                joined, departed,
+                delta);
+    }
+}
+
+record EmployeeHeadcount(Role role, EmploymentType employmentType, String employmentTypeDisplay, long headcount) {
+}
+
+record EmployeeMovement(YearMonth period, Role role, EmploymentType employmentType, String employmentTypeDisplay,
+                        long joined, long departed) {
+}
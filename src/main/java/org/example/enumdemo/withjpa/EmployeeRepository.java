@@ -0,0 +1,28 @@
+package org.example.enumdemo.withjpa;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Репозиторій Employee з keyset-пагінацією ("дай наступні limit записів після id").
+ *
+ * 🔹 Окремий метод на кожну комбінацію фільтрів, а не один запит з "(:role is null or ...)":
+ *    так у кожного запиту свій простий план і він може використати індекс.
+ */
+public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+
+    List<Employee> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    List<Employee> findByRoleAndIdGreaterThanOrderByIdAsc(Role role, Long afterId, Limit limit);
+
+    List<Employee> findByEmploymentTypeAndIdGreaterThanOrderByIdAsc(EmploymentType employmentType, Long afterId, Limit limit);
+
+    List<Employee> findByRoleAndEmploymentTypeAndIdGreaterThanOrderByIdAsc(Role role, EmploymentType employmentType,
+                                                                          Long afterId, Limit limit);
+
+    // 🔹 role IN (...) з різною кількістю ролей → різний SQL; in_clause_parameter_padding (профіль prod) зводить їх до 2^n
+    List<Employee> findByRoleInAndIdGreaterThanOrderByIdAsc(Collection<Role> roles, Long afterId, Limit limit);
+}
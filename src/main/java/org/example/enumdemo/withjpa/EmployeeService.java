@@ -0,0 +1,88 @@
+package org.example.enumdemo.withjpa;
+
+import org.example.enumdemo.outbox.OutboxWriter;
+import org.example.enumdemo.strategy.NotificationChannels;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * CRUD для Employee + фільтрація по Role / EmploymentType з keyset-пагінацією.
+ */
+@Service
+@Transactional
+public class EmployeeService {
+
+    private final EmployeeRepository repository;
+    private final EmployeeMetrics metrics;
+    private final OutboxWriter outbox;
+    private final ApplicationEventPublisher events;
+
+    public EmployeeService(EmployeeRepository repository, EmployeeMetrics metrics, OutboxWriter outbox,
+                           ApplicationEventPublisher events) {
+        this.repository = repository;
+        this.metrics = metrics;
+        this.outbox = outbox;
+        this.events = events;
+    }
+
+    /**
+     * @param role           фільтр або null
+     * @param employmentType фільтр або null
+     * @param afterId        id останнього запису попередньої сторінки (0 для першої)
+     */
+    @Transactional(readOnly = true)
+    public List<Employee> find(Role role, EmploymentType employmentType, long afterId, int limit) {
+        Limit max = Limit.of(limit);
+        if (role != null && employmentType != null) {
+            return repository.findByRoleAndEmploymentTypeAndIdGreaterThanOrderByIdAsc(role, employmentType, afterId, max);
+        }
+        if (role != null) {
+            return repository.findByRoleAndIdGreaterThanOrderByIdAsc(role, afterId, max);
+        }
+        if (employmentType != null) {
+            return repository.findByEmploymentTypeAndIdGreaterThanOrderByIdAsc(employmentType, afterId, max);
+        }
+        return repository.findByIdGreaterThanOrderByIdAsc(afterId, max);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Employee> get(long id) {
+        return repository.findById(id);
+    }
+
+    public Employee create(Role role, EmploymentType employmentType) {
+        Employee employee = repository.save(new Employee(role, employmentType));
+        metrics.record(employee);
+        events.publishEvent(EmployeeChangedEvent.created(employee));
+        // 🔹 нотифікація комітиться разом з Employee (або не зберігається взагалі)
+        outbox.enqueue(NotificationChannels.EMAIL, "employee:" + employee.getId(),
+                "Welcome aboard! Role: " + role + ", employment: " + employmentType.getDisplayName());
+        return employee;
+    }
+
+    public Optional<Employee> update(long id, Role role, EmploymentType employmentType) {
+        return repository.findById(id).map(employee -> {
+            EmployeeChangedEvent event = new EmployeeChangedEvent(id, employee.getRole(), employee.getEmploymentType(),
+                    role, employmentType);
+            employee.setRole(role);
+            employee.setEmploymentType(employmentType);
+            metrics.record(employee);
+            events.publishEvent(event);
+            return employee;
+        });
+    }
+
+    public boolean delete(long id) {
+        // 🔹 читаємо перед видаленням: проекції потрібні role / employmentType, які зникнуть
+        return repository.findById(id).map(employee -> {
+            repository.delete(employee);
+            events.publishEvent(EmployeeChangedEvent.deleted(employee));
+            return true;
+        }).orElse(false);
+    }
+}
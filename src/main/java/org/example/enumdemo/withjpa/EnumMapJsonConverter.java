@@ -0,0 +1,86 @@
+package org.example.enumdemo.withjpa;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import jakarta.persistence.AttributeConverter;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Базовий конвертер EnumMap ↔ JSON-об'єкт для однієї колонки (jsonb у Postgres).
+ *
+ * ✅ Замість @ElementCollection (окрема таблиця, рядок на кожен ключ, join або додатковий select на завантаженні):
+ *   - вся мапа лежить у рядку сутності: {"FULL_TIME": 42.50, "CONTRACTOR": 60}
+ *   - при читанні одразу будується EnumMap (масив по ordinal), а не HashMap
+ *
+ * 🔹 Ключі — name() констант, а не ordinal: порядок констант можна міняти.
+ * ⚠️ Невідомий ключ (константу видалили/перейменували) → IllegalStateException, а не тихе відкидання:
+ *    інакше перший же update сутності перезапише колонку без цього ключа.
+ * 🔹 Підклас лише задає типи: {@code class RatesConverter extends EnumMapJsonConverter<EmploymentType, BigDecimal>}.
+ */
+public abstract class EnumMapJsonConverter<E extends Enum<E>, V> implements AttributeConverter<EnumMap<E, V>, String> {
+
+    // 🔹 USE_BIG_DECIMAL_FOR_FLOATS → 42.50 читається без втрати точності через double,
+    //    а без STRIP_TRAILING_BIGDECIMAL_ZEROES — ще й з тим самим scale (42.50, а не 42.5)
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+            .disable(JsonNodeFeature.STRIP_TRAILING_BIGDECIMAL_ZEROES)
+            .build();
+
+    private final Class<E> keyType;
+    private final Class<V> valueType;
+    private final Map<String, E> constantsByName;
+
+    protected EnumMapJsonConverter(Class<E> keyType, Class<V> valueType) {
+        this.keyType = keyType;
+        this.valueType = valueType;
+        E[] constants = keyType.getEnumConstants();
+        this.constantsByName = new HashMap<>(constants.length * 2);
+        for (E constant : constants) {
+            constantsByName.put(constant.name(), constant);
+        }
+    }
+
+    @Override
+    public String convertToDatabaseColumn(EnumMap<E, V> attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        try {
+            // EnumMap серіалізується з ключами name() у порядку ordinal
+            return MAPPER.writeValueAsString(attribute);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot write " + keyType.getSimpleName() + " map as JSON", e);
+        }
+    }
+
+    @Override
+    public EnumMap<E, V> convertToEntityAttribute(String json) {
+        if (json == null) {
+            return null;
+        }
+        EnumMap<E, V> result = new EnumMap<>(keyType);
+        try {
+            JsonNode root = MAPPER.readTree(json);
+            if (!root.isObject()) {
+                throw new IllegalStateException("Expected JSON object for " + keyType.getSimpleName() + " map: " + json);
+            }
+            for (Map.Entry<String, JsonNode> field : root.properties()) {
+                E key = constantsByName.get(field.getKey());
+                if (key == null) {
+                    throw new IllegalStateException("Unknown " + keyType.getSimpleName() + " key in column: " + field.getKey());
+                }
+                result.put(key, field.getValue().isNull() ? null : MAPPER.treeToValue(field.getValue(), valueType));
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Malformed " + keyType.getSimpleName() + " map JSON: " + json, e);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.enumdemo.withjpa;
+
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+/**
+ * Погодинні ставки по типу зайнятості: EnumMap<EmploymentType, BigDecimal> ↔ jsonb.
+ */
+@Converter
+class HourlyRatesConverter extends EnumMapJsonConverter<EmploymentType, BigDecimal> {
+
+    HourlyRatesConverter() {
+        super(EmploymentType.class, BigDecimal.class);
+    }
+}
@@ -0,0 +1,236 @@
+package org.example.enumdemo.withjpa;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Бенчмарк завантаження сторінки співробітників разом із погодинними ставками (локальний Postgres з docker-compose).
+ *
+ * ✅ Порівнюємо ті самі SQL-форми, які генерує Hibernate:
+ *   1. @ElementCollection, lazy (за замовчуванням): select сторінки + select ставок на кожного співробітника (N+1)
+ *   2. @ElementCollection + @BatchSize(100): select сторінки + select ... WHERE employee_id = ANY(?) пачками
+ *   3. @ElementCollection + join fetch: один select, рядок на кожну ставку, складання в HashMap
+ *   4. jsonb-колонка + HourlyRatesConverter: один select, рядок на співробітника, одразу EnumMap
+ *
+ * 🔹 Сторінка = PAGE співробітників, у кожного ставка на кожен EmploymentType.
+ * 🔹 Аргументи: [jdbcUrl] [user] [password], за замовчуванням — як у application.yml.
+ * ⚠️ Створює і перезаповнює таблиці bench_* — таблиці застосунку не чіпає.
+ */
+public class HourlyRatesLoadBenchmark {
+
+    private static final int EMPLOYEES = 100_000;
+    private static final int PAGE = 1_000;
+    private static final int BATCH = 100;
+    private static final int ROUNDS = 30;
+
+    private static final HourlyRatesConverter CONVERTER = new HourlyRatesConverter();
+
+    private record Row(long id, Role role, EmploymentType type, Map<EmploymentType, BigDecimal> rates) {
+    }
+
+    @FunctionalInterface
+    private interface PageLoader {
+        List<Row> load(Connection connection, long afterId) throws SQLException;
+    }
+
+    public static void main(String[] args) throws SQLException {
+        String url = args.length > 0 ? args[0] : "jdbc:postgresql://localhost:5432/enumdemo";
+        String user = args.length > 1 ? args[1] : "enumdemo";
+        String password = args.length > 2 ? args[2] : "enumdemo";
+
+        try (Connection connection = DriverManager.getConnection(url, user, password)) {
+            setUp(connection);
+            for (int pass = 1; pass <= 2; pass++) {
+                System.out.printf("Pass %d (page of %,d employees, %d rates each):%n", pass, PAGE, EmploymentType.values().length);
+                report("1. element collection, N+1   ", connection, HourlyRatesLoadBenchmark::selectPerOwner);
+                report("2. element collection, batch ", connection, HourlyRatesLoadBenchmark::batchSelect);
+                report("3. element collection, join  ", connection, HourlyRatesLoadBenchmark::joinFetch);
+                report("4. jsonb + EnumMap converter ", connection, HourlyRatesLoadBenchmark::jsonb);
+            }
+        }
+    }
+
+    private static void report(String label, Connection connection, PageLoader loader) throws SQLException {
+        long checksum = 0;
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            long afterId = (long) round * PAGE % (EMPLOYEES - PAGE);
+            for (Row row : loader.load(connection, afterId)) {
+                checksum += row.rates().size();
+            }
+        }
+        double millisPerPage = (System.nanoTime() - start) / 1e6 / ROUNDS;
+        System.out.printf("  %s: %8.2f ms/page (checksum %d)%n", label, millisPerPage, checksum);
+    }
+
+    private static List<Row> selectPerOwner(Connection connection, long afterId) throws SQLException {
+        List<Row> page = selectPage(connection, afterId);
+        List<Row> result = new ArrayList<>(page.size());
+        try (PreparedStatement rates = connection.prepareStatement(
+                "SELECT employment_type, rate FROM bench_employee_hourly_rates WHERE employee_id = ?")) {
+            for (Row row : page) {
+                rates.setLong(1, row.id());
+                Map<EmploymentType, BigDecimal> map = new HashMap<>();
+                try (ResultSet rs = rates.executeQuery()) {
+                    while (rs.next()) {
+                        map.put(EmploymentType.valueOf(rs.getString(1)), rs.getBigDecimal(2));
+                    }
+                }
+                result.add(new Row(row.id(), row.role(), row.type(), map));
+            }
+        }
+        return result;
+    }
+
+    private static List<Row> batchSelect(Connection connection, long afterId) throws SQLException {
+        List<Row> page = selectPage(connection, afterId);
+        Map<Long, Map<EmploymentType, BigDecimal>> ratesById = new HashMap<>();
+        try (PreparedStatement rates = connection.prepareStatement(
+                "SELECT employee_id, employment_type, rate FROM bench_employee_hourly_rates WHERE employee_id = ANY(?)")) {
+            for (int from = 0; from < page.size(); from += BATCH) {
+                List<Row> batch = page.subList(from, Math.min(from + BATCH, page.size()));
+                Array ids = connection.createArrayOf("bigint", batch.stream().map(Row::id).toArray());
+                rates.setArray(1, ids);
+                try (ResultSet rs = rates.executeQuery()) {
+                    while (rs.next()) {
+                        ratesById.computeIfAbsent(rs.getLong(1), id -> new HashMap<>())
+                                .put(EmploymentType.valueOf(rs.getString(2)), rs.getBigDecimal(3));
+                    }
+                }
+            }
+        }
+        List<Row> result = new ArrayList<>(page.size());
+        for (Row row : page) {
+            result.add(new Row(row.id(), row.role(), row.type(), ratesById.getOrDefault(row.id(), Map.of())));
+        }
+        return result;
+    }
+
+    private static List<Row> joinFetch(Connection connection, long afterId) throws SQLException {
+        Map<Long, Row> rows = new LinkedHashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement("""
+                SELECT e.id, e.role, e.employment_type, r.employment_type, r.rate
+                FROM (SELECT * FROM bench_employees WHERE id > ? ORDER BY id LIMIT ?) e
+                LEFT JOIN bench_employee_hourly_rates r ON r.employee_id = e.id
+                ORDER BY e.id
+                """)) {
+            statement.setLong(1, afterId);
+            statement.setInt(2, PAGE);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    long id = rs.getLong(1);
+                    Row row = rows.get(id);
+                    if (row == null) {
+                        row = new Row(id, Role.valueOf(rs.getString(2)), EmploymentType.valueOf(rs.getString(3)), new HashMap<>());
+                        rows.put(id, row);
+                    }
+                    String rateType = rs.getString(4);
+                    if (rateType != null) {
+                        row.rates().put(EmploymentType.valueOf(rateType), rs.getBigDecimal(5));
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(rows.values());
+    }
+
+    private static List<Row> jsonb(Connection connection, long afterId) throws SQLException {
+        List<Row> result = new ArrayList<>(PAGE);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT id, role, employment_type, hourly_rates FROM bench_employees WHERE id > ? ORDER BY id LIMIT ?")) {
+            statement.setLong(1, afterId);
+            statement.setInt(2, PAGE);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    EnumMap<EmploymentType, BigDecimal> rates = CONVERTER.convertToEntityAttribute(rs.getString(4));
+                    result.add(new Row(rs.getLong(1), Role.valueOf(rs.getString(2)), EmploymentType.valueOf(rs.getString(3)),
+                            rates == null ? Map.of() : rates));
+                }
+            }
+        }
+        return result;
+    }
+
+    private static List<Row> selectPage(Connection connection, long afterId) throws SQLException {
+        List<Row> page = new ArrayList<>(PAGE);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT id, role, employment_type FROM bench_employees WHERE id > ? ORDER BY id LIMIT ?")) {
+            statement.setLong(1, afterId);
+            statement.setInt(2, PAGE);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    page.add(new Row(rs.getLong(1), Role.valueOf(rs.getString(2)), EmploymentType.valueOf(rs.getString(3)), null));
+                }
+            }
+        }
+        return page;
+    }
+
+    private static void setUp(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_employee_hourly_rates, bench_employees");
+            statement.execute("""
+                    CREATE TABLE bench_employees (
+                        id bigint PRIMARY KEY,
+                        role varchar(50) NOT NULL,
+                        employment_type varchar(50) NOT NULL,
+                        hourly_rates jsonb
+                    )""");
+            statement.execute("""
+                    CREATE TABLE bench_employee_hourly_rates (
+                        employee_id bigint NOT NULL REFERENCES bench_employees (id),
+                        employment_type varchar(50) NOT NULL,
+                        rate numeric(10, 2) NOT NULL,
+                        PRIMARY KEY (employee_id, employment_type)
+                    )""");
+        }
+        connection.setAutoCommit(false);
+        Role[] roles = Role.values();
+        EmploymentType[] types = EmploymentType.values();
+        try (PreparedStatement employees = connection.prepareStatement(
+                "INSERT INTO bench_employees (id, role, employment_type, hourly_rates) VALUES (?, ?, ?, ?::jsonb)");
+             PreparedStatement rates = connection.prepareStatement(
+                     "INSERT INTO bench_employee_hourly_rates (employee_id, employment_type, rate) VALUES (?, ?, ?)")) {
+            for (int id = 1; id <= EMPLOYEES; id++) {
+                EnumMap<EmploymentType, BigDecimal> map = new EnumMap<>(EmploymentType.class);
+                for (EmploymentType type : types) {
+                    BigDecimal rate = BigDecimal.valueOf(2_000 + (id * 7L + type.ordinal() * 131L) % 5_000, 2);
+                    map.put(type, rate);
+                    rates.setLong(1, id);
+                    rates.setString(2, type.name());
+                    rates.setBigDecimal(3, rate);
+                    rates.addBatch();
+                }
+                employees.setLong(1, id);
+                employees.setString(2, roles[id % roles.length].name());
+                employees.setString(3, types[id % types.length].name());
+                employees.setString(4, CONVERTER.convertToDatabaseColumn(map));
+                employees.addBatch();
+                if (id % 1_000 == 0) {
+                    employees.executeBatch();
+                    rates.executeBatch();
+                }
+            }
+            employees.executeBatch();
+            rates.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE bench_employees");
+            statement.execute("ANALYZE bench_employee_hourly_rates");
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.enumdemo.withjpa;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * EmployeeIndex, який живе разом з таблицею employees: початковий стан — з бази, далі — зміни з CDC.
+ *
+ * ✅ Навіщо: ids(role, type) / count(role, type) без запиту в базу, а зміни з інших інстансів
+ *    (чи прямі UPDATE-и в SQL) теж доходять — CDC бачить усі коміти, не лише зроблені через JPA.
+ *
+ * 🔹 Події застосовуються ідемпотентно (CDC — at-least-once):
+ *   - bucketById пам'ятає, в якому кошику id лежить зараз → повтор уже застосованої події нічого не змінює,
+ *     а зміна кошика — один EmployeeIndex.update (атомарний для читачів), а не remove + remove + add
+ *   - "старіші" за знімок події сходяться до стану таблиці, бо слот віддає всі наступні зміни по порядку
+ *   - UPDATE без зміни role / employment_type пропускається одразу
+ * 🔹 load() і onChanges() синхронізовані: знімок з бази замінює індекс цілком, тож зміни, що прийшли до нього,
+ *    не губляться і не дублюються. TRUNCATE (onTruncate) → той самий load().
+ * 🔹 Метрика: enumdemo.employee.live.count {role, employment_type}; реєструє MeterBinder (bindTo), а не конструктор.
+ */
+@Component
+@ConditionalOnProperty(name = "enumdemo.cdc.enabled", havingValue = "true")
+public class LiveEmployeeIndex implements EmployeeChangeListener, MeterBinder {
+
+    private static final Role[] ROLES = Role.values();
+    private static final EmploymentType[] TYPES = EmploymentType.values();
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile EmployeeIndex index = new EmployeeIndex();
+    // id → role.ordinal() * TYPES.length + type.ordinal(); змінюється лише під this разом з index
+    private Map<Long, Integer> bucketById = new HashMap<>();
+
+    public LiveEmployeeIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Role role : ROLES) {
+            for (EmploymentType type : TYPES) {
+                Gauge.builder("enumdemo.employee.live.count", this, live -> live.count(role, type))
+                        .tag("role", role.name())
+                        .tag("employment_type", type.name())
+                        .register(registry);
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        EmployeeIndex loaded = new EmployeeIndex();
+        Map<Long, Integer> loadedBuckets = new HashMap<>();
+        jdbcTemplate.query("SELECT id, role, employment_type FROM employees", rs -> {
+            long id = rs.getLong(1);
+            Role role = Role.valueOf(rs.getString(2));
+            EmploymentType type = EmploymentType.valueOf(rs.getString(3));
+            loaded.add(id, role, type);
+            loadedBuckets.put(id, bucket(role, type));
+        });
+        index = loaded;
+        bucketById = loadedBuckets;
+    }
+
+    @Override
+    public synchronized void onChanges(List<EmployeeChangedEvent> changes) {
+        EmployeeIndex target = index;
+        for (EmployeeChangedEvent change : changes) {
+            apply(target, change);
+        }
+    }
+
+    @Override
+    public void onTruncate() {
+        load();
+    }
+
+    private void apply(EmployeeIndex target, EmployeeChangedEvent change) {
+        Role newRole = change.newRole();
+        EmploymentType newType = change.newType();
+        boolean present = newRole != null && newType != null;
+        if (present && newRole == change.oldRole() && newType == change.oldType()) {
+            return;
+        }
+        long id = change.id();
+        Integer current = bucketById.get(id);
+        if (!present) {
+            if (current != null) {
+                target.remove(id, ROLES[current / TYPES.length], TYPES[current % TYPES.length]);
+                bucketById.remove(id);
+            }
+            return;
+        }
+        int next = bucket(newRole, newType);
+        if (current == null) {
+            target.add(id, newRole, newType);
+        } else if (current != next) {
+            target.update(id, ROLES[current / TYPES.length], TYPES[current % TYPES.length], newRole, newType);
+        } else {
+            return;
+        }
+        bucketById.put(id, next);
+    }
+
+    private static int bucket(Role role, EmploymentType type) {
+        return role.ordinal() * TYPES.length + type.ordinal();
+    }
+
+    public long[] ids(Role role, EmploymentType employmentType) {
+        return index.ids(role, employmentType);
+    }
+
+    public int count(Role role, EmploymentType employmentType) {
+        return index.count(role, employmentType);
+    }
+}
@@ -0,0 +1,178 @@
+package org.example.enumdemo.withjpa;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+
+/**
+ * Компактний in-memory кеш працівників: один long на працівника замість об'єкта Employee.
+ *
+ * ✅ Розкладка long (старші біти — enum-коди):
+ *   63..60  EmploymentType.ordinal()   (до 16 констант)
+ *   59..56  Role.ordinal()             (до 16 констант)
+ *   55..0   id                         (до 2^56 - 1)
+ *
+ * 🔹 Employee в ArrayList: посилання + об'єкт Employee + окремий Long id ≈ 60 байт на працівника (JOL),
+ *    тут рівно 8 байт в одному суцільному масиві → сканування йде послідовно по пам'яті.
+ * 🔹 Фільтр "role = X AND employmentType = Y" = одне порівняння старших 8 біт, без розпакування.
+ * 🔹 Доступ — методами по індексу (id(i), role(i), ...) або через EmployeeVisitor з примітивним id, без алокацій.
+ * ⚠️ Коди = ordinal → тільки для пам'яті процесу, не для зберігання.
+ * ⚠️ Не потокобезпечний: наповнюємо з одного потоку, далі лише читаємо (або захищаємо зовні).
+ */
+public class PackedEmployeeStore {
+
+    static final int ID_BITS = 56;
+    static final long ID_MASK = (1L << ID_BITS) - 1;
+    private static final int ROLE_SHIFT = ID_BITS;
+    private static final int TYPE_SHIFT = ID_BITS + 4;
+    private static final int CODE_MASK = 0xF;
+
+    private static final Role[] ROLES = Role.values();
+    private static final EmploymentType[] TYPES = EmploymentType.values();
+
+    static {
+        if (ROLES.length > CODE_MASK + 1 || TYPES.length > CODE_MASK + 1) {
+            throw new ExceptionInInitializerError("Role / EmploymentType do not fit into 4 bits");
+        }
+    }
+
+    @FunctionalInterface
+    public interface EmployeeVisitor {
+        void visit(long id, Role role, EmploymentType employmentType);
+    }
+
+    private long[] packed;
+    private int size;
+
+    public PackedEmployeeStore() {
+        this(16);
+    }
+
+    public PackedEmployeeStore(int initialCapacity) {
+        this.packed = new long[Math.max(1, initialCapacity)];
+    }
+
+    static long pack(long id, Role role, EmploymentType employmentType) {
+        if ((id & ~ID_MASK) != 0) {
+            throw new IllegalArgumentException("id does not fit into " + ID_BITS + " bits: " + id);
+        }
+        return codes(role, employmentType) | id;
+    }
+
+    private static long codes(Role role, EmploymentType employmentType) {
+        return ((long) employmentType.ordinal() << TYPE_SHIFT) | ((long) role.ordinal() << ROLE_SHIFT);
+    }
+
+    // 🔹 повертає індекс запису в сховищі
+    public int add(long id, Role role, EmploymentType employmentType) {
+        if (size == packed.length) {
+            packed = Arrays.copyOf(packed, Math.max(16, size * 2));
+        }
+        packed[size] = pack(id, role, employmentType);
+        return size++;
+    }
+
+    // 🔹 лише збережені працівники: id == null означає, що запис ще не отримав id від БД
+    public int add(Employee employee) {
+        if (employee.getId() == null) {
+            throw new IllegalArgumentException("Employee without id cannot be packed (not persisted yet?)");
+        }
+        return add(employee.getId(), employee.getRole(), employee.getEmploymentType());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long id(int index) {
+        return packed(index) & ID_MASK;
+    }
+
+    public Role role(int index) {
+        return ROLES[(int) (packed(index) >>> ROLE_SHIFT) & CODE_MASK];
+    }
+
+    public EmploymentType employmentType(int index) {
+        return TYPES[(int) (packed(index) >>> TYPE_SHIFT) & CODE_MASK];
+    }
+
+    public void set(int index, Role role, EmploymentType employmentType) {
+        packed[checkIndex(index)] = pack(packed[index] & ID_MASK, role, employmentType);
+    }
+
+    // 🔹 для коду, якому потрібен саме Employee (наприклад, збереження через JPA); на гарячому шляху — accessor-и
+    public Employee toEmployee(int index) {
+        return new Employee(id(index), role(index), employmentType(index));
+    }
+
+    public void forEach(EmployeeVisitor visitor) {
+        long[] data = packed;
+        for (int i = 0; i < size; i++) {
+            long value = data[i];
+            visitor.visit(value & ID_MASK,
+                    ROLES[(int) (value >>> ROLE_SHIFT) & CODE_MASK],
+                    TYPES[(int) (value >>> TYPE_SHIFT) & CODE_MASK]);
+        }
+    }
+
+    public int count(Role role, EmploymentType employmentType) {
+        long wanted = codes(role, employmentType);
+        long[] data = packed;
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if ((data[i] & ~ID_MASK) == wanted) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public long[] ids(Role role, EmploymentType employmentType) {
+        long wanted = codes(role, employmentType);
+        long[] data = packed;
+        long[] result = new long[16];
+        int n = 0;
+        for (int i = 0; i < size; i++) {
+            long value = data[i];
+            if ((value & ~ID_MASK) == wanted) {
+                if (n == result.length) {
+                    result = Arrays.copyOf(result, n * 2);
+                }
+                result[n++] = value & ID_MASK;
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    // 🔹 лічильники всіх комбінацій за один прохід: індекс = старші 8 біт
+    public EnumMap<Role, EnumMap<EmploymentType, Integer>> countAll() {
+        int[] counts = new int[(CODE_MASK + 1) * (CODE_MASK + 1)];
+        long[] data = packed;
+        for (int i = 0; i < size; i++) {
+            counts[(int) (data[i] >>> ROLE_SHIFT)]++;
+        }
+        EnumMap<Role, EnumMap<EmploymentType, Integer>> result = new EnumMap<>(Role.class);
+        for (Role role : ROLES) {
+            EnumMap<EmploymentType, Integer> byType = new EnumMap<>(EmploymentType.class);
+            for (EmploymentType type : TYPES) {
+                byType.put(type, counts[(type.ordinal() << 4) | role.ordinal()]);
+            }
+            result.put(role, byType);
+        }
+        return result;
+    }
+
+    public void trimToSize() {
+        packed = Arrays.copyOf(packed, size);
+    }
+
+    private long packed(int index) {
+        return packed[checkIndex(index)];
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + ", size " + size);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,143 @@
+package org.example.enumdemo.withjpa;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Бенчмарк читань з реплікою: фільтри по Role / EmploymentType тільки на primary проти primary + репліка
+ * (docker-compose: postgres на 5432, postgres-replica на 5435).
+ *
+ * ✅ Міряємо:
+ *   1. сумарну пропускну здатність keyset-запитів з N потоків: усі потоки на primary проти половини на репліці
+ *   2. відставання репліки: скільки мс минає від коміту на primary до появи рядка на репліці
+ *
+ * 🔹 Дані — у схемі replica_bench на primary; на репліку вони потрапляють фізичною реплікацією.
+ * 🔹 Аргументи: [потоків, 16] [секунд на варіант, 10] [кількість співробітників, 1 млн] [primaryUrl] [replicaUrl] [user] [password].
+ * ⚠️ Обидва контейнери на одній машині ділять CPU → масштабування тут нижче, ніж з репліками на окремих серверах.
+ */
+public class ReplicaReadBenchmark {
+
+    private static final String PAGE_SQL = """
+            SELECT id, role, employment_type FROM replica_bench.employees
+            WHERE role = ? AND employment_type = ? AND id > ?
+            ORDER BY id LIMIT 50""";
+
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        int employees = args.length > 2 ? Integer.parseInt(args[2]) : 1_000_000;
+        String primaryUrl = args.length > 3 ? args[3] : "jdbc:postgresql://localhost:5432/enumdemo";
+        String replicaUrl = args.length > 4 ? args[4] : "jdbc:postgresql://localhost:5435/enumdemo";
+        String user = args.length > 5 ? args[5] : "enumdemo";
+        String password = args.length > 6 ? args[6] : "enumdemo";
+
+        JdbcTemplate primary = new JdbcTemplate(new SingleConnectionDataSource(primaryUrl, user, password, true));
+        JdbcTemplate replica = new JdbcTemplate(new SingleConnectionDataSource(replicaUrl, user, password, true));
+        setUp(primary, employees);
+        waitForReplica(primary, replica);
+
+        System.out.printf("1. Keyset pages by role × type, %d threads, %d s each:%n", threads, seconds);
+        double primaryOnly = run(threads, seconds, employees, i -> primaryUrl, user, password);
+        double split = run(threads, seconds, employees, i -> i % 2 == 0 ? primaryUrl : replicaUrl, user, password);
+        System.out.printf("   primary only      : %,10.0f queries/s%n", primaryOnly);
+        System.out.printf("   primary + replica : %,10.0f queries/s (x%.2f)%n", split, split / primaryOnly);
+
+        int samples = 50;
+        long total = 0;
+        long max = 0;
+        for (int i = 0; i < samples; i++) {
+            long lag = replicationLagMillis(primary, replica);
+            total += lag;
+            max = Math.max(max, lag);
+        }
+        System.out.printf("2. Commit → visible on replica: avg %.1f ms, max %d ms%n", total / (double) samples, max);
+    }
+
+    private static void setUp(JdbcTemplate primary, int employees) {
+        primary.execute("CREATE SCHEMA IF NOT EXISTS replica_bench");
+        primary.execute("DROP TABLE IF EXISTS replica_bench.employees");
+        primary.execute("""
+                CREATE TABLE replica_bench.employees (
+                    id              bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                    role            varchar(255) NOT NULL,
+                    employment_type varchar(255) NOT NULL
+                )""");
+        primary.update("""
+                INSERT INTO replica_bench.employees (role, employment_type)
+                SELECT (ARRAY['ADMIN', 'USER', 'DRIVER'])[1 + i % 3],
+                       (ARRAY['FULL_TIME', 'PART_TIME', 'CONTRACTOR'])[1 + (i / 3) % 3]
+                FROM generate_series(1, ?) AS i""", employees);
+        primary.execute("CREATE INDEX ON replica_bench.employees (role, employment_type, id)");
+        primary.execute("ANALYZE replica_bench.employees");
+        primary.execute("CREATE TABLE IF NOT EXISTS replica_bench.markers (id bigint PRIMARY KEY)");
+    }
+
+    private static void waitForReplica(JdbcTemplate primary, JdbcTemplate replica) throws InterruptedException {
+        String lsn = primary.queryForObject("SELECT pg_current_wal_lsn()::text", String.class);
+        while (!Boolean.TRUE.equals(replica.queryForObject(
+                "SELECT pg_last_wal_replay_lsn() >= ?::pg_lsn", Boolean.class, lsn))) {
+            Thread.sleep(100);
+        }
+    }
+
+    @FunctionalInterface
+    private interface UrlForThread {
+        String url(int thread);
+    }
+
+    private static double run(int threads, int seconds, int employees, UrlForThread urls, String user, String password)
+            throws InterruptedException {
+        Role[] roles = Role.values();
+        EmploymentType[] types = EmploymentType.values();
+        LongAdder queries = new LongAdder();
+        CountDownLatch ready = new CountDownLatch(threads);
+        long[] deadline = new long[1];
+        CountDownLatch go = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            String url = urls.url(t);
+            Thread worker = new Thread(() -> {
+                JdbcTemplate jdbc = new JdbcTemplate(new SingleConnectionDataSource(url, user, password, true));
+                jdbc.queryForObject("SELECT 1", Integer.class);
+                ready.countDown();
+                try {
+                    go.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline[0]) {
+                    jdbc.queryForList(PAGE_SQL, roles[random.nextInt(roles.length)].name(),
+                            types[random.nextInt(types.length)].name(), (long) random.nextInt(employees));
+                    queries.increment();
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        ready.await();
+        long start = System.nanoTime();
+        deadline[0] = start + seconds * 1_000_000_000L;
+        go.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return queries.sum() / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private static long replicationLagMillis(JdbcTemplate primary, JdbcTemplate replica) throws InterruptedException {
+        long id = System.nanoTime();
+        primary.update("INSERT INTO replica_bench.markers (id) VALUES (?)", id);
+        long start = System.nanoTime();
+        while (replica.queryForObject("SELECT count(*) FROM replica_bench.markers WHERE id = ?", Long.class, id) == 0) {
+            Thread.sleep(0, 200_000);
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
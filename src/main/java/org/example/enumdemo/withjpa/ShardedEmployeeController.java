@@ -0,0 +1,78 @@
+package org.example.enumdemo.withjpa;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST API шардованого довідника (enumdemo.sharding.enabled=true).
+ *
+ * 🔹 POST /api/employees/sharded/batch   [{ "role": "DRIVER", "employmentType": "CONTRACTOR" }, ...] → { "inserted": n }
+ * 🔹 GET  /api/employees/sharded?role=DRIVER&after=0&limit=50   → один шард
+ * 🔹 GET  /api/employees/sharded/DRIVER/{id}                   → один шард (id унікальний лише в межах шарда)
+ * 🔹 GET  /api/employees/sharded/counts                        → scatter-gather по всіх шардах
+ * ⚠️ batch не атомарний між шардами: при помилці частина шардів могла вже закомітити свої рядки
+ *    (див. ShardedEmployeeDirectory.insertAll).
+ */
+@RestController
+@RequestMapping("/api/employees/sharded")
+@ConditionalOnProperty(name = "enumdemo.sharding.enabled", havingValue = "true")
+public class ShardedEmployeeController {
+
+    private static final int MAX_LIMIT = 500;
+
+    private final ShardedEmployeeDirectory directory;
+
+    public ShardedEmployeeController(ShardedEmployeeDirectory directory) {
+        this.directory = directory;
+    }
+
+    @PostMapping("/batch")
+    public Map<String, Integer> insert(@RequestBody List<EmployeeRequest> requests) {
+        List<Employee> employees = new ArrayList<>(requests.size());
+        for (EmployeeRequest request : requests) {
+            if (request.role() == null || request.employmentType() == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "role and employmentType are required");
+            }
+            employees.add(new Employee(request.role(), request.employmentType()));
+        }
+        return Map.of("inserted", directory.insertAll(employees));
+    }
+
+    @GetMapping
+    public EmployeePage list(@RequestParam Role role,
+                             @RequestParam(defaultValue = "0") long after,
+                             @RequestParam(defaultValue = "50") int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be between 1 and " + MAX_LIMIT);
+        }
+        List<EmployeeResponse> items = directory.findByRole(role, after, limit).stream()
+                .map(EmployeeResponse::from)
+                .toList();
+        Long nextAfter = items.size() == limit ? items.get(items.size() - 1).id() : null;
+        return new EmployeePage(items, nextAfter);
+    }
+
+    @GetMapping("/{role}/{id}")
+    public EmployeeResponse get(@PathVariable Role role, @PathVariable long id) {
+        return directory.get(role, id).map(EmployeeResponse::from)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Employee not found: " + role + "/" + id));
+    }
+
+    @GetMapping("/counts")
+    public Map<Role, EnumMap<EmploymentType, Long>> counts() {
+        return directory.countByRoleAndType();
+    }
+}
@@ -0,0 +1,180 @@
+package org.example.enumdemo.withjpa;
+
+import org.example.enumdemo.sharding.ShardContext;
+import org.example.enumdemo.sharding.Shards;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Довідник Employee, розкладений по шардах за Role (усі співробітники однієї ролі — на одному вузлі).
+ *
+ * ✅ Навіщо саме Role:
+ *   - фільтр по ролі (найчастіший запит) і keyset-пагінація йдуть на один шард, без scatter-gather
+ *   - пачка нових співробітників ділиться на шардові підпачки і пишеться паралельно, кожна — одним JDBC batch
+ *   - агрегати по всіх ролях (count по Role × EmploymentType) — scatter-gather: GROUP BY на кожному шарді, злиття в EnumMap
+ *
+ * 🔹 Розклад ролей: enumdemo.sharding.roles=ADMIN=0,USER=1,DRIVER=2; роль без явного шарда → hash(name()) mod кількість шардів
+ *    (саме name(), а не ordinal: перестановка констант не повинна переносити дані).
+ * 🔹 Власна таблиця employees_sharded на кожному вузлі (включно з шардом 0): таблицю employees на шарді 0
+ *    веде JPA (EmployeeService, outbox, звітна проекція), і спільна таблиця змішала б обидва набори —
+ *    counts і пошук по ролі шарда 0 бачили б ще й JPA-співробітників.
+ * ⚠️ id генерується кожним шардом окремо і унікальний лише в межах шарда → глобальний ключ = (role, id).
+ * ⚠️ Шардований довідник і JPA-довідник (/api/employees) — два незалежні набори даних.
+ */
+@Service
+@ConditionalOnProperty(name = "enumdemo.sharding.enabled", havingValue = "true")
+public class ShardedEmployeeDirectory {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private static final String TABLE = "employees_sharded";
+
+    private static final String INSERT_SQL = "INSERT INTO " + TABLE + " (role, employment_type) VALUES (?, ?)";
+
+    private static final RowMapper<Employee> EMPLOYEE = (rs, rowNum) -> new Employee(rs.getLong("id"),
+            Role.valueOf(rs.getString("role")), EmploymentType.valueOf(rs.getString("employment_type")));
+
+    private static final Role[] ROLES = Role.values();
+
+    private final Shards shards;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int[] shardByRole;
+
+    public ShardedEmployeeDirectory(Shards shards, JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                    @Value("${enumdemo.sharding.roles:}") String roles) {
+        this.shards = shards;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.shardByRole = shardByRole(roles, shards.count());
+    }
+
+    static int[] shardByRole(String config, int shardCount) {
+        int[] table = new int[ROLES.length];
+        for (Role role : ROLES) {
+            table[role.ordinal()] = Math.floorMod(role.name().hashCode(), shardCount);
+        }
+        for (String entry : config.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected ROLE=shard in enumdemo.sharding.roles: " + entry);
+            }
+            int shard = Integer.parseInt(parts[1].trim());
+            if (shard < 0 || shard >= shardCount) {
+                throw new IllegalArgumentException("Shard " + shard + " out of range [0, " + shardCount + ") for " + parts[0]);
+            }
+            table[Role.valueOf(parts[0].trim()).ordinal()] = shard;
+        }
+        return table;
+    }
+
+    public int shardOf(Role role) {
+        return shardByRole[role.ordinal()];
+    }
+
+    // 🔹 однакова схема на всіх шардах; Hibernate (ddl-auto) про цю таблицю не знає
+    @EventListener(ApplicationReadyEvent.class)
+    void ensureSchema() {
+        shards.gather(shard -> {
+            jdbcTemplate.execute("""
+                    CREATE TABLE IF NOT EXISTS employees_sharded (
+                        id              bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                        role            varchar(255) NOT NULL,
+                        employment_type varchar(255) NOT NULL
+                    )""");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_employees_sharded_role_type_id "
+                    + "ON employees_sharded (role, employment_type, id)");
+            return null;
+        });
+    }
+
+    /**
+     * Пише співробітників пачками: кожен шард отримує лише свої рядки, шарди пишуться паралельно,
+     * на кожному шарді — одна транзакція з JDBC batch.
+     *
+     * ⚠️ Не атомарно між шардами: транзакція на кожному шарді своя, розподіленої (2PC) немає.
+     *    Помилка на одному шарді → виняток для всієї пачки, але підпачки інших шардів уже можуть бути закомічені.
+     *    Повтор тієї самої пачки вставить їх ще раз (id генерує шард) — клієнту варто повторювати лише рядки
+     *    ролей з невдалого шарда.
+     *
+     * @return кількість вставлених рядків
+     */
+    public int insertAll(List<Employee> employees) {
+        List<List<Employee>> byShard = new ArrayList<>(shards.count());
+        for (int i = 0; i < shards.count(); i++) {
+            byShard.add(new ArrayList<>());
+        }
+        for (Employee employee : employees) {
+            byShard.get(shardOf(employee.getRole())).add(employee);
+        }
+        int inserted = 0;
+        for (int count : shards.gather(shard -> insertLocal(byShard.get(shard)))) {
+            inserted += count;
+        }
+        return inserted;
+    }
+
+    private int insertLocal(List<Employee> employees) {
+        if (employees.isEmpty()) {
+            return 0;
+        }
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, employees, BATCH_SIZE,
+                (ps, employee) -> {
+                    ps.setString(1, employee.getRole().name());
+                    ps.setString(2, employee.getEmploymentType().name());
+                }));
+        return employees.size();
+    }
+
+    /**
+     * Scatter-gather: GROUP BY на кожному шарді паралельно, злиття в EnumMap (нульові комбінації теж присутні).
+     */
+    public Map<Role, EnumMap<EmploymentType, Long>> countByRoleAndType() {
+        Map<Role, EnumMap<EmploymentType, Long>> counts = new EnumMap<>(Role.class);
+        for (Role role : ROLES) {
+            EnumMap<EmploymentType, Long> byType = new EnumMap<>(EmploymentType.class);
+            for (EmploymentType type : EmploymentType.values()) {
+                byType.put(type, 0L);
+            }
+            counts.put(role, byType);
+        }
+        List<List<Map<String, Object>>> perShard = shards.gather(shard -> jdbcTemplate.queryForList(
+                "SELECT role, employment_type, count(*) AS n FROM " + TABLE + " GROUP BY role, employment_type"));
+        for (List<Map<String, Object>> rows : perShard) {
+            for (Map<String, Object> row : rows) {
+                counts.get(Role.valueOf((String) row.get("role")))
+                        .merge(EmploymentType.valueOf((String) row.get("employment_type")),
+                                ((Number) row.get("n")).longValue(), Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    // 🔹 один шард: ShardContext встановлюється до транзакції/запиту, далі звичайний JdbcTemplate
+    public List<Employee> findByRole(Role role, long afterId, int limit) {
+        return ShardContext.call(shardOf(role), () -> jdbcTemplate.query(
+                "SELECT id, role, employment_type FROM " + TABLE + " WHERE role = ? AND id > ? ORDER BY id LIMIT ?",
+                EMPLOYEE, role.name(), afterId, limit));
+    }
+
+    public Optional<Employee> get(Role role, long id) {
+        return ShardContext.call(shardOf(role), () -> jdbcTemplate.query(
+                "SELECT id, role, employment_type FROM " + TABLE + " WHERE id = ? AND role = ?",
+                EMPLOYEE, id, role.name()).stream().findFirst());
+    }
+}
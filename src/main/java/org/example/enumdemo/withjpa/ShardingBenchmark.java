@@ -0,0 +1,167 @@
+package org.example.enumdemo.withjpa;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntFunction;
+
+/**
+ * Бенчмарк шардування employees за Role: один вузол проти кількох (Postgres-и з docker-compose: 5432, 5433, 5434).
+ *
+ * ✅ Міряємо:
+ *   1. пакетну вставку: усе на один вузол проти шардових підпачок, що пишуться паралельно
+ *   2. агрегат count по Role × EmploymentType: GROUP BY на одному вузлі проти scatter-gather
+ *   3. keyset-сторінку по одній ролі: повна таблиця на одному вузлі проти шарда цієї ролі
+ *
+ * 🔹 Таблиці — у схемі shard_bench на кожному вузлі, таблиці застосунку не чіпаються.
+ * 🔹 Аргументи: [кількість співробітників, 1 млн] [jdbcUrl-и через кому] [user] [password].
+ * ⚠️ Усі вузли на одній машині ділять CPU і диск → приріст тут нижчий, ніж на окремих серверах.
+ */
+public class ShardingBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int REPEATS = 20;
+
+    public static void main(String[] args) throws Exception {
+        int employees = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        List<String> urls = Arrays.asList((args.length > 1 ? args[1]
+                : "jdbc:postgresql://localhost:5432/enumdemo,jdbc:postgresql://localhost:5433/enumdemo,"
+                + "jdbc:postgresql://localhost:5434/enumdemo").split(","));
+        String user = args.length > 2 ? args[2] : "enumdemo";
+        String password = args.length > 3 ? args[3] : "enumdemo";
+
+        List<JdbcTemplate> nodes = new ArrayList<>();
+        for (String url : urls) {
+            JdbcTemplate jdbc = new JdbcTemplate(new SingleConnectionDataSource(url.trim(), user, password, true));
+            jdbc.execute("CREATE SCHEMA IF NOT EXISTS shard_bench");
+            jdbc.execute("SET search_path TO shard_bench");
+            jdbc.execute("DROP TABLE IF EXISTS employees");
+            jdbc.execute("""
+                    CREATE TABLE employees (
+                        id              bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                        role            varchar(255) NOT NULL,
+                        employment_type varchar(255) NOT NULL
+                    )""");
+            jdbc.execute("CREATE INDEX idx_employees_role_type_id ON employees (role, employment_type, id)");
+            nodes.add(jdbc);
+        }
+        int[] shardByRole = ShardedEmployeeDirectory.shardByRole(
+                nodes.size() >= 3 ? "ADMIN=0,USER=1,DRIVER=2" : "", nodes.size());
+        ExecutorService executor = Executors.newFixedThreadPool(nodes.size());
+
+        Role[] roles = Role.values();
+        EmploymentType[] types = EmploymentType.values();
+        List<Employee> all = new ArrayList<>(employees);
+        List<List<Employee>> byShard = new ArrayList<>();
+        nodes.forEach(node -> byShard.add(new ArrayList<>()));
+        for (int i = 0; i < employees; i++) {
+            Employee employee = new Employee(roles[i % roles.length], types[(i / roles.length) % types.length]);
+            all.add(employee);
+            byShard.get(shardByRole[employee.getRole().ordinal()]).add(employee);
+        }
+
+        try {
+            JdbcTemplate single = nodes.get(0);
+            long start = System.nanoTime();
+            insert(single, all);
+            long singleInsert = System.nanoTime() - start;
+            single.execute("ANALYZE employees");
+
+            // вузол 0 тепер містить усі рядки, а шард 0 — лише свою частину → окрема таблиця для шардованого варіанта
+            for (JdbcTemplate node : nodes) {
+                node.execute("DROP TABLE IF EXISTS employees_sharded");
+                node.execute("CREATE TABLE employees_sharded (LIKE employees INCLUDING ALL)");
+            }
+            start = System.nanoTime();
+            gather(executor, nodes.size(), shard -> {
+                insert(nodes.get(shard), byShard.get(shard), "employees_sharded");
+                return null;
+            });
+            long shardedInsert = System.nanoTime() - start;
+            nodes.forEach(node -> node.execute("ANALYZE employees_sharded"));
+            System.out.printf("1. Insert %,d employees: single node %,.0f rows/s, %d shards %,.0f rows/s%n",
+                    employees, employees / (singleInsert / 1e9), nodes.size(), employees / (shardedInsert / 1e9));
+
+            String countSql = "SELECT role, employment_type, count(*) AS n FROM %s GROUP BY role, employment_type";
+            start = System.nanoTime();
+            long singleTotal = 0;
+            for (int i = 0; i < REPEATS; i++) {
+                singleTotal = total(List.of(single.queryForList(countSql.formatted("employees"))));
+            }
+            long singleCount = System.nanoTime() - start;
+            start = System.nanoTime();
+            long shardedTotal = 0;
+            for (int i = 0; i < REPEATS; i++) {
+                shardedTotal = total(gather(executor, nodes.size(),
+                        shard -> nodes.get(shard).queryForList(countSql.formatted("employees_sharded"))));
+            }
+            long shardedCount = System.nanoTime() - start;
+            if (singleTotal != employees || shardedTotal != employees) {
+                throw new IllegalStateException("Counts differ: " + singleTotal + " / " + shardedTotal);
+            }
+            System.out.printf("2. Count by role × type: single node %.1f ms, scatter-gather %.1f ms%n",
+                    singleCount / 1e6 / REPEATS, shardedCount / 1e6 / REPEATS);
+
+            String pageSql = "SELECT id, role, employment_type FROM %s WHERE role = ? AND id > ? ORDER BY id LIMIT 50";
+            int pages = 2_000;
+            start = System.nanoTime();
+            for (int i = 0; i < pages; i++) {
+                single.queryForList(pageSql.formatted("employees"), Role.DRIVER.name(), (long) i * 100);
+            }
+            long singlePage = System.nanoTime() - start;
+            JdbcTemplate driverShard = nodes.get(shardByRole[Role.DRIVER.ordinal()]);
+            start = System.nanoTime();
+            for (int i = 0; i < pages; i++) {
+                driverShard.queryForList(pageSql.formatted("employees_sharded"), Role.DRIVER.name(), (long) i * 100);
+            }
+            long shardedPage = System.nanoTime() - start;
+            System.out.printf("3. Keyset page by role: single node %.1f µs, role shard %.1f µs%n",
+                    singlePage / 1e3 / pages, shardedPage / 1e3 / pages);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void insert(JdbcTemplate jdbc, List<Employee> employees) {
+        insert(jdbc, employees, "employees");
+    }
+
+    private static void insert(JdbcTemplate jdbc, List<Employee> employees, String table) {
+        jdbc.batchUpdate("INSERT INTO " + table + " (role, employment_type) VALUES (?, ?)", employees, BATCH_SIZE,
+                (ps, employee) -> {
+                    ps.setString(1, employee.getRole().name());
+                    ps.setString(2, employee.getEmploymentType().name());
+                });
+    }
+
+    private static <T> List<T> gather(ExecutorService executor, int shards, IntFunction<T> work) {
+        List<CompletableFuture<T>> futures = new ArrayList<>();
+        for (int i = 0; i < shards; i++) {
+            int shard = i;
+            futures.add(CompletableFuture.supplyAsync(() -> work.apply(shard), executor));
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private static long total(List<List<Map<String, Object>>> perShard) {
+        Map<Role, EnumMap<EmploymentType, Long>> counts = new EnumMap<>(Role.class);
+        long total = 0;
+        for (List<Map<String, Object>> rows : perShard) {
+            for (Map<String, Object> row : rows) {
+                long n = ((Number) row.get("n")).longValue();
+                counts.computeIfAbsent(Role.valueOf((String) row.get("role")), r -> new EnumMap<>(EmploymentType.class))
+                        .merge(EmploymentType.valueOf((String) row.get("employment_type")), n, Long::sum);
+                total += n;
+            }
+        }
+        return total;
+    }
+}
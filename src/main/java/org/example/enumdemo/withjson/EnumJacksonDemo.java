@@ -3,6 +3,10 @@ package org.example.enumdemo.withjson;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.springframework.context.i18n.LocaleContextHolder;
+
+import java.util.Locale;
 
 /**
  * DTO приклад із enum
@@ -12,6 +16,8 @@ public class EnumJacksonDemo {
 
     public static void main(String[] args) throws Exception {
         ObjectMapper mapper = new ObjectMapper();
+        // 🔹 поза HTTP-запитом LocaleContextHolder віддає Locale.getDefault() → фіксуємо мову, щоб вивід не залежав від JVM
+        LocaleContextHolder.setLocale(Locale.ENGLISH);
 
         // 1️⃣ Серіалізація DTO → JSON
         EmployeeDto dto = new EmployeeDto("Nazar", Role.ADMIN, EmploymentType.FULL_TIME);
@@ -44,6 +50,18 @@ public class EnumJacksonDemo {
         EmployeeDto dto3 = mapper.readValue(inputJson2, EmployeeDto.class);
         System.out.println("\n3. JSON → DTO:");
         System.out.println(dto3);
+
+        // 4️⃣ Та сама серіалізація, але Locale запиту = uk → displayName з messages_uk.properties
+        //    і назад: @JsonCreator впізнає локалізовану назву
+        LocaleContextHolder.setLocale(Locale.forLanguageTag("uk"));
+        try {
+            String localized = mapper.writeValueAsString(dto);
+            System.out.println("\n4. DTO → JSON (uk) → DTO:");
+            System.out.println(localized);
+            System.out.println(mapper.readValue(localized, EmployeeDto.class));
+        } finally {
+            LocaleContextHolder.resetLocaleContext();
+        }
     }
 }
 
@@ -70,6 +88,8 @@ class EmployeeDto {
         return role;
     }
 
+    // 🔹 у відповіді — displayName мовою клієнта (див. LocalizedEmploymentTypeSerializer)
+    @JsonSerialize(using = LocalizedEmploymentTypeSerializer.class)
     public EmploymentType getEmploymentType() {
         return employmentType;
     }
@@ -113,6 +133,7 @@ enum EmploymentType {
 
     // 🔹 Для десеріалізації з "Full time" назад у enum
     // Jackson дивиться на @JsonCreator → шукає EmploymentType по displayName → знаходить "Part time" → повертає EmploymentType.PART_TIME.
+    // Відповідь могла піти іншою мовою (LocalizedEmploymentTypeSerializer) → шукаємо ще й серед локалізованих назв.
     @JsonCreator
     public static EmploymentType fromJson(String value) {
         for (EmploymentType type : values()) {
@@ -120,6 +141,10 @@ enum EmploymentType {
                 return type;
             }
         }
+        EmploymentType localized = LocalizedEmploymentTypeSerializer.NAMES.find(value);
+        if (localized != null) {
+            return localized;
+        }
         throw new IllegalArgumentException("Unknown value: " + value);
     }
 }
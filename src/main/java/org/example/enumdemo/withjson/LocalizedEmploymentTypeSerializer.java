@@ -0,0 +1,33 @@
+package org.example.enumdemo.withjson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.example.enumdemo.i18n.LocalizedEnumNames;
+import org.springframework.context.i18n.LocaleContextHolder;
+
+import java.io.IOException;
+
+/**
+ * EmploymentType → displayName мовою поточного запиту.
+ *
+ * 🔹 Locale береться з LocaleContextHolder: у Spring MVC його виставляє LocaleResolver (Accept-Language),
+ *    поза запитом — Locale.getDefault().
+ * ✅ Таблиці назв будуються один раз при завантаженні класу; на кожне поле лише читання масиву по ordinal.
+ * 🔹 Десеріалізація: @JsonCreator у EmploymentType приймає name(), англійський displayName
+ *    або локалізовану назву (NAMES.find) → DTO → JSON → DTO працює для будь-якої мови відповіді.
+ */
+class LocalizedEmploymentTypeSerializer extends StdSerializer<EmploymentType> {
+
+    static final LocalizedEnumNames<EmploymentType> NAMES =
+            LocalizedEnumNames.load(EmploymentType.class, EmploymentType::getDisplayName);
+
+    LocalizedEmploymentTypeSerializer() {
+        super(EmploymentType.class);
+    }
+
+    @Override
+    public void serialize(EmploymentType value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeString(NAMES.displayName(value, LocaleContextHolder.getLocale()));
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.enumdemo.withjson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.ResourceBundleMessageSource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Бенчмарк локалізованих display-назв EmploymentType.
+ *
+ * ✅ Порівнюємо:
+ *   1. MessageSource.getMessage("enum.EmploymentType." + name(), null, locale) на кожне поле
+ *      (ResourceBundleMessageSource з тими ж налаштуваннями, що й у Spring Boot: messages, UTF-8, без system locale)
+ *   2. LocalizedEnumNames: готовий String[] на Locale, читання по ordinal
+ *
+ * 🔹 Частина A — сам пошук назви (мільйони викликів).
+ * 🔹 Частина B — серіалізація List<EmployeeDto> у JSON: той самий ObjectMapper,
+ *    для варіанта 1 серіалізатор поля підміняється через mix-in.
+ * 🔹 Локалі чергуються (uk / de / en / en-US), як у потоці запитів від різних клієнтів.
+ */
+public class LocalizedNamesBenchmark {
+
+    private static final int LOOKUPS = 10_000_000;
+    private static final int DTOS = 1_000;
+    private static final int RESPONSES = 5_000;
+
+    private static final Locale[] LOCALES = {
+            Locale.forLanguageTag("uk"), Locale.GERMAN, Locale.ENGLISH, Locale.US
+    };
+
+    static final ResourceBundleMessageSource MESSAGES = messageSource();
+
+    private static ResourceBundleMessageSource messageSource() {
+        ResourceBundleMessageSource source = new ResourceBundleMessageSource();
+        source.setBasename("messages");
+        source.setDefaultEncoding("UTF-8");
+        source.setFallbackToSystemLocale(false);
+        return source;
+    }
+
+    static final class MessageSourceSerializer extends StdSerializer<EmploymentType> {
+
+        MessageSourceSerializer() {
+            super(EmploymentType.class);
+        }
+
+        @Override
+        public void serialize(EmploymentType value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeString(lookup(MESSAGES, value, LocaleContextHolder.getLocale()));
+        }
+    }
+
+    abstract static class MessageSourceMixin {
+        @JsonSerialize(using = MessageSourceSerializer.class)
+        abstract EmploymentType getEmploymentType();
+    }
+
+    private static final class NullStream extends OutputStream {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+
+    private static String lookup(MessageSource messages, EmploymentType type, Locale locale) {
+        return messages.getMessage("enum.EmploymentType." + type.name(), null, type.getDisplayName(), locale);
+    }
+
+    public static void main(String[] args) throws IOException {
+        EmploymentType[] types = EmploymentType.values();
+
+        // однакові назви в обох варіантах
+        for (Locale locale : LOCALES) {
+            for (EmploymentType type : types) {
+                String expected = lookup(MESSAGES, type, locale);
+                String actual = LocalizedEmploymentTypeSerializer.NAMES.displayName(type, locale);
+                if (!expected.equals(actual)) {
+                    throw new IllegalStateException(locale + " " + type + ": " + expected + " != " + actual);
+                }
+            }
+        }
+
+        List<EmployeeDto> dtos = new ArrayList<>(DTOS);
+        Role[] roles = Role.values();
+        for (int i = 0; i < DTOS; i++) {
+            dtos.add(new EmployeeDto("employee-" + i, roles[i % roles.length], types[i % types.length]));
+        }
+        ObjectWriter tables = new ObjectMapper().writer();
+        ObjectWriter messageSource = new ObjectMapper()
+                .addMixIn(EmployeeDto.class, MessageSourceMixin.class)
+                .writer();
+
+        for (int pass = 1; pass <= 2; pass++) {
+            System.out.printf("Pass %d:%n", pass);
+            lookups(types);
+            serialization("1. MessageSource per field", messageSource, dtos);
+            serialization("2. LocalizedEnumNames     ", tables, dtos);
+        }
+    }
+
+    private static void lookups(EmploymentType[] types) {
+        long chars = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < LOOKUPS; i++) {
+            chars += lookup(MESSAGES, types[i % types.length], LOCALES[(i >>> 4) & 3]).length();
+        }
+        long messageSource = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < LOOKUPS; i++) {
+            chars += LocalizedEmploymentTypeSerializer.NAMES
+                    .displayName(types[i % types.length], LOCALES[(i >>> 4) & 3]).length();
+        }
+        long tables = System.nanoTime() - start;
+
+        System.out.printf("  lookup: MessageSource %6.1f ns, LocalizedEnumNames %5.1f ns (checksum %d)%n",
+                messageSource / (double) LOOKUPS, tables / (double) LOOKUPS, chars);
+    }
+
+    private static void serialization(String label, ObjectWriter writer, List<EmployeeDto> dtos) throws IOException {
+        NullStream out = new NullStream();
+        long start = System.nanoTime();
+        try {
+            for (int i = 0; i < RESPONSES; i++) {
+                LocaleContextHolder.setLocale(LOCALES[i & 3]);
+                writer.writeValue(out, dtos);
+            }
+        } finally {
+            LocaleContextHolder.resetLocaleContext();
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("  %s: %,8.0f responses/s (%d DTOs each), %6.1f ns/DTO%n",
+                label, RESPONSES / (elapsed / 1e9), dtos.size(), elapsed / (double) RESPONSES / dtos.size());
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.enumdemo.withmethods;
+
+import org.example.enumdemo.config.PricingConfigListener;
+import org.example.enumdemo.config.PricingSnapshot;
+import org.springframework.stereotype.Component;
+
+import java.util.Properties;
+
+/**
+ * Будує новий TariffTable після зміни файлу цін (публікує його PricingConfigWatcher разом з іншими частинами).
+ */
+@Component
+public class TariffConfigListener implements PricingConfigListener {
+
+    @Override
+    public PricingSnapshot prepare(Properties properties, PricingSnapshot draft) {
+        return draft.withTariffs(TariffTable.fromProperties(properties));
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.enumdemo.withmethods;
+
+import java.util.Properties;
+
+/**
+ * Бенчмарк читання тарифу: final-поле enum vs знімок TariffTable у PricingSnapshot (volatile-посилання).
+ *
+ * ✅ Порівнюємо:
+ *   1. defaultBaseRate() * defaultMultiplier() — те, що було до перезавантажуваного конфігу (final-поля)
+ *   2. calculateCost() через TariffTable.current() — без оновлень
+ *   3. calculateCost() під час того, як інший потік кожну мілісекунду публікує новий знімок
+ *
+ * 🔹 2 = volatile read PricingSnapshot + final-поле tariffs + звертання до масиву (без мапи і cast).
+ *    На x86 volatile read коштує як звичайний read, тож 1 і 2 мають збігатися;
+ *    у 3 читачі не блокуються (wait-free), лише інколи бачать нову кеш-лінію.
+ */
+public class TariffReadBenchmark {
+
+    private static final int ROUNDS = 10;
+    private static final int CALLS = 20_000_000;
+
+    private static double sink;
+
+    public static void main(String[] args) throws InterruptedException {
+        TransportType2[] types = TransportType2.values();
+        for (int i = 0; i < 3; i++) {
+            finalFields(types);
+            snapshot(types);
+        }
+
+        System.out.printf("1. final fields          : %.2f ns/call%n", average(() -> finalFields(types)));
+        System.out.printf("2. TariffTable snapshot  : %.2f ns/call%n", average(() -> snapshot(types)));
+
+        Thread updater = new Thread(() -> {
+            Properties properties = new Properties();
+            long version = 0;
+            while (!Thread.currentThread().isInterrupted()) {
+                properties.setProperty("transport.BUS.baseRate", Double.toString(2.5 + (version++ % 10) / 10.0));
+                TariffTable.publish(TariffTable.fromProperties(properties));
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        updater.setDaemon(true);
+        updater.start();
+        System.out.printf("3. snapshot + 1 swap/ms  : %.2f ns/call%n", average(() -> snapshot(types)));
+        updater.interrupt();
+        updater.join();
+        TariffTable.publish(TariffTable.defaults());
+
+        System.out.println("(sink=" + sink + ")");
+    }
+
+    private static double average(java.util.function.DoubleSupplier round) {
+        double total = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            total += round.getAsDouble();
+        }
+        return total / ROUNDS;
+    }
+
+    private static double finalFields(TransportType2[] types) {
+        long start = System.nanoTime();
+        double acc = 0;
+        for (int i = 0; i < CALLS; i++) {
+            TransportType2 type = types[i % types.length];
+            acc += type.defaultBaseRate() * type.defaultMultiplier() * i;
+        }
+        sink += acc;
+        return (System.nanoTime() - start) / (double) CALLS;
+    }
+
+    private static double snapshot(TransportType2[] types) {
+        long start = System.nanoTime();
+        double acc = 0;
+        for (int i = 0; i < CALLS; i++) {
+            acc += types[i % types.length].calculateCost(i);
+        }
+        sink += acc;
+        return (System.nanoTime() - start) / (double) CALLS;
+    }
+}
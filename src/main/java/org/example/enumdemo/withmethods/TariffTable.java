@@ -0,0 +1,101 @@
+package org.example.enumdemo.withmethods;
+
+import org.example.enumdemo.config.PricingSnapshot;
+
+import java.util.Properties;
+
+/**
+ * Незмінний знімок тарифів TransportType2 (baseRate, multiplier) з індексом = ordinal.
+ *
+ * ✅ Ідея:
+ *   - поточний знімок — частина PricingSnapshot, опублікованого через одне volatile-посилання
+ *   - читання = volatile read знімка + final-поле tariffs + звертання до масиву → wait-free, без локів
+ *   - оновлення будує новий знімок цілком і підміняє посилання → читачі бачать або старі, або нові тарифи, але не суміш
+ *   - тарифи і знижки публікуються одним PricingSnapshot → тарифи не "обганяють" знижки
+ *
+ * 🔹 Ключі у конфігу: transport.BUS.baseRate=2.5, transport.BUS.multiplier=1.0 ...
+ *    Відсутній ключ → значення з конструктора enum.
+ */
+public final class TariffTable {
+
+    private static final TransportType2[] TYPES = TransportType2.values();
+
+    private final double[] baseRates;
+    private final double[] multipliers;
+    // baseRate * multiplier, пораховано один раз при побудові знімка
+    private final double[] tariffs;
+
+    private TariffTable(double[] baseRates, double[] multipliers) {
+        this.baseRates = baseRates;
+        this.multipliers = multipliers;
+        this.tariffs = new double[baseRates.length];
+        for (int i = 0; i < tariffs.length; i++) {
+            tariffs[i] = baseRates[i] * multipliers[i];
+        }
+    }
+
+    public static TariffTable current() {
+        return PricingSnapshot.current().tariffs();
+    }
+
+    // 🔹 лише ця частина; файл цін публікує всі частини разом через PricingConfigWatcher
+    public static void publish(TariffTable table) {
+        PricingSnapshot.update(snapshot -> snapshot.withTariffs(table));
+    }
+
+    public static TariffTable defaults() {
+        double[] baseRates = new double[TYPES.length];
+        double[] multipliers = new double[TYPES.length];
+        for (TransportType2 type : TYPES) {
+            baseRates[type.ordinal()] = type.defaultBaseRate();
+            multipliers[type.ordinal()] = type.defaultMultiplier();
+        }
+        return new TariffTable(baseRates, multipliers);
+    }
+
+    /**
+     * Будує знімок із конфігу. Кидає IllegalArgumentException на нечислове чи від'ємне значення —
+     * тоді старий знімок лишається в силі.
+     */
+    public static TariffTable fromProperties(Properties properties) {
+        double[] baseRates = new double[TYPES.length];
+        double[] multipliers = new double[TYPES.length];
+        for (TransportType2 type : TYPES) {
+            baseRates[type.ordinal()] = read(properties, "transport." + type.name() + ".baseRate", type.defaultBaseRate());
+            multipliers[type.ordinal()] = read(properties, "transport." + type.name() + ".multiplier", type.defaultMultiplier());
+        }
+        return new TariffTable(baseRates, multipliers);
+    }
+
+    private static double read(Properties properties, String key, double defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            double parsed = Double.parseDouble(value.strip());
+            if (parsed < 0 || !Double.isFinite(parsed)) {
+                throw new IllegalArgumentException("Invalid " + key + ": " + value);
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + key + ": " + value, e);
+        }
+    }
+
+    public double baseRate(int code) {
+        return baseRates[code];
+    }
+
+    public double multiplier(int code) {
+        return multipliers[code];
+    }
+
+    public double tariff(int code) {
+        return tariffs[code];
+    }
+
+    public double cost(int code, double distanceKm) {
+        return tariffs[code] * distanceKm;
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.enumdemo.withmethods;
+
+import org.example.enumdemo.metadata.EnumMetadataContributor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Тарифи TransportType для /api/metadata.
+ */
+@Component
+public class TransportMetadata implements EnumMetadataContributor {
+
+    @Override
+    public Map<String, Object> metadata() {
+        List<Map<String, Object>> tariffs = TransportType.getTariffMap().entrySet().stream()
+                .map(e -> Map.<String, Object>of("name", e.getKey().name(), "tariffPerKm", e.getValue()))
+                .toList();
+        return Map.of("transportTariffs", tariffs);
+    }
+}
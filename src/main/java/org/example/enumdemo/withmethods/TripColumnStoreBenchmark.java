@@ -0,0 +1,95 @@
+package org.example.enumdemo.withmethods;
+
+import org.example.enumdemo.offheap.TripColumnStore;
+import org.example.enumdemo.strategy.DiscountCodes;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Бенчмарк: агрегація вартості поїздок по TransportType2 з урахуванням знижки.
+ *
+ * ✅ Порівнюємо:
+ *   - ArrayList<Trip> на heap (об'єкт на кожну поїздку, calculateCost() + applyDiscount())
+ *   - TripColumnStore: три примітивні колонки в memory-mapped файлах, тарифи/множники з масивів по коду
+ *
+ * 🔹 Аргументи: [кількість поїздок] (за замовчуванням 10 млн).
+ *    Для heap-варіанту потрібно ~40 байт на поїздку → для великих N збільшуйте -Xmx або дивіться лише на store.
+ */
+public class TripColumnStoreBenchmark {
+
+    private static final int ROUNDS = 5;
+
+    record Trip(TransportType2 transport, int discountCode, double distanceKm) {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int trips = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        TransportType2[] types = TransportType2.values();
+        double[] tariffPerKm = new double[types.length];
+        String[] transportNames = new String[types.length];
+        TransportType2.getTariffMap().forEach((type, tariff) -> {
+            tariffPerKm[type.ordinal()] = tariff;
+            transportNames[type.ordinal()] = type.name();
+        });
+        double[] discountFactors = DiscountCodes.factors();
+
+        // 1️⃣ Однакові дані для обох варіантів
+        Path dir = Files.createTempDirectory("trips");
+        List<Trip> list = new ArrayList<>(trips);
+        Random random = new Random(42);
+        try (TripColumnStore writer = TripColumnStore.create(dir, trips, transportNames, DiscountCodes.names())) {
+            for (int i = 0; i < trips; i++) {
+                TransportType2 type = types[random.nextInt(types.length)];
+                int discount = random.nextInt(DiscountCodes.count());
+                double distance = 1 + random.nextInt(500) / 10.0;
+                writer.append(type.ordinal(), discount, distance);
+                list.add(new Trip(type, discount, distance));
+            }
+        }
+
+        try (TripColumnStore store = TripColumnStore.open(dir, transportNames, DiscountCodes.names())) {
+            // 2️⃣ Прогрів
+            for (int i = 0; i < ROUNDS; i++) {
+                scanList(list, types.length);
+                store.scanCost(tariffPerKm, discountFactors, new double[types.length]);
+            }
+
+            // 3️⃣ Вимірювання
+            double listTotal = 0;
+            double storeTotal = 0;
+            long listNanos = 0;
+            long storeNanos = 0;
+            for (int i = 0; i < ROUNDS; i++) {
+                long start = System.nanoTime();
+                listTotal = scanList(list, types.length);
+                listNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                storeTotal = store.scanCost(tariffPerKm, discountFactors, new double[types.length]);
+                storeNanos += System.nanoTime() - start;
+            }
+
+            System.out.printf("1. ArrayList<Trip>  : %.1f M rows/s (total=%.2f)%n",
+                    (double) trips * ROUNDS / listNanos * 1_000, listTotal);
+            System.out.printf("2. TripColumnStore  : %.1f M rows/s (total=%.2f)%n",
+                    (double) trips * ROUNDS / storeNanos * 1_000, storeTotal);
+            System.out.println("3. Store files: " + dir);
+        }
+    }
+
+    private static double scanList(List<Trip> list, int transportCount) {
+        double[] perTransport = new double[transportCount];
+        double total = 0;
+        for (Trip trip : list) {
+            double cost = DiscountCodes.applyDiscount(trip.discountCode(), trip.transport().calculateCost(trip.distanceKm()));
+            perTransport[trip.transport().ordinal()] += cost;
+            total += cost;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.enumdemo.withmethods;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.enumdemo.cache.PackedLongDoubleCache;
+import org.example.enumdemo.config.PricingSnapshot;
+
+/**
+ * Необов'язковий мемоізуючий шар перед TransportType2.calculateCost() + DiscountType.applyDiscount().
+ *
+ * ✅ Ключ — один long (без boxing):
+ *   [ 8 біт код транспорту | 8 біт код знижки | 48 біт відстань у метрах ]
+ *   Відстань у метрах і є "бакетом": однакові маршрути дають однаковий ключ, а ціна рахується точно для цих метрів.
+ *
+ * 🔹 Один спільний кеш фіксованого розміру, поділений на STRIPES смуг (PackedLongDoubleCache не потокобезпечний):
+ *    смугу вибирає хеш ключа, кожна смуга — під своїм локом → потоки з різними маршрутами майже не конкурують.
+ *    Пам'ять не залежить від кількості потоків, тож кеш безпечний і для virtual threads.
+ * 🔹 Після перезавантаження цін (новий PricingSnapshot) смуга очищується при першому ж зверненні до неї;
+ *    тарифи і знижки для розрахунку беруться з одного знімка.
+ * 🔹 У застосунку вмикається enumdemo.trip-price-cache.enabled=true (TripPriceCacheConfig): тоді TripPricing
+ *    рахує ціну лише на промаху, а enumdemo.trip.price.cache.* видно в /actuator/prometheus.
+ * ⚠️ Сам розрахунок — кілька наносекунд; кеш окупається лише для дорожчих формул (див. TripPriceCacheBenchmark).
+ */
+public class TripPriceCache {
+
+    private static final long MAX_DISTANCE_METERS = (1L << 48) - 1;
+    private static final int STRIPES = 16;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    /**
+     * @param capacity загальна кількість записів на всі смуги
+     */
+    public TripPriceCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        int perStripe = Math.max(1, (capacity + STRIPES - 1) / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(new PackedLongDoubleCache(perStripe));
+        }
+    }
+
+    public double price(TransportType2 type, long distanceMeters, int discountCode) {
+        return price(type, distanceMeters, discountCode, TripPriceCache::compute);
+    }
+
+    double price(TransportType2 type, long distanceMeters, int discountCode, Loader loader) {
+        if (distanceMeters < 0 || distanceMeters > MAX_DISTANCE_METERS) {
+            throw new IllegalArgumentException("Distance out of range: " + distanceMeters);
+        }
+        long key = ((long) type.ordinal() << 56) | ((long) discountCode << 48) | distanceMeters;
+        PricingSnapshot snapshot = PricingSnapshot.current();
+        Stripe stripe = stripes[stripeOf(key)];
+        synchronized (stripe) {
+            if (stripe.snapshot != snapshot) {
+                stripe.cache.clear();
+                stripe.snapshot = snapshot;
+            }
+            double price = stripe.cache.get(key);
+            if (Double.isNaN(price)) {
+                price = loader.price(snapshot, type, distanceMeters, discountCode);
+                stripe.cache.put(key, price);
+            }
+            return price;
+        }
+    }
+
+    private static double compute(PricingSnapshot snapshot, TransportType2 type, long distanceMeters, int discountCode) {
+        double cost = snapshot.tariffs().cost(type.ordinal(), distanceMeters / 1000.0);
+        return snapshot.discounts().apply(discountCode, cost);
+    }
+
+    public long hits() {
+        long sum = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                sum += stripe.cache.hits();
+            }
+        }
+        return sum;
+    }
+
+    public long misses() {
+        long sum = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                sum += stripe.cache.misses();
+            }
+        }
+        return sum;
+    }
+
+    public long evictions() {
+        long sum = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                sum += stripe.cache.evictions();
+            }
+        }
+        return sum;
+    }
+
+    public double hitRatio() {
+        long hits = hits();
+        long total = hits + misses();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    // 🔹 сума по всіх смугах; кожна смуга читається під своїм локом
+    public void registerMetrics(MeterRegistry registry) {
+        FunctionCounter.builder("enumdemo.trip.price.cache.hits", this, TripPriceCache::hits).register(registry);
+        FunctionCounter.builder("enumdemo.trip.price.cache.misses", this, TripPriceCache::misses).register(registry);
+        FunctionCounter.builder("enumdemo.trip.price.cache.evictions", this, TripPriceCache::evictions).register(registry);
+        Gauge.builder("enumdemo.trip.price.cache.hit.ratio", this, TripPriceCache::hitRatio).register(registry);
+    }
+
+    // 🔹 старші біти перемішаного ключа: набір усередині PackedLongDoubleCache обирається іншими бітами
+    private static int stripeOf(long key) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 60) & (STRIPES - 1);
+    }
+
+    // 🔹 розрахунок на промаху; знімок той самий, під яким смуга кешує результат
+    @FunctionalInterface
+    interface Loader {
+        double price(PricingSnapshot snapshot, TransportType2 type, long distanceMeters, int discountCode);
+    }
+
+    private static final class Stripe {
+        private final PackedLongDoubleCache cache;
+        private PricingSnapshot snapshot;
+
+        private Stripe(PackedLongDoubleCache cache) {
+            this.cache = cache;
+        }
+    }
+}
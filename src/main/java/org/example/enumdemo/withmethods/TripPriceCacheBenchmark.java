@@ -0,0 +1,115 @@
+package org.example.enumdemo.withmethods;
+
+import org.example.enumdemo.cache.PackedLongDoubleCache;
+import org.example.enumdemo.strategy.DiscountCodes;
+
+import java.util.Random;
+
+/**
+ * Бенчмарк: коли мемоізація ціни поїздки швидша за повторний розрахунок.
+ *
+ * ✅ Навантаження: повторювані маршрути (transport, відстань у метрах, знижка) з "хвостатим" розподілом —
+ *    невелика кількість популярних маршрутів і довгий хвіст рідкісних.
+ *
+ * ✅ Порівнюємо для двох формул:
+ *   1. поточна: calculateCost() + applyDiscount() (кілька ns) → кеш зазвичай НЕ виграє
+ *   2. "дорожча" тарифна модель (симуляція: поетапні тарифи по кілометру) → кеш виграє вже при помірному hit ratio
+ *
+ * 🔹 Для кожного розміру кешу друкуємо hit ratio і ns/запит.
+ */
+public class TripPriceCacheBenchmark {
+
+    private static final int REQUESTS = 2_000_000;
+    private static final int DISTINCT_ROUTES = 50_000;
+    private static final int[] CAPACITIES = {1_024, 8_192, 65_536};
+
+    private static double sink;
+
+    public static void main(String[] args) {
+        TransportType2[] types = TransportType2.values();
+        long[] workload = workload(types.length);
+
+        for (int warmup = 0; warmup < 3; warmup++) {
+            run(types, workload, new TripPriceCache(8_192));
+            run(types, workload, null);
+        }
+
+        System.out.println("1. Current formula (calculateCost + applyDiscount):");
+        System.out.printf("   recompute          : %6.2f ns/request%n", run(types, workload, null));
+        for (int capacity : CAPACITIES) {
+            TripPriceCache cache = new TripPriceCache(capacity);
+            double ns = run(types, workload, cache);
+            System.out.printf("   cache %,7d slots : %6.2f ns/request, hit ratio=%.2f%n", capacity, ns, cache.hitRatio());
+        }
+
+        System.out.println("\n2. Expensive tiered formula (simulated):");
+        System.out.printf("   recompute          : %6.2f ns/request%n", runTiered(workload, null));
+        for (int capacity : CAPACITIES) {
+            PackedLongDoubleCache cache = new PackedLongDoubleCache(capacity);
+            double ns = runTiered(workload, cache);
+            System.out.printf("   cache %,7d slots : %6.2f ns/request, hit ratio=%.2f%n", capacity, ns, cache.hitRatio());
+        }
+        System.out.println("(sink=" + sink + ")");
+    }
+
+    // 🔹 запити як [transport | discount | meters], розподіл маршрутів ~ 1/rank (Zipf-подібний)
+    private static long[] workload(int transportCount) {
+        Random random = new Random(42);
+        long[] routes = new long[DISTINCT_ROUTES];
+        for (int i = 0; i < routes.length; i++) {
+            long meters = 500 + random.nextInt(50_000);
+            routes[i] = ((long) random.nextInt(transportCount) << 56)
+                    | ((long) random.nextInt(DiscountCodes.count()) << 48) | meters;
+        }
+        long[] requests = new long[REQUESTS];
+        double logRoutes = Math.log(DISTINCT_ROUTES);
+        for (int i = 0; i < requests.length; i++) {
+            int rank = (int) Math.exp(random.nextDouble() * logRoutes) - 1;
+            requests[i] = routes[rank];
+        }
+        return requests;
+    }
+
+    private static double run(TransportType2[] types, long[] workload, TripPriceCache cache) {
+        long start = System.nanoTime();
+        double acc = 0;
+        for (long request : workload) {
+            TransportType2 type = types[(int) (request >>> 56)];
+            int discount = (int) (request >>> 48) & 0xFF;
+            long meters = request & 0xFFFF_FFFF_FFFFL;
+            acc += cache != null
+                    ? cache.price(type, meters, discount)
+                    : DiscountCodes.applyDiscount(discount, type.calculateCost(meters / 1000.0));
+        }
+        sink += acc;
+        return (System.nanoTime() - start) / (double) workload.length;
+    }
+
+    private static double runTiered(long[] workload, PackedLongDoubleCache cache) {
+        long start = System.nanoTime();
+        double acc = 0;
+        for (long request : workload) {
+            double price = cache != null ? cache.get(request) : Double.NaN;
+            if (Double.isNaN(price)) {
+                price = tieredPrice(request);
+                if (cache != null) {
+                    cache.put(request, price);
+                }
+            }
+            acc += price;
+        }
+        sink += acc;
+        return (System.nanoTime() - start) / (double) workload.length;
+    }
+
+    // 🔹 кожен кілометр — свій тариф, що плавно дешевшає з відстанню (імітація складної тарифної сітки)
+    private static double tieredPrice(long request) {
+        long meters = request & 0xFFFF_FFFF_FFFFL;
+        double factor = DiscountCodes.applyDiscount((int) (request >>> 48) & 0xFF, 1.0);
+        double price = 0;
+        for (long tier = 0; tier < meters; tier += 1000) {
+            price += 2.5 / Math.sqrt(1 + tier / 1000.0);
+        }
+        return price * factor * (1 + (request >>> 56));
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.enumdemo.withmethods;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * enumdemo.trip-price-cache.enabled=true → TripPricing рахує ціни через TripPriceCache.
+ *
+ * 🔹 За замовчуванням вимкнено: поточна формула дешевша за кеш (див. TripPriceCacheBenchmark).
+ * 🔹 Метрики: enumdemo.trip.price.cache.hits / misses / evictions / hit.ratio.
+ */
+@Configuration
+@ConditionalOnProperty(name = "enumdemo.trip-price-cache.enabled", havingValue = "true")
+public class TripPriceCacheConfig {
+
+    @Bean
+    public TripPriceCache tripPriceCache(@Value("${enumdemo.trip-price-cache.capacity:65536}") int capacity,
+                                         MeterRegistry registry) {
+        TripPriceCache cache = new TripPriceCache(capacity);
+        cache.registerMetrics(registry);
+        return cache;
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.enumdemo.withmethods;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * GET /api/trips/price?transport=BUS&distanceMeters=12500&discount=SEASONAL — ціна поїздки (TripPricing).
+ *
+ * 🔹 Невідомий транспорт / знижка або від'ємна відстань → 400.
+ */
+@RestController
+public class TripPriceController {
+
+    private final TripPricing pricing;
+
+    public TripPriceController(TripPricing pricing) {
+        this.pricing = pricing;
+    }
+
+    @GetMapping("/api/trips/price")
+    public TripPrice price(@RequestParam String transport,
+                           @RequestParam long distanceMeters,
+                           @RequestParam(defaultValue = "NONE") String discount) {
+        try {
+            return new TripPrice(transport, distanceMeters, discount, pricing.price(transport, distanceMeters, discount));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    public record TripPrice(String transport, long distanceMeters, String discount, double price) {
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.enumdemo.withmethods;
+
+import org.example.enumdemo.config.PricingSnapshot;
+import org.example.enumdemo.strategy.DiscountCodes;
+import org.example.enumdemo.strategy.StrategyMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ціна поїздки: тариф TransportType2 × відстань, потім знижка DiscountType.
+ *
+ * 🔹 Тариф і знижка беруться з одного PricingSnapshot → перезавантаження цін посеред розрахунку не змішує версії.
+ * 🔹 Знижка застосовується через StrategyMetrics → enumdemo.discount.* рахують реальні розрахунки.
+ * 🔹 Є бін TripPriceCache (enumdemo.trip-price-cache.enabled=true) → розрахунок лише на промаху кешу.
+ */
+@Component
+public class TripPricing {
+
+    private final StrategyMetrics strategies;
+    // null → кеш вимкнено
+    private final TripPriceCache cache;
+
+    public TripPricing(StrategyMetrics strategies, ObjectProvider<TripPriceCache> cache) {
+        this.strategies = strategies;
+        this.cache = cache.getIfAvailable();
+    }
+
+    /**
+     * Кидає IllegalArgumentException на невідомий транспорт / знижку або від'ємну відстань.
+     */
+    public double price(String transport, long distanceMeters, String discount) {
+        if (distanceMeters < 0) {
+            throw new IllegalArgumentException("Distance must not be negative: " + distanceMeters);
+        }
+        return price(TransportType2.valueOf(transport), distanceMeters, DiscountCodes.codeOf(discount));
+    }
+
+    double price(TransportType2 type, long distanceMeters, int discountCode) {
+        if (cache != null) {
+            return cache.price(type, distanceMeters, discountCode, this::compute);
+        }
+        return compute(PricingSnapshot.current(), type, distanceMeters, discountCode);
+    }
+
+    private double compute(PricingSnapshot snapshot, TransportType2 type, long distanceMeters, int discountCode) {
+        double cost = snapshot.tariffs().cost(type.ordinal(), distanceMeters / 1000.0);
+        return strategies.applyDiscount(snapshot.discounts(), discountCode, cost);
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.enumdemo.withmethods;
+
+import org.example.enumdemo.stats.EnumStats;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Бенчмарк масштабування: статистика вартості поїздок по TransportType2 з багатьох потоків.
+ *
+ * ✅ Порівнюємо:
+ *   - EnumStats (масиви по ordinal, LongAdder/DoubleAdder, padded min/max)
+ *   - ConcurrentHashMap<TransportType2, AtomicLong> — "звичний" варіант з тими ж count / sum (у копійках) /
+ *     min / max / histogram, щоб обидва варіанти робили однакову роботу
+ *
+ * 🔹 Кількість потоків: 1 → 256. Для кожної кількості друкуємо млн записів/с.
+ * 🔹 Наприкінці — snapshotAndReset() з EnumStats, щоб показати, що саме накопичилось.
+ */
+public class TripStatsBenchmark {
+
+    private static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64, 128, 256};
+    private static final int TOTAL_RECORDS = 20_000_000;
+    private static final double[] COST_BUCKETS = {10, 25, 50, 100, 250};
+
+    public static void main(String[] args) throws InterruptedException {
+        TransportType2[] types = TransportType2.values();
+        EnumStats<TransportType2> stats = new EnumStats<>(TransportType2.class, COST_BUCKETS);
+
+        // прогрів обох варіантів
+        runEnumStats(stats, types, 4);
+        runConcurrentMap(types, 4);
+        stats.snapshotAndReset();
+
+        System.out.println("threads | EnumStats, M ops/s | ConcurrentHashMap<Enum, AtomicLong>, M ops/s");
+        for (int threads : THREADS) {
+            stats.snapshotAndReset();
+            double enumStats = runEnumStats(stats, types, threads);
+            double map = runConcurrentMap(types, threads);
+            System.out.printf("%7d | %18.1f | %.1f%n", threads, enumStats, map);
+        }
+
+        System.out.println("\nSnapshot (last run) per transport type:");
+        stats.snapshotAndReset().forEach((type, s) -> System.out.println("- " + type.name() + ": " + s));
+    }
+
+    private static double runEnumStats(EnumStats<TransportType2> stats, TransportType2[] types, int threads)
+            throws InterruptedException {
+        return run(threads, () -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            TransportType2 type = types[random.nextInt(types.length)];
+            stats.record(type, type.calculateCost(random.nextInt(1, 30)));
+        });
+    }
+
+    private static double runConcurrentMap(TransportType2[] types, int threads) throws InterruptedException {
+        Map<TransportType2, AtomicLong> counts = new ConcurrentHashMap<>();
+        Map<TransportType2, AtomicLong> sumsInCents = new ConcurrentHashMap<>();
+        Map<TransportType2, AtomicLong> minsInCents = new ConcurrentHashMap<>();
+        Map<TransportType2, AtomicLong> maxsInCents = new ConcurrentHashMap<>();
+        Map<TransportType2, AtomicLongArray> histograms = new ConcurrentHashMap<>();
+        return run(threads, () -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            TransportType2 type = types[random.nextInt(types.length)];
+            long cents = Math.round(type.calculateCost(random.nextInt(1, 30)) * 100);
+            counts.computeIfAbsent(type, t -> new AtomicLong()).incrementAndGet();
+            sumsInCents.computeIfAbsent(type, t -> new AtomicLong()).addAndGet(cents);
+            minsInCents.computeIfAbsent(type, t -> new AtomicLong(Long.MAX_VALUE)).accumulateAndGet(cents, Math::min);
+            maxsInCents.computeIfAbsent(type, t -> new AtomicLong(Long.MIN_VALUE)).accumulateAndGet(cents, Math::max);
+            histograms.computeIfAbsent(type, t -> new AtomicLongArray(COST_BUCKETS.length + 1))
+                    .incrementAndGet(bucketOf(cents / 100.0));
+        });
+    }
+
+    private static int bucketOf(double value) {
+        int idx = Arrays.binarySearch(COST_BUCKETS, value);
+        return idx >= 0 ? idx : -idx - 1;
+    }
+
+    // 🔹 запускає threads потоків, які разом виконують TOTAL_RECORDS операцій; повертає млн операцій/с
+    private static double run(int threads, Runnable operation) throws InterruptedException {
+        int perThread = TOTAL_RECORDS / threads;
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        operation.run();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+            thread.start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - begin;
+        return (perThread * (double) threads) / elapsed * 1_000;
+    }
+}
@@ -64,6 +64,7 @@ enum TransportType2 {
     TRAIN(1.8, 0.9),
     TAXI(10.0, 1.5);
 
+    // 🔹 значення з конструктора — лише дефолти; актуальні тарифи живуть у TariffTable (можна перезавантажити з конфігу)
     private final double baseRate;
     private final double multiplier;
 
@@ -73,14 +74,26 @@ enum TransportType2 {
         this.multiplier = multiplier;
     }
 
-    // Getter для базової ціни
+    // Getter для базової ціни (поточне значення з конфігу)
     public double getBaseRate() {
+        return TariffTable.current().baseRate(ordinal());
+    }
+
+    public double getMultiplier() {
+        return TariffTable.current().multiplier(ordinal());
+    }
+
+    double defaultBaseRate() {
         return baseRate;
     }
 
-    // Приватний метод — інкапсульована формула
+    double defaultMultiplier() {
+        return multiplier;
+    }
+
+    // Приватний метод — інкапсульована формула (baseRate * multiplier вже пораховано у знімку)
     private double calculateTariff() {
-        return baseRate * multiplier;
+        return TariffTable.current().tariff(ordinal());
     }
 
     // Публічний метод — API для користувача
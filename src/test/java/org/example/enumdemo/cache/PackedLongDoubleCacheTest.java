@@ -0,0 +1,33 @@
+package org.example.enumdemo.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PackedLongDoubleCacheTest {
+
+    @Test
+    void storesAndEvictsWithinFixedCapacity() {
+        PackedLongDoubleCache cache = new PackedLongDoubleCache(16);
+        cache.put(42, 1.5);
+
+        assertThat(cache.get(42)).isEqualTo(1.5);
+        assertThat(cache.get(43)).isNaN();
+
+        for (long key = 0; key < 1_000; key++) {
+            cache.put(key, key);
+        }
+        assertThat(cache.evictions()).isPositive();
+    }
+
+    @Test
+    void rejectsCapacityThatCannotBeRoundedToAPowerOfTwo() {
+        assertThatThrownBy(() -> new PackedLongDoubleCache(PackedLongDoubleCache.MAX_CAPACITY + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PackedLongDoubleCache(Integer.MAX_VALUE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PackedLongDoubleCache(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.enumdemo.cdc;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PgOutputDecoderTest {
+
+    private final PgOutputDecoder decoder = new PgOutputDecoder();
+    private final RecordingHandler handler = new RecordingHandler();
+
+    @Test
+    void insertValuesAreDecodedByRelationColumns() {
+        decoder.decode(relation(16384, "public", "employees", "id", "role"), handler);
+
+        ByteBuffer insert = ByteBuffer.allocate(64);
+        insert.put((byte) 'I').putInt(16384).put((byte) 'N').putShort((short) 2);
+        text(insert, "42");
+        insert.put((byte) 'n');
+        decoder.decode(insert.flip(), handler);
+
+        assertThat(handler.inserted).containsExactly("employees:42,null");
+    }
+
+    @Test
+    void truncateReportsAllTruncatedRelations() {
+        decoder.decode(relation(16384, "public", "employees", "id"), handler);
+        decoder.decode(relation(16390, "public", "trips", "id"), handler);
+
+        ByteBuffer truncate = ByteBuffer.allocate(16);
+        truncate.put((byte) 'T').putInt(2).put((byte) 0).putInt(16384).putInt(16390);
+        decoder.decode(truncate.flip(), handler);
+
+        assertThat(handler.truncated).containsExactly("public.employees", "public.trips");
+    }
+
+    private static ByteBuffer relation(int id, String namespace, String name, String... columns) {
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        buffer.put((byte) 'R').putInt(id);
+        string(buffer, namespace);
+        string(buffer, name);
+        buffer.put((byte) 'f').putShort((short) columns.length);
+        for (String column : columns) {
+            buffer.put((byte) 0);
+            string(buffer, column);
+            buffer.putInt(25).putInt(-1);
+        }
+        return buffer.flip();
+    }
+
+    private static void string(ByteBuffer buffer, String value) {
+        buffer.put(value.getBytes(StandardCharsets.UTF_8)).put((byte) 0);
+    }
+
+    private static void text(ByteBuffer buffer, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.put((byte) 't').putInt(bytes.length).put(bytes);
+    }
+
+    private static final class RecordingHandler implements PgOutputDecoder.Handler {
+        private final List<String> inserted = new ArrayList<>();
+        private final List<String> truncated = new ArrayList<>();
+
+        @Override
+        public void insert(PgOutputDecoder.Relation relation, String[] newValues) {
+            inserted.add(relation.name() + ":" + String.join(",", String.valueOf(newValues[0]), String.valueOf(newValues[1])));
+        }
+
+        @Override
+        public void update(PgOutputDecoder.Relation relation, String[] oldValues, String[] newValues) {
+        }
+
+        @Override
+        public void delete(PgOutputDecoder.Relation relation, String[] oldValues) {
+        }
+
+        @Override
+        public void truncate(List<PgOutputDecoder.Relation> relations) {
+            for (PgOutputDecoder.Relation relation : relations) {
+                truncated.add(relation.namespace() + "." + relation.name());
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.enumdemo.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HikariDataSourcePropertiesTest {
+
+    @Test
+    void bindsDataSourcePropertiesWithTheirOriginalNames() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.datasource.hikari.data-source-properties.prepareThreshold", "1")
+                .withProperty("spring.datasource.hikari.data-source-properties.reWriteBatchedInserts", "true");
+
+        Properties properties = HikariDataSourceProperties.from(environment);
+
+        assertThat(properties).containsEntry("prepareThreshold", "1").containsEntry("reWriteBatchedInserts", "true");
+    }
+
+    @Test
+    void emptyWhenNothingIsConfigured() {
+        assertThat(HikariDataSourceProperties.from(new MockEnvironment())).isEmpty();
+    }
+}
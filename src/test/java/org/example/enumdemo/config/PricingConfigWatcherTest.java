@@ -0,0 +1,82 @@
+package org.example.enumdemo.config;
+
+import org.example.enumdemo.strategy.DiscountConfigListener;
+import org.example.enumdemo.withmethods.TariffConfigListener;
+import org.example.enumdemo.withmethods.TariffTable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PricingConfigWatcherTest {
+
+    @TempDir
+    Path dir;
+
+    @AfterEach
+    void restoreDefaults() {
+        PricingSnapshot.publish(PricingSnapshot.defaults());
+    }
+
+    @Test
+    void tariffsAndDiscountsArePublishedAsOneSnapshot() throws IOException {
+        Path file = write("transport.BUS.baseRate=4.0\ndiscount.SEASONAL.percent=20\n", 1_000);
+        PricingSnapshot before = PricingSnapshot.current();
+
+        watcher(file).reloadIfChanged();
+
+        PricingSnapshot snapshot = PricingSnapshot.current();
+        assertThat(snapshot).isNotSameAs(before);
+        assertThat(snapshot.tariffs().baseRate(0)).isEqualTo(4.0);
+        assertThat(snapshot.discounts().percent(0)).isEqualTo(20);
+    }
+
+    @Test
+    void invalidFileKeepsPreviousSnapshotAndIsNotRereadUntilItChanges() throws IOException {
+        Path file = write("transport.BUS.baseRate=4.0\n", 1_000);
+        PricingConfigWatcher watcher = watcher(file);
+        watcher.reloadIfChanged();
+        PricingSnapshot applied = PricingSnapshot.current();
+
+        write("transport.BUS.baseRate=oops\n", 2_000);
+        watcher.reloadIfChanged();
+        assertThat(PricingSnapshot.current()).isSameAs(applied);
+
+        // та сама версія файлу (mtime) вже відхилена → не перечитується
+        write("transport.BUS.baseRate=5.0\n", 2_000);
+        watcher.reloadIfChanged();
+        assertThat(PricingSnapshot.current()).isSameAs(applied);
+
+        write("transport.BUS.baseRate=5.0\n", 3_000);
+        watcher.reloadIfChanged();
+        assertThat(TariffTable.current().baseRate(0)).isEqualTo(5.0);
+    }
+
+    @Test
+    void invalidDiscountDoesNotPublishValidTariffs() throws IOException {
+        Path file = write("transport.BUS.baseRate=4.0\ndiscount.SEASONAL.percent=150\n", 1_000);
+        PricingSnapshot before = PricingSnapshot.current();
+
+        watcher(file).reloadIfChanged();
+
+        assertThat(PricingSnapshot.current()).isSameAs(before);
+    }
+
+    private PricingConfigWatcher watcher(Path file) {
+        return new PricingConfigWatcher(file.toString(), List.of(new TariffConfigListener(), new DiscountConfigListener()));
+    }
+
+    private Path write(String content, long modifiedMillis) throws IOException {
+        Path file = dir.resolve("pricing.properties");
+        Files.writeString(file, content);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(modifiedMillis));
+        return file;
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.enumdemo.i18n;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalizedEnumNamesTest {
+
+    // ключі messages*.properties: enum.EmploymentType.<CONSTANT>
+    enum EmploymentType {
+        FULL_TIME, PART_TIME, CONTRACTOR
+    }
+
+    private final LocalizedEnumNames<EmploymentType> names = LocalizedEnumNames.load(EmploymentType.class, Enum::name);
+
+    @Test
+    void namesComeFromTheBundleOfTheLocale() {
+        assertThat(names.displayName(EmploymentType.PART_TIME, Locale.ENGLISH)).isEqualTo("Part time");
+        assertThat(names.displayName(EmploymentType.PART_TIME, Locale.forLanguageTag("uk"))).isEqualTo("Часткова зайнятість");
+        assertThat(names.displayName(EmploymentType.PART_TIME, Locale.forLanguageTag("de-AT"))).isEqualTo("Teilzeit");
+    }
+
+    @Test
+    void localesOfTheSameBundleShareOneTable() {
+        String[] base = names.table(Locale.ENGLISH);
+
+        assertThat(names.table(Locale.US)).isSameAs(base);
+        assertThat(names.table(Locale.FRENCH)).isSameAs(base);
+        assertThat(names.table(Locale.forLanguageTag("de-CH"))).isSameAs(names.table(Locale.GERMAN));
+        for (int i = 0; i < 200; i++) {
+            assertThat(names.table(Locale.forLanguageTag("en-X" + i))).isSameAs(base);
+        }
+    }
+
+    @Test
+    void findResolvesLocalizedNamesInAnyLanguage() {
+        assertThat(names.find("Teilzeit")).isEqualTo(EmploymentType.PART_TIME);
+        assertThat(names.find("підрядник")).isEqualTo(EmploymentType.CONTRACTOR);
+        assertThat(names.find("full time")).isEqualTo(EmploymentType.FULL_TIME);
+        assertThat(names.find("Freelancer")).isNull();
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.enumdemo.journal;
+
+import org.example.enumdemo.strategy.NotificationChannels;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeliveryJournalReaderTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void exportWritesOneCsvLinePerRecord() throws IOException {
+        try (DeliveryJournal journal = new DeliveryJournal(dir.toString(), 2, 10)) {
+            journal.append(NotificationChannels.EMAIL, DeliveryStatus.SENT, 42);
+            journal.append(NotificationChannels.SMS, DeliveryStatus.FAILED, -1);
+            journal.append(NotificationChannels.PUSH, DeliveryStatus.SENT, 7);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = DeliveryJournalReader.exportCsv(dir, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(3);
+        assertThat(lines).hasSize(4);
+        assertThat(lines[0]).isEqualTo("timestamp,channel,status,message_hash");
+        assertThat(lines[1]).matches("\\d+,EMAIL,SENT,42");
+        assertThat(lines[2]).matches("\\d+,SMS,FAILED,-1");
+        assertThat(lines[3]).matches("\\d+,PUSH,SENT,7");
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.enumdemo.metadata;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EnumMetadataControllerTest {
+
+    @Test
+    void encodingSortsKeysAtEveryLevel() throws Exception {
+        Map<String, Object> inner = new LinkedHashMap<>();
+        inner.put("name", "FULL_TIME");
+        inner.put("displayName", "Full time");
+        Map<String, Object> sections = new LinkedHashMap<>();
+        sections.put("roles", List.of("ADMIN"));
+        sections.put("employmentTypes", List.of(inner));
+
+        byte[] body = EnumMetadataController.encode(List.of(() -> sections), new ObjectMapper());
+
+        assertThat(new String(body, StandardCharsets.UTF_8)).isEqualTo(
+                "{\"employmentTypes\":[{\"displayName\":\"Full time\",\"name\":\"FULL_TIME\"}],\"roles\":[\"ADMIN\"]}");
+    }
+
+    @Test
+    void etagDoesNotDependOnMapIterationOrder() throws Exception {
+        Map<String, Object> forward = new LinkedHashMap<>();
+        forward.put("a", Map.of("x", 1));
+        forward.put("b", "2");
+        Map<String, Object> backward = new LinkedHashMap<>();
+        backward.put("b", "2");
+        backward.put("a", new HashMap<>(Map.of("x", 1)));
+        ObjectMapper mapper = new ObjectMapper();
+
+        String first = EnumMetadataController.etagOf(EnumMetadataController.encode(List.of(() -> forward), mapper));
+        String second = EnumMetadataController.etagOf(EnumMetadataController.encode(List.of(() -> backward), mapper));
+
+        assertThat(first).isEqualTo(second).startsWith("\"").endsWith("\"").hasSize(34);
+    }
+
+    @Test
+    void sectionsFromAllContributorsAreMerged() throws Exception {
+        EnumMetadataContributor roles = () -> Map.of("roles", List.of("ADMIN"));
+        EnumMetadataContributor zones = () -> Map.of("timeZones", List.of("UTC"));
+
+        byte[] body = EnumMetadataController.encode(List.of(zones, roles), new ObjectMapper());
+
+        assertThat(new String(body, StandardCharsets.UTF_8)).isEqualTo("{\"roles\":[\"ADMIN\"],\"timeZones\":[\"UTC\"]}");
+    }
+}
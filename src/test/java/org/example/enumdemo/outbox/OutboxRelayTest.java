@@ -0,0 +1,107 @@
+package org.example.enumdemo.outbox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.enumdemo.journal.DeliveryJournal;
+import org.example.enumdemo.strategy.NotificationChannels;
+import org.example.enumdemo.strategy.StrategyMetrics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboxRelayTest {
+
+    @Test
+    void failedRowDoesNotUndoDeleteOfSentRows() {
+        StubJdbcTemplate jdbc = new StubJdbcTemplate(List.of(
+                row(1, NotificationChannels.EMAIL),
+                row(2, 99),
+                row(3, NotificationChannels.SMS)));
+        StubTransactionManager transactions = new StubTransactionManager();
+
+        int processed = relay(jdbc, transactions).relayBatch();
+
+        assertThat(processed).isEqualTo(3);
+        assertThat(jdbc.deleted).containsExactly(1L, 3L);
+        assertThat(jdbc.failed).hasSize(1);
+        assertThat(jdbc.failed.get(0)[0]).asString().contains("99");
+        assertThat(jdbc.failed.get(0)[1]).isEqualTo(2L);
+        // усе в одній транзакції, яка комітиться (SimpleTransactionStatus не підтримує savepoint-ів)
+        assertThat(transactions.commits).isEqualTo(1);
+        assertThat(transactions.rollbacks).isZero();
+    }
+
+    @Test
+    void lastErrorIsCleanedAndFitsTheColumn() {
+        String error = OutboxRelay.lastError(new IllegalStateException("a\0b" + "x".repeat(300)));
+
+        assertThat(error).startsWith("a b").hasSize(OutboxMessage.LAST_ERROR_LENGTH);
+    }
+
+    private static OutboxRelay relay(JdbcTemplate jdbc, PlatformTransactionManager transactions) {
+        return new OutboxRelay(jdbc, new TransactionTemplate(transactions),
+                new StaticListableBeanFactory().getBeanProvider(DeliveryJournal.class),
+                new StrategyMetrics(new SimpleMeterRegistry()), 1, 100, 5, 10);
+    }
+
+    private static Map<String, Object> row(long id, int channel) {
+        return Map.of("id", id, "channel", (short) channel, "recipient", "user-" + id, "payload", "hello " + id);
+    }
+
+    private static final class StubJdbcTemplate extends JdbcTemplate {
+        private final List<Map<String, Object>> claimed;
+        private final List<Long> deleted = new ArrayList<>();
+        private List<Object[]> failed = List.of();
+
+        StubJdbcTemplate(List<Map<String, Object>> claimed) {
+            this.claimed = claimed;
+        }
+
+        @Override
+        public List<Map<String, Object>> queryForList(String sql, Object... args) {
+            return claimed;
+        }
+
+        @Override
+        public int update(String sql, Object... args) {
+            deleted.addAll(List.of((Long[]) args[0]));
+            return deleted.size();
+        }
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            failed = batchArgs;
+            return new int[batchArgs.size()];
+        }
+    }
+
+    private static final class StubTransactionManager implements PlatformTransactionManager {
+        private int commits;
+        private int rollbacks;
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            commits++;
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            rollbacks++;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.enumdemo.simple;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoleAccessTest {
+
+    private static final long MANAGE_USERS = RoleAccess.permission("MANAGE_USERS");
+    private static final long VIEW_PROFILE = RoleAccess.permission("VIEW_PROFILE");
+
+    @AfterEach
+    void restoreDefaults() {
+        RolePermissions.publish(RolePermissions.defaults());
+    }
+
+    @Test
+    void headerChecksUseCurrentRolePermissions() {
+        RoleAccess access = new RoleAccess(true);
+
+        assertThatCode(() -> access.require("ADMIN", MANAGE_USERS)).doesNotThrowAnyException();
+        assertThatCode(() -> access.require("USER", VIEW_PROFILE)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> access.require("USER", MANAGE_USERS)).isInstanceOf(ResponseStatusException.class);
+
+        Properties properties = new Properties();
+        properties.setProperty("role.USER.permissions", "VIEW_PROFILE,MANAGE_USERS");
+        RolePermissions.publish(RolePermissions.fromProperties(properties));
+        assertThatCode(() -> access.require("USER", MANAGE_USERS)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void missingOrUnknownRoleIsForbidden() {
+        RoleAccess access = new RoleAccess(true);
+
+        assertThatThrownBy(() -> access.require(null, VIEW_PROFILE)).isInstanceOf(ResponseStatusException.class);
+        assertThatThrownBy(() -> access.require("GUEST", VIEW_PROFILE)).isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    void checksAreSkippedWhenHeaderCheckIsOff() {
+        assertThatCode(() -> new RoleAccess(false).require(null, MANAGE_USERS)).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.enumdemo.sqllog;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlStatementLogTest {
+
+    @Test
+    void literalsAndInListsNormalizeToOneShape() {
+        assertThat(SqlStatementLog.normalize("select * from employees e1_0 where e1_0.role in ('ADMIN', 'USER') limit 10"))
+                .isEqualTo("select * from employees e1_0 where e1_0.role in (?...) limit ?");
+        assertThat(SqlStatementLog.normalize("SELECT  id\n FROM t WHERE name = 'O''Brien' AND id IN (?, ?, ?)"))
+                .isEqualTo("SELECT id FROM t WHERE name = ? AND id IN (?...)");
+    }
+
+    @Test
+    void shapeTagIsShortHashAndShapesAreBoundedAfterNormalization() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        try (SqlStatementLog log = new SqlStatementLog(registry, 256, 100, 16, 2)) {
+            SqlStatementLog.Shape first = log.shape("select * from employees where id = 1");
+            assertThat(log.shape("select * from employees where id = 2")).isSameAs(first);
+            assertThat(first.id).matches("[0-9a-f]{8}");
+
+            SqlStatementLog.Shape second = log.shape("delete from employees where id = 3");
+            assertThat(second).isNotSameAs(first);
+            assertThat(log.shape("update employees set role = 'ADMIN'").id).isEqualTo("other");
+            assertThat(registry.find("sql.statement").tag("shape", first.id).functionTimer()).isNotNull();
+        }
+    }
+}
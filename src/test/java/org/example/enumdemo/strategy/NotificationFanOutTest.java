@@ -0,0 +1,47 @@
+package org.example.enumdemo.strategy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NotificationFanOutTest {
+
+    @Test
+    void sendsDeduplicatedBatchesPerChannelCode() {
+        List<String> pushed = new ArrayList<>();
+        EnumMap<NotificationType, ChannelTransport> transports = new EnumMap<>(NotificationType.class);
+        transports.put(NotificationType.EMAIL, (payload, recipients) -> { });
+        transports.put(NotificationType.PUSH, (payload, recipients) -> pushed.add(payload + ":" + recipients.size()));
+        NotificationFanOut fanOut = new NotificationFanOut(transports, 2);
+
+        Map<String, Integer> sent = fanOut.send("hi", List.of("a", "b", "a", "c"),
+                NotificationChannels.EMAIL, NotificationChannels.PUSH);
+
+        assertThat(sent).containsExactly(Map.entry("EMAIL", 3), Map.entry("PUSH", 3));
+        assertThat(pushed).containsExactly("hi:2", "hi:1");
+    }
+
+    @Test
+    void rejectsUnknownChannelCode() {
+        assertThatThrownBy(() -> new NotificationFanOut(10).send("hi", List.of("a"), 99))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void truncationDoesNotSplitSurrogatePairs() {
+        // обрізка по char (substring(0, 99)) залишила б половину першого емодзі
+        String message = "a".repeat(98) + "😀😀" + "tail";
+
+        String rendered = NotificationType.PUSH.render(message);
+
+        assertThat(rendered).isEqualTo("a".repeat(98) + "😀…");
+        assertThat(rendered.codePointCount(0, rendered.length())).isEqualTo(100);
+        assertThat(NotificationType.SMS.render("😀".repeat(160))).isEqualTo("😀".repeat(160));
+    }
+}
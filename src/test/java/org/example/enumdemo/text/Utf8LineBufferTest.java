@@ -0,0 +1,47 @@
+package org.example.enumdemo.text;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Utf8LineBufferTest {
+
+    @Test
+    void numbersMatchLongToString() {
+        Utf8LineBuffer buffer = new Utf8LineBuffer(4);
+        for (long value : new long[]{0, 7, -7, 10, 999_999_999_999L, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            assertThat(buffer.reset().append(value).toString()).isEqualTo(Long.toString(value));
+        }
+    }
+
+    @Test
+    void textIsEncodedAsUtf8() throws IOException {
+        String text = "id=1 статус ✓ 🚀 é";
+        Utf8LineBuffer buffer = new Utf8LineBuffer(2).append(text).append('\n');
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        buffer.writeTo(out);
+
+        assertThat(out.toByteArray()).isEqualTo((text + "\n").getBytes(StandardCharsets.UTF_8));
+        assertThat(buffer.length()).isEqualTo(out.size());
+    }
+
+    @Test
+    void enumsAreWrittenFromPreEncodedBytes() {
+        EnumEncodings<TimeUnit> lower = EnumEncodings.of(TimeUnit.class, unit -> unit.name().toLowerCase());
+
+        String line = new Utf8LineBuffer()
+                .appendName(TimeUnit.SECONDS).append(',')
+                .appendDisplay(TimeUnit.DAYS).append(',')
+                .append(lower.display(TimeUnit.HOURS))
+                .toString();
+
+        assertThat(line).isEqualTo("SECONDS,DAYS,hours");
+        assertThat(EnumEncodings.of(TimeUnit.class)).isSameAs(EnumEncodings.of(TimeUnit.class));
+    }
+}
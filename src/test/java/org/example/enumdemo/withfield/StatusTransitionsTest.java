@@ -0,0 +1,59 @@
+package org.example.enumdemo.withfield;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StatusTransitionsTest {
+
+    @Test
+    void standardMatrixAllowsOnlyConfiguredTransitions() {
+        StatusTransitions transitions = StatusTransitions.standard();
+
+        assertThat(transitions.canTransition(Status.NEW, Status.IN_PROGRESS)).isTrue();
+        assertThat(transitions.canTransition(Status.NEW, Status.DONE)).isFalse();
+        assertThat(transitions.targets(Status.IN_PROGRESS)).containsExactlyInAnyOrder(Status.NEW, Status.DONE);
+        assertThat(transitions.isAllowed(new TaskTransition(1, 0, Status.DONE, Status.NEW))).isFalse();
+    }
+
+    @Test
+    void guardsOnTheSameTransitionAreCombinedWithAnd() {
+        StatusTransitions transitions = StatusTransitions.builder()
+                .allow(Status.IN_PROGRESS, Status.DONE)
+                .guard(Status.IN_PROGRESS, Status.DONE, t -> t.taskId() > 10)
+                .guard(Status.IN_PROGRESS, Status.DONE, t -> t.taskId() % 2 == 0)
+                .build();
+
+        assertThat(transitions.isAllowed(new TaskTransition(12, 0, Status.IN_PROGRESS, Status.DONE))).isTrue();
+        assertThat(transitions.isAllowed(new TaskTransition(13, 0, Status.IN_PROGRESS, Status.DONE))).isFalse();
+        assertThat(transitions.isAllowed(new TaskTransition(4, 0, Status.IN_PROGRESS, Status.DONE))).isFalse();
+    }
+
+    @Test
+    void actionsOnTheSameTransitionRunInRegistrationOrder() {
+        List<String> calls = new ArrayList<>();
+        StatusTransitions transitions = StatusTransitions.builder()
+                .allow(Status.NEW, Status.IN_PROGRESS)
+                .action(Status.NEW, Status.IN_PROGRESS, t -> calls.add("first"))
+                .action(Status.NEW, Status.IN_PROGRESS, t -> calls.add("second"))
+                .build();
+
+        transitions.runAction(new TaskTransition(1, 0, Status.NEW, Status.IN_PROGRESS));
+        transitions.runAction(new TaskTransition(1, 0, Status.IN_PROGRESS, Status.DONE));
+
+        assertThat(calls).containsExactly("first", "second");
+    }
+
+    @Test
+    void guardOrActionOnForbiddenTransitionIsConfigurationError() {
+        assertThatThrownBy(() -> StatusTransitions.builder().guard(Status.NEW, Status.DONE, t -> true))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("NEW -> DONE");
+        assertThatThrownBy(() -> StatusTransitions.builder().action(Status.DONE, Status.NEW, t -> { }))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.enumdemo.withfield;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StatusWorkQueueTest {
+
+    @Test
+    void processedItemMovesToNextStatus() {
+        StatusWorkQueue<String> queue = new StatusWorkQueue<>(StatusTransitions.standard());
+        queue.offer(Status.NEW, "a");
+
+        assertThat(queue.processOne(Status.NEW, (status, item) -> { })).isTrue();
+
+        assertThat(queue.isEmpty(Status.NEW)).isTrue();
+        assertThat(queue.poll(Status.IN_PROGRESS)).isEqualTo("a");
+    }
+
+    @Test
+    void failedItemReturnsToItsOwnPartition() {
+        StatusWorkQueue<String> queue = new StatusWorkQueue<>(StatusTransitions.standard());
+        queue.offer(Status.IN_PROGRESS, "a");
+
+        // споживач з домашнім NEW краде з IN_PROGRESS; помилка не має загубити елемент
+        assertThatThrownBy(() -> queue.processOne(Status.NEW, (status, item) -> {
+            throw new IllegalStateException("boom");
+        })).hasMessage("boom");
+
+        assertThat(queue.isEmpty(Status.DONE)).isTrue();
+        List<String> drained = new ArrayList<>();
+        queue.drain(Status.IN_PROGRESS, drained::add);
+        assertThat(drained).containsExactly("a");
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.enumdemo.withfield;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskTransitionServiceTest {
+
+    @Test
+    void transitionsAreClassifiedAsAppliedConflictOrRejected() {
+        TaskTransition started = new TaskTransition(1, 3, Status.NEW, Status.IN_PROGRESS);
+        TaskTransition stale = new TaskTransition(2, 1, Status.IN_PROGRESS, Status.DONE);
+        TaskTransition skipped = new TaskTransition(3, 0, Status.NEW, Status.DONE);
+        TaskTransition guarded = new TaskTransition(4, 0, Status.DONE, Status.IN_PROGRESS);
+        List<TaskTransition> actions = new ArrayList<>();
+        StatusTransitions transitions = StatusTransitions.builder()
+                .allow(Status.NEW, Status.IN_PROGRESS)
+                .allow(Status.IN_PROGRESS, Status.DONE)
+                .allow(Status.DONE, Status.IN_PROGRESS)
+                .guard(Status.DONE, Status.IN_PROGRESS, t -> false)
+                .action(Status.NEW, Status.IN_PROGRESS, actions::add)
+                .action(Status.IN_PROGRESS, Status.DONE, actions::add)
+                .build();
+        StubJdbcTemplate jdbc = new StubJdbcTemplate(1, 0);
+
+        TaskTransitionService.BatchResult result = new TaskTransitionService(jdbc, transitions)
+                .apply(List.of(started, stale, skipped, guarded));
+
+        assertThat(result.applied()).containsExactly(started);
+        assertThat(result.conflicts()).containsExactly(stale);
+        assertThat(result.rejected()).containsExactly(skipped, guarded);
+        // лише валідні переходи йдуть у batch, з name() статусів і версією для оптимістичного UPDATE
+        assertThat(jdbc.batch).hasSize(2);
+        assertThat(jdbc.batch.get(0)).containsExactly("IN_PROGRESS", 1L, 3L, "NEW");
+        // без активної транзакції action-и виконуються одразу і лише для застосованих
+        assertThat(actions).containsExactly(started);
+    }
+
+    @Test
+    void allRejectedBatchDoesNotTouchTheDatabase() {
+        StubJdbcTemplate jdbc = new StubJdbcTemplate();
+
+        TaskTransitionService.BatchResult result = new TaskTransitionService(jdbc, StatusTransitions.standard())
+                .apply(List.of(new TaskTransition(1, 0, Status.NEW, Status.DONE)));
+
+        assertThat(result.rejected()).hasSize(1);
+        assertThat(jdbc.batch).isNull();
+    }
+
+    @Test
+    void publicTransitionIsBuiltFromStatusNamesOrCodes() {
+        TaskTransition byName = TaskTransition.of(1, 3, "NEW", "IN_PROGRESS");
+
+        assertThat(byName).isEqualTo(new TaskTransition(1, 3,
+                Status.NEW.ordinal(), Status.IN_PROGRESS.ordinal()));
+        assertThat(byName.from()).isEqualTo(Status.NEW);
+        assertThatThrownBy(() -> TaskTransition.of(1, 3, "NEW", "LOST"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TaskTransition(1, 3, 0, StatusCodes.count()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static final class StubJdbcTemplate extends JdbcTemplate {
+        private final int[] counts;
+        private List<Object[]> batch;
+
+        StubJdbcTemplate(int... counts) {
+            this.counts = counts;
+        }
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            batch = batchArgs;
+            return counts;
+        }
+    }
+}
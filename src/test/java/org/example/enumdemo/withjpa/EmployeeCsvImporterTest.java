@@ -0,0 +1,146 @@
+package org.example.enumdemo.withjpa;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmployeeCsvImporterTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void readsColumnsInHeaderOrderWithCrlfAndQuotedFields() throws IOException {
+        Path csv = write("\"status\",role,id,\"employment_type\"\r\n"
+                + "DONE,ADMIN,1,FULL_TIME\r\n"
+                + "\"NEW\",\"DRIVER\",\"2\",\"CONTRACTOR\"\r\n"
+                + "\r\n");
+
+        EmployeeColumns columns = new EmployeeCsvImporter(1).importFile(csv);
+
+        assertThat(columns.size()).isEqualTo(2);
+        assertThat(columns.id(0)).isEqualTo(1);
+        assertThat(columns.role(0)).isEqualTo(Role.ADMIN);
+        assertThat(columns.employmentType(0)).isEqualTo(EmploymentType.FULL_TIME);
+        assertThat(columns.id(1)).isEqualTo(2);
+        assertThat(columns.role(1)).isEqualTo(Role.DRIVER);
+        assertThat(columns.employmentType(1)).isEqualTo(EmploymentType.CONTRACTOR);
+    }
+
+    @Test
+    void statusIsOptionalAndLastLineNeedsNoNewline() throws IOException {
+        Path csv = write("id,role,employment_type\n7,USER,PART_TIME");
+
+        EmployeeColumns columns = new EmployeeCsvImporter(1).importFile(csv);
+
+        assertThat(columns.size()).isEqualTo(1);
+        assertThat(columns.id(0)).isEqualTo(7);
+        assertThat(columns.statusCode(0)).isEqualTo(-1);
+    }
+
+    @Test
+    void rowsAcrossPartBoundariesAreReadOnceAndInFileOrder() throws IOException {
+        StringBuilder content = new StringBuilder("id,role,employment_type,status\n");
+        Role[] roles = Role.values();
+        EmploymentType[] types = EmploymentType.values();
+        int rows = 1_001;
+        for (int i = 0; i < rows; i++) {
+            // різна довжина рядків → рівні шматки файлу припадають на середину рядка
+            content.append(i * 37L).append(',').append(roles[i % roles.length]).append(',')
+                    .append(types[i % types.length]).append(i % 2 == 0 ? ",NEW\r\n" : ",IN_PROGRESS\n");
+        }
+        Path csv = write(content.toString());
+
+        EmployeeColumns columns = new EmployeeCsvImporter(7).importFile(csv);
+
+        assertThat(columns.size()).isEqualTo(rows);
+        for (int i = 0; i < rows; i++) {
+            assertThat(columns.id(i)).isEqualTo(i * 37L);
+            assertThat(columns.role(i)).isEqualTo(roles[i % roles.length]);
+            assertThat(columns.employmentType(i)).isEqualTo(types[i % types.length]);
+        }
+    }
+
+    @Test
+    void rejectsHeaderWithoutRequiredColumns() throws IOException {
+        Path csv = write("id,role\n1,ADMIN\n");
+
+        assertThatThrownBy(() -> new EmployeeCsvImporter(1).importFile(csv))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("header");
+    }
+
+    @Test
+    void rejectsRowWithoutIdColumn() throws IOException {
+        Path csv = write("role,employment_type,id\nADMIN,FULL_TIME\n");
+
+        assertThatThrownBy(() -> new EmployeeCsvImporter(1).importFile(csv))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Missing id");
+    }
+
+    @Test
+    void rejectsRowWithoutEmploymentType() throws IOException {
+        Path csv = write("id,role,employment_type\n1,ADMIN\n");
+
+        assertThatThrownBy(() -> new EmployeeCsvImporter(1).importFile(csv))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("employment_type");
+    }
+
+    @Test
+    void rejectsEmptyId() throws IOException {
+        assertThatThrownBy(() -> new EmployeeCsvImporter(1).importFile(write("id,role,employment_type\n\"\",ADMIN,FULL_TIME\n")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Empty id");
+        assertThatThrownBy(() -> new EmployeeCsvImporter(1).importFile(write("id,role,employment_type\n,ADMIN,FULL_TIME\n")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Empty id");
+    }
+
+    @Test
+    void rejectsNonNumericId() throws IOException {
+        Path csv = write("id,role,employment_type\n-5,ADMIN,FULL_TIME\n");
+
+        assertThatThrownBy(() -> new EmployeeCsvImporter(1).importFile(csv))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid id");
+    }
+
+    @Test
+    void rejectsIdThatOverflowsLong() throws IOException {
+        Path ok = write("id,role,employment_type\n9223372036854775807,ADMIN,FULL_TIME\n");
+        assertThat(new EmployeeCsvImporter(1).importFile(ok).id(0)).isEqualTo(Long.MAX_VALUE);
+
+        Path csv = write("id,role,employment_type\n99999999999999999999,ADMIN,FULL_TIME\n");
+        assertThatThrownBy(() -> new EmployeeCsvImporter(1).importFile(csv))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Id out of range");
+    }
+
+    @Test
+    void rejectsUnknownEnumValues() throws IOException {
+        assertThatThrownBy(() -> new EmployeeCsvImporter(1).importFile(write("id,role,employment_type\n1,BOSS,FULL_TIME\n")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown role");
+        assertThatThrownBy(() -> new EmployeeCsvImporter(1).importFile(write("id,role,employment_type\n1,ADMIN,INTERN\n")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown employment_type");
+        assertThatThrownBy(() -> new EmployeeCsvImporter(1).importFile(write("id,role,employment_type,status\n1,ADMIN,FULL_TIME,LOST\n")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown status");
+    }
+
+    private Path write(String content) throws IOException {
+        Path csv = dir.resolve("employees.csv");
+        Files.writeString(csv, content, StandardCharsets.UTF_8);
+        return csv;
+    }
+}
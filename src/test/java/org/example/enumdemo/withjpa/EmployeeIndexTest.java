@@ -0,0 +1,63 @@
+package org.example.enumdemo.withjpa;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeIndexTest {
+
+    @Test
+    void idsArePartitionedByRoleAndEmploymentType() {
+        EmployeeIndex index = new EmployeeIndex();
+        index.add(1, Role.DRIVER, EmploymentType.CONTRACTOR);
+        index.add(2, Role.DRIVER, EmploymentType.FULL_TIME);
+        index.add(3, Role.ADMIN, EmploymentType.CONTRACTOR);
+        index.add(new Employee(4L, Role.DRIVER, EmploymentType.CONTRACTOR));
+
+        assertThat(index.ids(Role.DRIVER, EmploymentType.CONTRACTOR)).containsExactlyInAnyOrder(1L, 4L);
+        assertThat(index.ids(Role.DRIVER)).containsExactlyInAnyOrder(1L, 2L, 4L);
+        assertThat(index.count(Role.ADMIN, EmploymentType.CONTRACTOR)).isEqualTo(1);
+        assertThat(index.ids(Role.USER, EmploymentType.PART_TIME)).isEmpty();
+    }
+
+    @Test
+    void bucketsGrowBeyondInitialCapacity() {
+        EmployeeIndex index = new EmployeeIndex();
+        for (long id = 1; id <= 1_000; id++) {
+            index.add(id, Role.USER, EmploymentType.PART_TIME);
+        }
+
+        assertThat(index.count(Role.USER, EmploymentType.PART_TIME)).isEqualTo(1_000);
+        assertThat(index.ids(Role.USER, EmploymentType.PART_TIME)).hasSize(1_000).contains(1L, 500L, 1_000L);
+    }
+
+    @Test
+    void removeDropsOnlyTheGivenId() {
+        EmployeeIndex index = new EmployeeIndex();
+        index.add(1, Role.USER, EmploymentType.PART_TIME);
+        index.add(2, Role.USER, EmploymentType.PART_TIME);
+
+        assertThat(index.remove(1, Role.USER, EmploymentType.PART_TIME)).isTrue();
+        assertThat(index.remove(1, Role.USER, EmploymentType.PART_TIME)).isFalse();
+        assertThat(index.remove(2, Role.ADMIN, EmploymentType.PART_TIME)).isFalse();
+        assertThat(index.ids(Role.USER, EmploymentType.PART_TIME)).containsExactly(2L);
+    }
+
+    @Test
+    void updateMovesIdBetweenBuckets() {
+        EmployeeIndex index = new EmployeeIndex();
+        index.add(7, Role.USER, EmploymentType.PART_TIME);
+
+        assertThat(index.update(7, Role.USER, EmploymentType.PART_TIME, Role.ADMIN, EmploymentType.FULL_TIME)).isTrue();
+        assertThat(index.ids(Role.USER, EmploymentType.PART_TIME)).isEmpty();
+        assertThat(index.ids(Role.ADMIN, EmploymentType.FULL_TIME)).containsExactly(7L);
+    }
+
+    @Test
+    void updateOfMissingIdChangesNothing() {
+        EmployeeIndex index = new EmployeeIndex();
+
+        assertThat(index.update(7, Role.USER, EmploymentType.PART_TIME, Role.ADMIN, EmploymentType.FULL_TIME)).isFalse();
+        assertThat(index.ids(Role.ADMIN, EmploymentType.FULL_TIME)).isEmpty();
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.enumdemo.withjpa;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LiveEmployeeIndexTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final EmptyTableJdbcTemplate jdbc = new EmptyTableJdbcTemplate();
+    private final LiveEmployeeIndex live = new LiveEmployeeIndex(jdbc);
+
+    @Test
+    void changesMoveIdsBetweenBuckets() {
+        live.bindTo(registry);
+        live.onChanges(List.of(
+                new EmployeeChangedEvent(1, null, null, Role.DRIVER, EmploymentType.CONTRACTOR),
+                new EmployeeChangedEvent(2, null, null, Role.DRIVER, EmploymentType.CONTRACTOR),
+                new EmployeeChangedEvent(1, Role.DRIVER, EmploymentType.CONTRACTOR, Role.ADMIN, EmploymentType.FULL_TIME),
+                new EmployeeChangedEvent(2, Role.DRIVER, EmploymentType.CONTRACTOR, null, null)));
+
+        assertThat(live.ids(Role.DRIVER, EmploymentType.CONTRACTOR)).isEmpty();
+        assertThat(live.ids(Role.ADMIN, EmploymentType.FULL_TIME)).containsExactly(1L);
+        assertThat(registry.get("enumdemo.employee.live.count")
+                .tag("role", "ADMIN").tag("employment_type", "FULL_TIME").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void replayedBatchIsIdempotent() {
+        List<EmployeeChangedEvent> batch = List.of(
+                new EmployeeChangedEvent(1, null, null, Role.USER, EmploymentType.PART_TIME),
+                new EmployeeChangedEvent(1, Role.USER, EmploymentType.PART_TIME, Role.DRIVER, EmploymentType.PART_TIME));
+
+        live.onChanges(batch);
+        live.onChanges(batch);
+
+        assertThat(live.count(Role.USER, EmploymentType.PART_TIME)).isZero();
+        assertThat(live.ids(Role.DRIVER, EmploymentType.PART_TIME)).containsExactly(1L);
+    }
+
+    @Test
+    void eventsOlderThanSnapshotConvergeToLatestState() {
+        // знімок уже бачить id 1 як ADMIN / FULL_TIME; слот ще віддає дві попередні зміни
+        live.onChanges(List.of(new EmployeeChangedEvent(1, null, null, Role.ADMIN, EmploymentType.FULL_TIME)));
+
+        live.onChanges(List.of(
+                new EmployeeChangedEvent(1, Role.USER, EmploymentType.PART_TIME, Role.DRIVER, EmploymentType.PART_TIME),
+                new EmployeeChangedEvent(1, Role.DRIVER, EmploymentType.PART_TIME, Role.ADMIN, EmploymentType.FULL_TIME)));
+
+        assertThat(live.ids(Role.ADMIN, EmploymentType.FULL_TIME)).containsExactly(1L);
+        assertThat(live.count(Role.DRIVER, EmploymentType.PART_TIME)).isZero();
+    }
+
+    @Test
+    void updateWithoutOldValuesMovesIdFromItsCurrentBucket() {
+        // без REPLICA IDENTITY FULL в UPDATE немає старих role / employment_type
+        live.onChanges(List.of(
+                new EmployeeChangedEvent(1, null, null, Role.USER, EmploymentType.PART_TIME),
+                new EmployeeChangedEvent(1, null, null, Role.ADMIN, EmploymentType.PART_TIME)));
+
+        assertThat(live.count(Role.USER, EmploymentType.PART_TIME)).isZero();
+        assertThat(live.ids(Role.ADMIN, EmploymentType.PART_TIME)).containsExactly(1L);
+    }
+
+    @Test
+    void truncateReloadsTheTable() {
+        live.onChanges(List.of(new EmployeeChangedEvent(1, null, null, Role.USER, EmploymentType.PART_TIME)));
+
+        live.onTruncate();
+        live.onChanges(List.of(new EmployeeChangedEvent(2, null, null, Role.USER, EmploymentType.PART_TIME)));
+
+        assertThat(jdbc.queries).isEqualTo(1);
+        assertThat(live.ids(Role.USER, EmploymentType.PART_TIME)).containsExactly(2L);
+    }
+
+    private static final class EmptyTableJdbcTemplate extends JdbcTemplate {
+        private int queries;
+
+        @Override
+        public void query(String sql, RowCallbackHandler rch) {
+            queries++;
+        }
+    }
+}
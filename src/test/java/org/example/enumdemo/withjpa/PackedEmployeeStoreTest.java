@@ -0,0 +1,61 @@
+package org.example.enumdemo.withjpa;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PackedEmployeeStoreTest {
+
+    @Test
+    void packedFieldsRoundTrip() {
+        PackedEmployeeStore store = new PackedEmployeeStore(1);
+        long maxId = PackedEmployeeStore.ID_MASK;
+        for (Role role : Role.values()) {
+            for (EmploymentType type : EmploymentType.values()) {
+                int index = store.add(maxId - store.size(), role, type);
+
+                assertThat(store.id(index)).isEqualTo(maxId - index);
+                assertThat(store.role(index)).isEqualTo(role);
+                assertThat(store.employmentType(index)).isEqualTo(type);
+            }
+        }
+        assertThat(store.size()).isEqualTo(Role.values().length * EmploymentType.values().length);
+    }
+
+    @Test
+    void filtersAndCountsMatchTheStoredCombinations() {
+        PackedEmployeeStore store = new PackedEmployeeStore();
+        store.add(1, Role.DRIVER, EmploymentType.CONTRACTOR);
+        store.add(2, Role.DRIVER, EmploymentType.FULL_TIME);
+        store.add(new Employee(3L, Role.DRIVER, EmploymentType.CONTRACTOR));
+        store.set(1, Role.ADMIN, EmploymentType.FULL_TIME);
+
+        assertThat(store.ids(Role.DRIVER, EmploymentType.CONTRACTOR)).containsExactly(1, 3);
+        assertThat(store.count(Role.ADMIN, EmploymentType.FULL_TIME)).isEqualTo(1);
+        assertThat(store.countAll().get(Role.DRIVER).get(EmploymentType.CONTRACTOR)).isEqualTo(2);
+        assertThat(store.countAll().get(Role.USER).get(EmploymentType.PART_TIME)).isZero();
+        assertThat(store.toEmployee(1).getId()).isEqualTo(2L);
+
+        List<Long> visited = new ArrayList<>();
+        store.forEach((id, role, type) -> visited.add(id));
+        assertThat(visited).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void invalidInputIsRejected() {
+        PackedEmployeeStore store = new PackedEmployeeStore();
+
+        assertThatThrownBy(() -> store.add(new Employee(Role.USER, EmploymentType.PART_TIME)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("without id");
+        assertThatThrownBy(() -> store.add(-1, Role.USER, EmploymentType.PART_TIME))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> store.add(PackedEmployeeStore.ID_MASK + 1, Role.USER, EmploymentType.PART_TIME))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> store.id(0)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
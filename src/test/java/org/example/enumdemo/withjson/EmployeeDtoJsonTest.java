@@ -0,0 +1,49 @@
+package org.example.enumdemo.withjson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmployeeDtoJsonTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @AfterEach
+    void resetLocale() {
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    @Test
+    void localizedJsonRoundTripsInEveryPreloadedLanguage() throws Exception {
+        for (String tag : new String[]{"en", "uk", "de"}) {
+            LocaleContextHolder.setLocale(Locale.forLanguageTag(tag));
+            for (EmploymentType type : EmploymentType.values()) {
+                String json = mapper.writeValueAsString(new EmployeeDto("Nazar", Role.DRIVER, type));
+
+                EmployeeDto back = mapper.readValue(json, EmployeeDto.class);
+
+                assertThat(back.getEmploymentType()).as(tag + " " + json).isEqualTo(type);
+                assertThat(back.getRole()).isEqualTo(Role.DRIVER);
+            }
+        }
+    }
+
+    @Test
+    void serializationUsesTheLocaleOfTheRequest() throws Exception {
+        LocaleContextHolder.setLocale(Locale.GERMAN);
+
+        assertThat(mapper.writeValueAsString(new EmployeeDto("Nazar", Role.USER, EmploymentType.FULL_TIME)))
+                .contains("\"employmentType\":\"Vollzeit\"");
+    }
+
+    @Test
+    void unknownValueIsRejected() {
+        assertThatThrownBy(() -> EmploymentType.fromJson("Freelancer")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.enumdemo.withmethods;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.enumdemo.strategy.StrategyMetrics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TripPricingTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final TripPricing pricing = new TripPricing(new StrategyMetrics(registry),
+            new StaticListableBeanFactory().getBeanProvider(TripPriceCache.class));
+
+    @Test
+    void appliesTariffAndDiscountAndCountsTheDiscountType() {
+        // BUS: 2.5 × 1.0 за км, SEASONAL: 10%
+        assertThat(pricing.price("BUS", 10_000, "SEASONAL")).isEqualTo(22.5);
+        assertThat(pricing.price("BUS", 10_000, "NONE")).isEqualTo(25.0);
+
+        assertThat(registry.get("enumdemo.discount.count").tag("discount_type", "SEASONAL").functionCounter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.get("enumdemo.discount.count").tag("discount_type", "NONE").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void cachedPricingComputesOnlyOnMissAndExposesHitRatio() {
+        SimpleMeterRegistry cacheRegistry = new SimpleMeterRegistry();
+        TripPriceCache cache = new TripPriceCacheConfig().tripPriceCache(1_024, cacheRegistry);
+        TripPricing cached = new TripPricing(new StrategyMetrics(cacheRegistry),
+                new StaticListableBeanFactory(Map.of("tripPriceCache", cache)).getBeanProvider(TripPriceCache.class));
+
+        assertThat(cached.price("TAXI", 2_000, "LOYALTY")).isEqualTo(28.5);
+        assertThat(cached.price("TAXI", 2_000, "LOYALTY")).isEqualTo(28.5);
+
+        assertThat(cache.hits()).isEqualTo(1);
+        assertThat(cache.misses()).isEqualTo(1);
+        assertThat(cacheRegistry.get("enumdemo.discount.count").tag("discount_type", "LOYALTY").functionCounter().count())
+                .isEqualTo(1.0);
+        assertThat(cacheRegistry.get("enumdemo.trip.price.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    void rejectsUnknownNamesAndNegativeDistance() {
+        assertThatThrownBy(() -> pricing.price("PLANE", 1_000, "NONE")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> pricing.price("BUS", 1_000, "BLACK_FRIDAY")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> pricing.price("BUS", -1, "NONE")).isInstanceOf(IllegalArgumentException.class);
+    }
+}